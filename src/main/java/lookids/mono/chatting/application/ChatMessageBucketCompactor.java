@@ -0,0 +1,75 @@
+package lookids.mono.chatting.application;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lookids.mono.chatting.infrastructure.ChatMessageRepositoryCustom;
+
+/**
+ * 채팅 메세지 bucket 이전 작업 (chat_message -> chat_message_bucket)
+ * compact-after 보다 오래된 메세지를 채팅방별로 가장 오래된 것부터 bucket-size 개씩 묶어 옮긴다.
+ * bucket 을 채우지 못한 나머지는 다음 실행까지 chat_message 에 남으므로 bucket 은 모두 같은 개수다.
+ * bucket id 가 첫 메세지 id 라서 여러 노드가 동시에 실행하거나 중간에 멈춰도 같은 bucket 이 두 번 생기지 않는다.
+ * 기존 데이터 이전도 같은 작업이 채팅방 단위로 나눠 진행한다.
+ * 실행마다 지난번 마지막 채팅방 다음부터 roomId 순으로 rooms-per-run 개 채팅방을 보고, 끝까지 가면 처음부터 다시 돈다.
+ * 채팅방은 (roomId, _id) 인덱스에서 roomId 를 하나씩 건너뛰며 찾으므로 실행마다 컬렉션 전체를 읽지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageBucketCompactor {
+
+	private final ChatMessageRepositoryCustom chatMessageRepositoryCustom;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${chatting.bucket.enabled:false}")
+	private boolean enabled;
+
+	@Value("${chatting.bucket.size:200}")
+	private int bucketSize;
+
+	@Value("${chatting.bucket.compact-after:7d}")
+	private Duration compactAfter;
+
+	@Value("${chatting.bucket.rooms-per-run:100}")
+	private int roomsPerRun;
+
+	@Value("${chatting.bucket.buckets-per-room:10}")
+	private int bucketsPerRoom;
+
+	// 다음 실행을 시작할 위치 (이 노드의 스케줄러 스레드만 사용)
+	private String lastRoomId;
+
+	@Scheduled(fixedDelayString = "${chatting.bucket.compact-interval-ms:600000}")
+	public void compact() {
+		if (!enabled) {
+			return;
+		}
+		// 이전 기준은 _id 의 생성 시각, 채팅방마다 (roomId, _id) 인덱스 범위로 bucket 하나를 채우는지 먼저 셈
+		ObjectId before = new ObjectId(new Date(System.currentTimeMillis() - compactAfter.toMillis()));
+		List<String> roomIdList = chatMessageRepositoryCustom.findRoomIdList(lastRoomId, roomsPerRun);
+		lastRoomId = roomIdList.size() < roomsPerRun ? null : roomIdList.get(roomIdList.size() - 1);
+		int moved = 0;
+		for (String roomId : roomIdList) {
+			try {
+				moved += chatMessageRepositoryCustom.compactRoom(roomId, before, bucketSize, bucketsPerRoom);
+			} catch (Exception e) {
+				log.warn("Failed to compact chat messages of room {}: {}", roomId, e.getMessage());
+				meterRegistry.counter("chatting.bucket.compact.failures").increment();
+			}
+		}
+		if (moved > 0) {
+			meterRegistry.counter("chatting.bucket.compacted").increment(moved);
+			log.info("Compacted {} chat messages of {} rooms into buckets", moved, roomIdList.size());
+		}
+	}
+}
@@ -0,0 +1,137 @@
+package lookids.mono.chatting.application;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 채팅방 접속 상태 (Redis TTL 키, 채팅방 메세지 스트림 구독이 heartbeat 로 갱신)
+ * 키는 사용자 단위 hash tag 로 나눠 cluster 에서도 한 사용자의 키가 한 shard 에 모인다.
+ * 클라이언트가 비정상 종료되면 스트림이 끊기거나 heartbeat 가 멈춰 ttl 안에 오프라인이 된다.
+ * 노드별로 (사용자, 채팅방) 연결 수를 세서 마지막 연결이 끊길 때만 키를 지운다.
+ * 다른 노드에 남은 연결은 다음 heartbeat 에 다시 온라인이 된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatPresenceService {
+
+	private static final String PRESENCE_KEY = "chat:presence:";
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${chatting.presence.ttl:90s}")
+	private Duration ttl;
+
+	@Value("${chatting.presence.heartbeat:30s}")
+	private Duration heartbeat;
+
+	private final Map<String, AtomicInteger> connectionMap = new ConcurrentHashMap<>();
+
+	@PostConstruct
+	void init() {
+		Gauge.builder("chatting.presence.connections", connectionMap, Map::size).register(meterRegistry);
+	}
+
+	// 스트림이 살아 있는 동안 사용자를 채팅방에 온라인으로 유지
+	public <T> Flux<T> track(String roomId, String userId, Flux<T> flux) {
+		return Flux.defer(() -> {
+			String key = keyOf(roomId, userId);
+			connectionMap.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+			touch(roomId, userId);
+			Disposable heartbeatTask = Flux.interval(heartbeat, heartbeat, Schedulers.boundedElastic())
+				.subscribe(tick -> touch(roomId, userId));
+			return flux.doFinally(signalType -> {
+				heartbeatTask.dispose();
+				disconnect(roomId, userId);
+			});
+		});
+	}
+
+	// 입장 api 처럼 스트림 밖에서 온라인으로 표시 (ttl 이 지나면 스트림 heartbeat 가 없을 때 오프라인)
+	public void touch(String roomId, String userId) {
+		try {
+			stringRedisTemplate.opsForValue().set(keyOf(roomId, userId), "1", ttl);
+		} catch (Exception e) {
+			log.warn("Failed to refresh chat presence of {} in {}: {}", userId, roomId, e.getMessage());
+		}
+	}
+
+	// 퇴장 api: 이 노드에 남은 연결이 없으면 바로 오프라인
+	public void leave(String roomId, String userId) {
+		if (!connectionMap.containsKey(keyOf(roomId, userId))) {
+			delete(roomId, userId);
+		}
+	}
+
+	// 채팅방 참여자 중 온라인인 사용자, 사용자마다 키 하나를 MGET 한 번으로 조회
+	// 조회 실패 시 모두 오프라인으로 보고 푸시를 보내는 쪽을 택함
+	public Set<String> onlineUserIdSet(String roomId, Collection<String> userIdList) {
+		Set<String> onlineUserIdSet = new HashSet<>();
+		if (userIdList.isEmpty()) {
+			return onlineUserIdSet;
+		}
+		List<String> userIds = List.copyOf(userIdList);
+		try {
+			List<String> valueList = stringRedisTemplate.opsForValue()
+				.multiGet(userIds.stream().map(userId -> keyOf(roomId, userId)).toList());
+			if (valueList != null) {
+				for (int i = 0; i < userIds.size(); i++) {
+					if (valueList.get(i) != null) {
+						onlineUserIdSet.add(userIds.get(i));
+					}
+				}
+			}
+		} catch (Exception e) {
+			log.warn("Failed to read chat presence of room {}: {}", roomId, e.getMessage());
+			meterRegistry.counter("chatting.presence.lookup.failures").increment();
+		}
+		return onlineUserIdSet;
+	}
+
+	private void disconnect(String roomId, String userId) {
+		String key = keyOf(roomId, userId);
+		AtomicInteger[] last = new AtomicInteger[1];
+		connectionMap.computeIfPresent(key, (k, count) -> {
+			if (count.decrementAndGet() > 0) {
+				return count;
+			}
+			last[0] = count;
+			return null;
+		});
+		if (last[0] != null) {
+			delete(roomId, userId);
+		}
+	}
+
+	private void delete(String roomId, String userId) {
+		try {
+			stringRedisTemplate.delete(keyOf(roomId, userId));
+		} catch (Exception e) {
+			log.warn("Failed to clear chat presence of {} in {}: {}", userId, roomId, e.getMessage());
+		}
+	}
+
+	private static String keyOf(String roomId, String userId) {
+		return PRESENCE_KEY + "{" + userId + "}:" + roomId;
+	}
+}
@@ -0,0 +1,77 @@
+package lookids.mono.chatting.application;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lookids.mono.chatting.dto.in.ChatRoomDeleteKafkaDto;
+import lookids.mono.chatting.infrastructure.ChatRoomRepositoryCustom;
+
+/**
+ * 채팅방 참여자 id 캐시 (roomId -> userId 목록, 없는 채팅방이면 빈 목록)
+ * 참여자는 채팅방 생성 후 바뀌지 않으므로 메세지 전송 때 채팅방 문서를 읽지 않도록 캐시한다.
+ * 채팅방 삭제는 모든 노드에 broadcast 해 각 노드의 캐시를 비우고, broadcast 를 놓친 노드도 ttl 이 지나면 다시 읽는다
+ * (자주 쓰는 채팅방도 만료되도록 마지막 적재 기준).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomMemberCache {
+
+	private static final String DELETE_TOPIC = "chatting-room-delete";
+
+	private final ChatRoomRepositoryCustom chatRoomRepositoryCustom;
+	private final KafkaTemplate<String, ChatRoomDeleteKafkaDto> chatRoomDeleteKafkaTemplate;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${chatting.member-cache.size:50000}")
+	private long cacheSize;
+
+	@Value("${chatting.member-cache.ttl:10m}")
+	private Duration cacheTtl;
+
+	private LoadingCache<String, List<String>> memberCache;
+
+	@PostConstruct
+	void init() {
+		memberCache = Caffeine.newBuilder()
+			.maximumSize(cacheSize)
+			.expireAfterWrite(cacheTtl)
+			.recordStats()
+			.build(chatRoomRepositoryCustom::findParticipantIdList);
+		CaffeineCacheMetrics.monitor(meterRegistry, memberCache, "chatting.member-cache");
+	}
+
+	public List<String> getParticipantIdList(String roomId) {
+		return memberCache.get(roomId);
+	}
+
+	// 채팅방 삭제 후 호출
+	public void evict(String roomId) {
+		memberCache.invalidate(roomId);
+		chatRoomDeleteKafkaTemplate.send(DELETE_TOPIC, roomId, ChatRoomDeleteKafkaDto.builder().roomId(roomId).build())
+			.whenComplete((result, e) -> {
+				if (e != null) {
+					// 다른 노드의 캐시는 ttl 이 지나면 비워짐
+					log.warn("Failed to broadcast chat room deletion {}", roomId, e);
+				}
+			});
+	}
+
+	@KafkaListener(topics = DELETE_TOPIC, groupId = "#{'chatting-member-cache-' + T(java.util.UUID).randomUUID()}", containerFactory = "chatRoomDeleteEventListenerContainerFactory", properties = "auto.offset.reset=latest")
+	public void evictLocal(ChatRoomDeleteKafkaDto chatRoomDeleteKafkaDto) {
+		memberCache.invalidate(chatRoomDeleteKafkaDto.getRoomId());
+	}
+}
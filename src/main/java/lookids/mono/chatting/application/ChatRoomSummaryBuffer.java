@@ -0,0 +1,129 @@
+package lookids.mono.chatting.application;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lookids.mono.chatting.domain.ChatMessage;
+import lookids.mono.chatting.dto.in.ChatRoomSummaryUpdateDto;
+import lookids.mono.chatting.infrastructure.ChatRoomRepositoryCustom;
+
+/**
+ * 채팅방 요약(마지막 메세지, 안 읽은 수, 마지막 읽은 메세지) 반영
+ * 보낸 사람이 어느 노드에서 채팅방 목록을 조회해도 자기 메세지가 보이도록 마지막 메세지 / 정렬 시각은
+ * 메세지마다 바로 반영(write-through)한다. 참여자별 안 읽은 수와 읽음 위치는 채팅방별로 짧은 시간 동안 모았다가
+ * bulk 로 한 번에 반영(write-behind)하므로 다른 참여자에게는 최대 flush 주기만큼 늦게 보일 수 있다.
+ * 채팅방 목록 조회 / 삭제 전에 이 노드의 대기분은 먼저 반영하지만, 다른 노드가 받은 메세지는 그 노드의 다음 flush 에 반영된다.
+ * 입장/퇴장은 참여자 필드만 갱신하고, 늦게 도착한 증가분은 이미 읽음 처리된 참여자에게 반영하지 않으므로 덮어쓰거나 되살아나지 않는다.
+ * 종료 시 모두 반영하고, 비정상 종료 시에는 마지막 window 만큼의 요약이 유실될 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomSummaryBuffer {
+
+	private final ChatRoomRepositoryCustom chatRoomRepositoryCustom;
+	private final MeterRegistry meterRegistry;
+
+	private final Map<String, ChatRoomSummaryUpdateDto> pendingMap = new ConcurrentHashMap<>();
+
+	@PostConstruct
+	void init() {
+		Gauge.builder("chatting.room-summary.pending", pendingMap, Map::size).register(meterRegistry);
+	}
+
+	// participantIdSet: 채팅방 참여자 전체, readerIdSet: 메세지를 바로 읽은 것으로 볼 참여자 (온라인 + 보낸 사람)
+	public void add(ChatMessage chatMessage, Set<String> participantIdSet, Set<String> readerIdSet) {
+		LocalDateTime updatedAt = LocalDateTime.now();
+		boolean written = writeThrough(chatMessage, updatedAt);
+		pendingMap.compute(chatMessage.getRoomId(), (roomId, chatRoomSummaryUpdateDto) -> {
+			ChatRoomSummaryUpdateDto pending = chatRoomSummaryUpdateDto != null ? chatRoomSummaryUpdateDto :
+				new ChatRoomSummaryUpdateDto(roomId, participantIdSet);
+			pending.add(chatMessage, readerIdSet, updatedAt);
+			if (!written) {
+				pending.addLastChatMessage(chatMessage);
+			}
+			return pending;
+		});
+	}
+
+	// 실패하면 마지막 메세지도 대기분에 남겨 다음 flush 에 반영
+	private boolean writeThrough(ChatMessage chatMessage, LocalDateTime updatedAt) {
+		try {
+			chatRoomRepositoryCustom.updateLastChatMessage(chatMessage.getRoomId(), chatMessage.getMessage(),
+				updatedAt);
+			return true;
+		} catch (Exception e) {
+			log.warn("Failed to write through chat room summary {}: {}", chatMessage.getRoomId(), e.getMessage());
+			meterRegistry.counter("chatting.room-summary.write-through.failures").increment();
+			return false;
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${chatting.room-summary.flush-ms:500}")
+	public void flush() {
+		flush(chatRoomSummaryUpdateDto -> true);
+	}
+
+	@PreDestroy
+	public void flushOnShutdown() {
+		flush();
+	}
+
+	// 채팅방 삭제 전에 호출
+	public void flushRoom(String roomId) {
+		flush(chatRoomSummaryUpdateDto -> chatRoomSummaryUpdateDto.getRoomId().equals(roomId));
+	}
+
+	// 사용자의 채팅방 목록 조회 전에 호출 (이 노드의 대기분만)
+	public void flushRoomsOf(String userId) {
+		flush(chatRoomSummaryUpdateDto -> chatRoomSummaryUpdateDto.getParticipantIdSet().contains(userId));
+	}
+
+	private void flush(Predicate<ChatRoomSummaryUpdateDto> target) {
+		List<ChatRoomSummaryUpdateDto> drainedList = new ArrayList<>();
+		for (ChatRoomSummaryUpdateDto chatRoomSummaryUpdateDto : pendingMap.values()) {
+			// remove 이후 들어온 메세지는 새 항목에 쌓이므로 꺼낸 항목은 더 이상 바뀌지 않음
+			if (target.test(chatRoomSummaryUpdateDto) && pendingMap.remove(chatRoomSummaryUpdateDto.getRoomId(),
+				chatRoomSummaryUpdateDto)) {
+				drainedList.add(chatRoomSummaryUpdateDto);
+			}
+		}
+		if (drainedList.isEmpty()) {
+			return;
+		}
+		try {
+			chatRoomRepositoryCustom.bulkUpdateSummary(drainedList);
+			meterRegistry.counter("chatting.room-summary.flushed").increment(drainedList.size());
+		} catch (BulkOperationException e) {
+			// 순서 없는 bulk 는 실패한 항목만 빼고 반영되므로 실패한 채팅방만 다음 flush 에 다시 시도
+			log.warn("Failed to flush {} of {} chat room summaries", e.getErrors().size(), drainedList.size());
+			e.getErrors().forEach(bulkWriteError -> restore(drainedList.get(bulkWriteError.getIndex())));
+		} catch (Exception e) {
+			// 반영 여부를 알 수 없으면 유실보다 중복 증가를 택해 다음 flush 에 다시 시도
+			log.warn("Failed to flush {} chat room summaries: {}", drainedList.size(), e.getMessage());
+			drainedList.forEach(this::restore);
+		}
+	}
+
+	private void restore(ChatRoomSummaryUpdateDto failed) {
+		pendingMap.merge(failed.getRoomId(), failed, (newer, older) -> {
+			newer.mergeOlder(older);
+			return newer;
+		});
+	}
+}
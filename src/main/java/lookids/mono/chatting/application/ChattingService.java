@@ -31,7 +31,9 @@ public interface ChattingService {
 
 	Flux<ChatRoomResponseDto> readReactiveChatRoomsByUserId(String userId);
 
-	Flux<ChattingResponseDto> readReactiveChatMessageByRoomId(String roomId);
+	// userId: 구독하는 동안 채팅방 접속 상태로 표시할 사용자 (없으면 표시하지 않음)
+	// lastEventId: 재연결 시 마지막으로 받은 메세지 id, 그 이후 메세지를 먼저 보냄
+	Flux<ChattingResponseDto> readReactiveChatMessageByRoomId(String roomId, String userId, String lastEventId);
 
 	void deleteChatRoom(String roomId);
 
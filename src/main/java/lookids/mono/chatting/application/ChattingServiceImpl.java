@@ -1,29 +1,27 @@
 package lookids.mono.chatting.application;
 
-import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.bson.Document;
+import org.bson.types.ObjectId;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.mongodb.core.ChangeStreamEvent;
-import org.springframework.data.mongodb.core.ChangeStreamOptions;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
-import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
-import com.mongodb.client.model.changestream.OperationType;
-
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lookids.mono.chatting.domain.ChatMessage;
 import lookids.mono.chatting.domain.ChatRoom;
-import lookids.mono.chatting.domain.Participant;
 import lookids.mono.chatting.dto.in.ChatRoomNameUpdateRequestDto;
 import lookids.mono.chatting.dto.in.ChatRoomRequestDto;
-import lookids.mono.chatting.dto.in.ChatRoomUpdateRequestDto;
 import lookids.mono.chatting.dto.in.ChattingRequestDto;
 import lookids.mono.chatting.dto.in.ChattingUpdateRequestDto;
 import lookids.mono.chatting.dto.out.ChatRoomResponseDto;
@@ -33,6 +31,7 @@ import lookids.mono.chatting.dto.out.LastReadChatMessageResponseDto;
 import lookids.mono.chatting.dto.out.NotificationKafkaRequestDto;
 import lookids.mono.chatting.dto.out.ParticipantListDto;
 import lookids.mono.chatting.dto.out.RoomIdResponseDto;
+import lookids.mono.chatting.infrastructure.ChatChangeStreamHub;
 import lookids.mono.chatting.infrastructure.ChatMessageRepository;
 import lookids.mono.chatting.infrastructure.ChatMessageRepositoryCustom;
 import lookids.mono.chatting.infrastructure.ChatRoomRepository;
@@ -40,17 +39,27 @@ import lookids.mono.chatting.infrastructure.ChatRoomRepositoryCustom;
 import lookids.mono.common.entity.BaseResponseStatus;
 import lookids.mono.common.exception.BaseException;
 import lookids.mono.common.utils.CursorPage;
+import reactor.core.Disposable;
+import reactor.core.publisher.ConnectableFlux;
 import reactor.core.publisher.Flux;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class ChattingServiceImpl implements ChattingService {
+	// 재연결 시 한 번에 다시 보내는 최대 메세지 수 / 조회하는 동안 쌓아 두는 실시간 메세지 수
+	private static final int RESUME_MAX_MISSED = 500;
+	private static final int RESUME_BUFFER_SIZE = 256;
+
 	private final ChatRoomRepository chatRoomRepository;
 	private final ChatMessageRepositoryCustom chatMessageRepositoryCustom;
 	private final ChatRoomRepositoryCustom chatRoomRepositoryCustom;
 	private final ChatMessageRepository chatMessageRepository;
 	private final ReactiveMongoTemplate reactiveMongoTemplate;
+	private final ChatChangeStreamHub chatChangeStreamHub;
+	private final ChatRoomSummaryBuffer chatRoomSummaryBuffer;
+	private final ChatRoomMemberCache chatRoomMemberCache;
+	private final ChatPresenceService chatPresenceService;
 	private final KafkaTemplate<String, NotificationKafkaRequestDto> chattingKafkaTemplate;
 
 	@Override
@@ -63,39 +72,35 @@ public class ChattingServiceImpl implements ChattingService {
 	public void createChatMessage(ChattingRequestDto chattingRequestDto) {
 		ChatMessage savedChatMessage = chatMessageRepository.save(chattingRequestDto.toEntity());
 
-		// ChatRoom 조회 및 처리
-		chatRoomRepository.findById(savedChatMessage.getRoomId()).ifPresent(chatRoom -> {
-			// Kafka 알림을 보낼 사용자 목록 (isOnline이 false인 경우)
-			List<String> offlineReceiverUuids = chatRoom.getParticipants()
-				.stream()
-				.filter(participant -> !participant.getIsOnline()) // 온라인 상태가 아닌 사용자만 필터링
-				.map(Participant::getUserId)
-				.filter(userId -> !userId.equals(savedChatMessage.getSenderId())) // 메시지 보낸 사람 제외
-				.toList();
-
-			chatRoom.getParticipants().forEach(participant -> {
-				if (participant.getIsOnline()) {
-					// 온라인 상태이면 마지막 읽은 메시지 업데이트
-					participant.updateLastReadChatMessage(savedChatMessage.getId());
-				} else {
-					// 오프라인 상태이면 안 읽은 메시지 수 증가
-					participant.incrementUnreadCount();
-				}
-			});
-
-			// ChatRoom 엔티티 업데이트
-			chatRoomRepository.save(ChatRoomUpdateRequestDto.toUpdateEntity(chatRoom, savedChatMessage.getMessage()));
-
-			// Kafka 알림: 오프라인 사용자에게만 전송
-			if (!offlineReceiverUuids.isEmpty()) {
-				chattingKafkaTemplate.send("chatting-create",
-					NotificationKafkaRequestDto.toDto(savedChatMessage, offlineReceiverUuids));
-			}
-		});
+		// 참여자 목록은 캐시, 접속 상태는 presence 에서 조회 (채팅방 문서를 읽지 않음)
+		List<String> participantIdList = chatRoomMemberCache.getParticipantIdList(savedChatMessage.getRoomId());
+		if (participantIdList.isEmpty()) {
+			return;
+		}
+		Set<String> onlineUserIdSet = chatPresenceService.onlineUserIdSet(savedChatMessage.getRoomId(),
+			participantIdList);
+
+		// 채팅방 요약(안 읽은 수, 마지막 읽은 메세지, 마지막 메세지)은 모아서 bulk 로 반영
+		// 온라인 참여자와 보낸 사람은 바로 읽은 것으로 처리
+		Set<String> readerIdSet = new HashSet<>(onlineUserIdSet);
+		readerIdSet.add(savedChatMessage.getSenderId());
+		chatRoomSummaryBuffer.add(savedChatMessage, Set.copyOf(participantIdList), readerIdSet);
+
+		// Kafka 알림을 보낼 사용자 목록 (온라인이 아닌 사용자, 메시지 보낸 사람 제외)
+		List<String> offlineReceiverUuids = participantIdList.stream()
+			.filter(userId -> !readerIdSet.contains(userId))
+			.toList();
+
+		// Kafka 알림: 오프라인 사용자에게만 전송
+		if (!offlineReceiverUuids.isEmpty()) {
+			chattingKafkaTemplate.send("chatting-create",
+				NotificationKafkaRequestDto.toDto(savedChatMessage, offlineReceiverUuids));
+		}
 	}
 
 	@Override // 일반 페이징 처리. 유저 id에 맞는 방 리스트 가져오기
 	public Page<ChatRoomResponseDto> readChatRoomsByUserId(String userId, Pageable pageable) {
+		chatRoomSummaryBuffer.flushRoomsOf(userId); // 아직 반영하지 않은 채팅방 요약을 먼저 반영
 		return chatRoomRepository.findByParticipantUserId(userId, pageable)
 			.map(chatRoom -> ChatRoomResponseDto.toDto(chatRoom, userId));
 	}
@@ -103,6 +108,7 @@ public class ChattingServiceImpl implements ChattingService {
 	@Override // 커서 페이징 처리. 유저 id에 맞는 방 리스트 가져오기
 	public CursorPage<ChatRoomResponseDto> readChatRoomsByUserIdCursorPage(String userId, String lastId, int size,
 		int page) {
+		chatRoomSummaryBuffer.flushRoomsOf(userId); // 아직 반영하지 않은 채팅방 요약을 먼저 반영
 		CursorPage<ChatRoom> chatRoomCursorPage = chatRoomRepositoryCustom.getChatRoom(userId, lastId, size, page);
 		List<ChatRoomResponseDto> dtoList = chatRoomCursorPage.getContent()
 			.stream()
@@ -115,13 +121,8 @@ public class ChattingServiceImpl implements ChattingService {
 
 	@Override // db의 변화를 감지해서 api 실행 후에 생긴 새로운 채팅방들만 출력하는 api
 	public Flux<ChatRoomResponseDto> readReactiveChatRoomsByUserId(String userId) {
-		ChangeStreamOptions options = ChangeStreamOptions.builder()
-			.filter(Aggregation.newAggregation(Aggregation.match(
-				Criteria.where("operationType").in(OperationType.REPLACE.getValue(), OperationType.INSERT.getValue()))))
-			.build();
-
-		return reactiveMongoTemplate.changeStream("chat_room", options, Document.class)
-			.map(ChangeStreamEvent::getBody)
+		// 노드 공용 change stream 에서 userId 가 참여한 채팅방 변경만 전달받음
+		return chatChangeStreamHub.chatRoomsOf(userId)
 			.map(document -> ChatRoomResponseDto.fromDocument(document, userId)); // userId 전달
 	}
 
@@ -145,23 +146,46 @@ public class ChattingServiceImpl implements ChattingService {
 	}
 
 	@Override // db의 변화를 감지해서 api 실행 후에 생긴 새로운 메세지들만 출력하는 api
-	public Flux<ChattingResponseDto> readReactiveChatMessageByRoomId(String roomId) {
-		ChangeStreamOptions options = ChangeStreamOptions.builder()
-			.filter(Aggregation.newAggregation(Aggregation.match(
-					Criteria.where("operationType").in(OperationType.INSERT.getValue(), OperationType.REPLACE.getValue())),
-				Aggregation.match(Criteria.where("fullDocument.roomId").is(roomId))))
-			.build();
-
-		return reactiveMongoTemplate.changeStream("chat_message", options, Document.class)
-			.map(ChangeStreamEvent::getBody)
+	public Flux<ChattingResponseDto> readReactiveChatMessageByRoomId(String roomId, String userId,
+		String lastEventId) {
+		// 구독하는 동안 userId 를 채팅방에 온라인으로 유지
+		return userId == null ? chatMessageFlux(roomId, lastEventId) :
+			chatPresenceService.track(roomId, userId, chatMessageFlux(roomId, lastEventId));
+	}
+
+	private Flux<ChattingResponseDto> chatMessageFlux(String roomId, String lastEventId) {
+		Flux<ChattingResponseDto> liveFlux = chatChangeStreamHub.chatMessages(roomId)
 			.map(ChattingResponseDto::toDtoFromDocument);
+		if (lastEventId == null || !ObjectId.isValid(lastEventId)) {
+			return liveFlux;
+		}
+		// 재연결: 마지막으로 받은 메세지 이후를 먼저 조회해서 보내고 실시간 메세지로 이어감
+		// 조회하는 동안 들어온 메세지를 놓치지 않도록 실시간 구독을 먼저 시작하고, 조회로 이미 보낸 메세지는 건너뜀
+		return Flux.defer(() -> {
+			Set<String> missedIdSet = ConcurrentHashMap.newKeySet();
+			ConnectableFlux<ChattingResponseDto> bufferedLiveFlux = liveFlux.replay(RESUME_BUFFER_SIZE);
+			Disposable connection = bufferedLiveFlux.connect();
+			Flux<ChattingResponseDto> missedFlux = reactiveMongoTemplate.find(
+					Query.query(Criteria.where("roomId").is(roomId).and("_id").gt(new ObjectId(lastEventId)))
+						.with(Sort.by(Sort.Direction.ASC, "_id"))
+						.limit(RESUME_MAX_MISSED), ChatMessage.class)
+				.map(ChattingResponseDto::toDto)
+				.doOnNext(chattingResponseDto -> missedIdSet.add(chattingResponseDto.getId()));
+			return Flux.concat(missedFlux,
+					bufferedLiveFlux.filter(chattingResponseDto -> !missedIdSet.remove(chattingResponseDto.getId())))
+				.doFinally(signalType -> connection.dispose());
+		});
 	}
 
 	@Override // 채팅 메세지 수정용 api
 	public void updateChatMessage(ChattingUpdateRequestDto chattingUpdateRequestDto) {
-		ChatMessage chatMessage = chatMessageRepository.findById(chattingUpdateRequestDto.getId())
-			.orElseThrow(() -> new BaseException(BaseResponseStatus.NOT_FOUND_MESSAGE));
-		chatMessageRepository.save(chattingUpdateRequestDto.toEntity(chatMessage));
+		if (chatMessageRepositoryCustom.updateChatMessage(chattingUpdateRequestDto)) {
+			return;
+		}
+		// bucket 으로 옮겨진 오래된 메세지
+		if (!chatMessageRepositoryCustom.updateBucketedChatMessage(chattingUpdateRequestDto)) {
+			throw new BaseException(BaseResponseStatus.NOT_FOUND_MESSAGE);
+		}
 	}
 
 	@Override // 일대일 채팅인지 확인하는 api
@@ -183,66 +207,48 @@ public class ChattingServiceImpl implements ChattingService {
 
 	@Override // 마지막 읽은 메세지가 무엇인지 체크하는 api
 	public Flux<LastReadChatMessageResponseDto> lastReadMessage(String roomId) {
-		ChangeStreamOptions options = ChangeStreamOptions.builder().build();
-
-		return reactiveMongoTemplate.changeStream("chat_room", options, ChatRoom.class)
-			.map(ChangeStreamEvent::getBody)
-			.flatMap(chatRoom -> {
-				return Flux.fromIterable(chatRoom.getParticipants())
-					.map(participant -> LastReadChatMessageResponseDto.toDto(participant.getUserId(),
-						participant.getLastReadChatMessage()));
-			});
+		// 해당 채팅방 문서의 변경만 전달받음
+		return chatChangeStreamHub.chatRoom(roomId)
+			.flatMapIterable(document -> document.getList("participants", Document.class))
+			.map(participant -> LastReadChatMessageResponseDto.toDto(participant.getString("userId"),
+				participant.getString("lastReadChatMessage")));
 	}
 
 	@Override // 채팅방 삭제 api
 	public void deleteChatRoom(String roomId) { // 채팅방 삭제 코드
+		chatRoomSummaryBuffer.flushRoom(roomId); // 삭제 후 대기분이 남지 않도록 먼저 반영
 		ChatRoom chatRoom = chatRoomRepository.findById(roomId)
 			.orElseThrow(() -> new BaseException(BaseResponseStatus.NO_EXIST_CHATROOM));
 		chatMessageRepository.deleteAllByRoomId(roomId);
+		chatMessageRepositoryCustom.deleteBucketsByRoomId(roomId);
 		chatRoomRepository.deleteById(chatRoom.getId());
+		chatRoomMemberCache.evict(roomId);
 	}
 
 	@Override // 채팅방 입장 api
 	public ParticipantListDto updateEnterTime(String roomId, String userId) {
-		ChatRoom chatRoom = chatRoomRepository.findById(roomId)
-			.orElseThrow(() -> new BaseException(BaseResponseStatus.NO_EXIST_CHATROOM));
-
-		Participant participant = chatRoom.getParticipants()
-			.stream()
-			.filter(p -> p.getUserId().equals(userId))
-			.findFirst()
-			.orElseThrow(() -> new BaseException(BaseResponseStatus.NOT_IN_USER));
-
-		ChatMessage lastMessage = chatMessageRepository.findTopByRoomIdOrderByCreatedAtDesc(roomId).orElse(null);
-		participant.updateLastLeaveTime(LocalDateTime.now());
-		if (lastMessage != null) {
-			participant.updateLastReadChatMessage(lastMessage.getId());
-		}
-		participant.updateLastEnterTime(LocalDateTime.now());
-		chatRoomRepository.save(chatRoom);
+		ChatRoom chatRoom = updateParticipantPresence(roomId, userId, true);
+		chatPresenceService.touch(roomId, userId); // 메세지 스트림 연결 전까지 ttl 동안 온라인
 
 		return ParticipantListDto.toDto(chatRoom);
 	}
 
 	@Override // 채팅방 퇴장(삭제아님) api
 	public void updateLeaveTime(String roomId, String userId) {
-		ChatRoom chatRoom = chatRoomRepository.findById(roomId)
-			.orElseThrow(() -> new BaseException(BaseResponseStatus.NO_EXIST_CHATROOM));
-
-		Participant participant = chatRoom.getParticipants()
-			.stream()
-			.filter(p -> p.getUserId().equals(userId))
-			.findFirst()
-			.orElseThrow(() -> new BaseException(BaseResponseStatus.NOT_IN_USER));
-
-		ChatMessage lastMessage = chatMessageRepository.findTopByRoomIdOrderByCreatedAtDesc(roomId).orElse(null);
-		participant.updateLastLeaveTime(LocalDateTime.now());
+		updateParticipantPresence(roomId, userId, false);
+		chatPresenceService.leave(roomId, userId);
+	}
 
-		if (lastMessage != null) {
-			participant.updateLastReadChatMessage(lastMessage.getId());
+	// 채팅방 문서를 통째로 저장하지 않고 해당 참여자 필드만 갱신 (다른 노드의 요약 반영과 섞여도 덮어쓰지 않음)
+	private ChatRoom updateParticipantPresence(String roomId, String userId, boolean entered) {
+		ChatMessage lastMessage = chatMessageRepositoryCustom.findLatestChatMessage(roomId).orElse(null);
+		ChatRoom chatRoom = chatRoomRepositoryCustom.updateParticipantPresence(roomId, userId,
+			lastMessage != null ? lastMessage.getId() : null, entered);
+		if (chatRoom == null) {
+			throw new BaseException(chatRoomRepository.existsById(roomId) ? BaseResponseStatus.NOT_IN_USER :
+				BaseResponseStatus.NO_EXIST_CHATROOM);
 		}
-
-		chatRoomRepository.save(chatRoom);
+		return chatRoom;
 	}
 
 }
\ No newline at end of file
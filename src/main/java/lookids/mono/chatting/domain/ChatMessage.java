@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import lombok.AllArgsConstructor;
@@ -19,6 +20,7 @@ import lombok.ToString;
 @Builder
 @ToString
 @Document(collection = "chat_message")
+@CompoundIndex(name = "roomId_id", def = "{'roomId': 1, '_id': -1}")
 public class ChatMessage {
 
 	@Id
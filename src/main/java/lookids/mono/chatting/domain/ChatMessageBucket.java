@@ -0,0 +1,42 @@
+package lookids.mono.chatting.domain;
+
+import java.util.List;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+// 오래된 채팅 메세지를 채팅방별로 고정 개수씩 묶어 둔 문서
+// id 는 bucket 의 첫 메세지 id 라서 (roomId, _id) 역순으로 읽으면 bucket 이 시간 역순으로 나옴
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+@Document(collection = "chat_message_bucket")
+@CompoundIndex(name = "roomId_id", def = "{'roomId': 1, '_id': -1}")
+public class ChatMessageBucket {
+
+	@Id
+	private String id;
+	private String roomId;
+	private Integer count;
+	private String lastChatMessageId;
+	private List<ChatMessageBucketItem> chatMessages; // chatMessageId 오름차순
+
+	public static ChatMessageBucket of(List<ChatMessage> chatMessageList) {
+		return ChatMessageBucket.builder()
+			.id(chatMessageList.get(0).getId())
+			.roomId(chatMessageList.get(0).getRoomId())
+			.count(chatMessageList.size())
+			.lastChatMessageId(chatMessageList.get(chatMessageList.size() - 1).getId())
+			.chatMessages(chatMessageList.stream().map(ChatMessageBucketItem::of).toList())
+			.build();
+	}
+}
@@ -0,0 +1,48 @@
+package lookids.mono.chatting.domain;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+// bucket 안에 들어가는 메세지 (roomId 는 bucket 에만 둠)
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class ChatMessageBucketItem {
+
+	private String chatMessageId;
+	private MessageType messageType;
+	private String message;
+	private String senderId;
+	private LocalDateTime createdAt;
+	private LocalDateTime updatedAt;
+
+	public static ChatMessageBucketItem of(ChatMessage chatMessage) {
+		return ChatMessageBucketItem.builder()
+			.chatMessageId(chatMessage.getId())
+			.messageType(chatMessage.getMessageType())
+			.message(chatMessage.getMessage())
+			.senderId(chatMessage.getSenderId())
+			.createdAt(chatMessage.getCreatedAt())
+			.updatedAt(chatMessage.getUpdatedAt())
+			.build();
+	}
+
+	public ChatMessage toChatMessage(String roomId) {
+		return ChatMessage.builder()
+			.id(chatMessageId)
+			.roomId(roomId)
+			.messageType(messageType)
+			.message(message)
+			.senderId(senderId)
+			.createdAt(createdAt)
+			.updatedAt(updatedAt)
+			.build();
+	}
+}
@@ -0,0 +1,20 @@
+package lookids.mono.chatting.dto.in;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+// 채팅방 삭제 후 노드마다 로컬 참여자 캐시를 비우도록 보내는 이벤트
+@Getter
+@NoArgsConstructor
+@ToString
+public class ChatRoomDeleteKafkaDto {
+
+	private String roomId;
+
+	@Builder
+	public ChatRoomDeleteKafkaDto(String roomId) {
+		this.roomId = roomId;
+	}
+}
@@ -0,0 +1,60 @@
+package lookids.mono.chatting.dto.in;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import lombok.Getter;
+import lombok.ToString;
+import lookids.mono.chatting.domain.ChatMessage;
+
+// 채팅방 하나에 아직 반영하지 않은 메세지 요약 (참여자별 안 읽은 수 증가분 / 마지막 읽은 메세지)
+// 마지막 메세지는 메세지마다 바로 반영하고, 바로 반영하지 못한 경우에만 여기에 남김
+@Getter
+@ToString
+public class ChatRoomSummaryUpdateDto {
+	private final String roomId;
+	private final Set<String> participantIdSet;
+	private String lastChatMessageAt;
+	private LocalDateTime updatedAt;
+	private final Map<String, Long> unreadDeltaMap = new HashMap<>();
+	private final Map<String, String> lastReadChatMessageMap = new HashMap<>();
+	// 증가분에 들어간 첫 메세지 (이 메세지까지 읽은 참여자에게는 증가분을 반영하지 않음)
+	private final Map<String, String> firstUnreadChatMessageMap = new HashMap<>();
+
+	public ChatRoomSummaryUpdateDto(String roomId, Set<String> participantIdSet) {
+		this.roomId = roomId;
+		this.participantIdSet = new HashSet<>(participantIdSet);
+	}
+
+	// 메세지를 순서대로 쌓으면 하나씩 반영한 것과 같은 결과가 됨
+	public void add(ChatMessage chatMessage, Set<String> readerIdSet, LocalDateTime updatedAt) {
+		this.updatedAt = updatedAt;
+		for (String userId : participantIdSet) {
+			if (readerIdSet.contains(userId)) {
+				lastReadChatMessageMap.put(userId, chatMessage.getId());
+			} else {
+				unreadDeltaMap.merge(userId, 1L, Long::sum);
+				firstUnreadChatMessageMap.putIfAbsent(userId, chatMessage.getId());
+			}
+		}
+	}
+
+	// 마지막 메세지 바로 반영에 실패한 경우 flush 에 함께 반영
+	public void addLastChatMessage(ChatMessage chatMessage) {
+		this.lastChatMessageAt = chatMessage.getMessage();
+	}
+
+	// 반영에 실패한 이전 요약을 합침 (마지막 메세지 / 마지막 읽은 메세지는 최신 값 유지, 증가분은 더함)
+	public void mergeOlder(ChatRoomSummaryUpdateDto older) {
+		participantIdSet.addAll(older.participantIdSet);
+		if (lastChatMessageAt == null) {
+			lastChatMessageAt = older.lastChatMessageAt;
+		}
+		older.unreadDeltaMap.forEach((userId, unreadDelta) -> unreadDeltaMap.merge(userId, unreadDelta, Long::sum));
+		older.lastReadChatMessageMap.forEach(lastReadChatMessageMap::putIfAbsent);
+		firstUnreadChatMessageMap.putAll(older.firstUnreadChatMessageMap);
+	}
+}
@@ -0,0 +1,205 @@
+package lookids.mono.chatting.infrastructure;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.ChangeStreamEvent;
+import org.springframework.data.mongodb.core.ChangeStreamOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.OperationType;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+/**
+ * 채팅 change stream 공유 (노드당 컬렉션별 change stream 하나)
+ * 구독자마다 change stream 을 여는 대신 컬렉션마다 하나만 열고, 이벤트를 roomId / userId 별 sink 로 나눠 보낸다.
+ * 구독자가 없으면 change stream 을 닫고, 오류로 끊기면 마지막 resume token 이후부터 다시 연다.
+ * 느린 구독자는 구독자별 버퍼에서 오래된 이벤트부터 버려 다른 구독자를 막지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatChangeStreamHub {
+
+	private static final int SUBSCRIBER_BUFFER = 256;
+	private static final String ROOM_KEY = "room:";
+	private static final String USER_KEY = "user:";
+
+	private final ReactiveMongoTemplate reactiveMongoTemplate;
+	private final MeterRegistry meterRegistry;
+
+	private Channel chatMessageChannel;
+	private Channel chatRoomChannel;
+
+	@PostConstruct
+	void init() {
+		chatMessageChannel = new Channel("chat_message", document -> {
+			String roomId = document.getString("roomId");
+			return roomId == null ? List.of() : List.of(roomId);
+		});
+		// 채팅방 문서는 방 구독(room:)과 참여자별 목록 구독(user:) 모두에 전달
+		chatRoomChannel = new Channel("chat_room", document -> {
+			List<String> keyList = new ArrayList<>();
+			Object id = document.get("_id");
+			if (id != null) {
+				keyList.add(ROOM_KEY + (id instanceof ObjectId objectId ? objectId.toHexString() : id.toString()));
+			}
+			List<Document> participantList = document.getList("participants", Document.class);
+			if (participantList != null) {
+				participantList.stream()
+					.map(participant -> participant.getString("userId"))
+					.filter(Objects::nonNull)
+					.forEach(userId -> keyList.add(USER_KEY + userId));
+			}
+			return keyList;
+		});
+		Gauge.builder("chatting.change-stream.routes", this,
+			hub -> hub.chatMessageChannel.routeMap.size() + hub.chatRoomChannel.routeMap.size()).register(meterRegistry);
+	}
+
+	@PreDestroy
+	void close() {
+		chatMessageChannel.stop();
+		chatRoomChannel.stop();
+	}
+
+	// 특정 채팅방에 새로 저장/수정된 메세지
+	public Flux<Document> chatMessages(String roomId) {
+		return chatMessageChannel.subscribe(roomId);
+	}
+
+	// 특정 채팅방 문서의 변경 (읽음 상태 등)
+	public Flux<Document> chatRoom(String roomId) {
+		return chatRoomChannel.subscribe(ROOM_KEY + roomId);
+	}
+
+	// 사용자가 참여한 채팅방 문서의 변경
+	public Flux<Document> chatRoomsOf(String userId) {
+		return chatRoomChannel.subscribe(USER_KEY + userId);
+	}
+
+	private static final class Route {
+		private final Sinks.Many<Document> sink = Sinks.many().multicast().directBestEffort();
+		private int subscribers;
+	}
+
+	private final class Channel {
+		private final String collection;
+		private final Function<Document, List<String>> keyExtractor;
+		private final Map<String, Route> routeMap = new ConcurrentHashMap<>();
+		private volatile BsonValue resumeToken;
+		private Disposable upstream;
+
+		private Channel(String collection, Function<Document, List<String>> keyExtractor) {
+			this.collection = collection;
+			this.keyExtractor = keyExtractor;
+		}
+
+		Flux<Document> subscribe(String key) {
+			return Flux.defer(() -> {
+				Route route = acquire(key);
+				return route.sink.asFlux().doFinally(signalType -> release(key, route));
+			}).onBackpressureBuffer(SUBSCRIBER_BUFFER,
+				dropped -> log.debug("Dropped {} change for slow subscriber {}", collection, key),
+				BufferOverflowStrategy.DROP_OLDEST);
+		}
+
+		private synchronized Route acquire(String key) {
+			Route route = routeMap.computeIfAbsent(key, k -> new Route());
+			route.subscribers++;
+			if (upstream == null) {
+				start();
+			}
+			return route;
+		}
+
+		private synchronized void release(String key, Route route) {
+			if (--route.subscribers == 0) {
+				routeMap.remove(key, route);
+			}
+			if (routeMap.isEmpty()) {
+				stop();
+			}
+		}
+
+		private void start() {
+			resumeToken = null; // 구독자가 없던 동안의 변경은 보낼 대상이 없으므로 현재 시점부터 시작
+			upstream = Flux.defer(this::openChangeStream)
+				.doOnNext(event -> {
+					if (event.getResumeToken() != null) {
+						resumeToken = event.getResumeToken();
+					}
+				})
+				.retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+					.maxBackoff(Duration.ofSeconds(30))
+					.doBeforeRetry(signal -> {
+						log.warn("{} change stream failed, resuming after {}: {}", collection, resumeToken,
+							signal.failure().getMessage());
+						meterRegistry.counter("chatting.change-stream.restarts", "collection", collection).increment();
+						if (signal.totalRetriesInARow() >= 3) {
+							resumeToken = null; // oplog 에서 밀려난 token 이면 계속 실패하므로 현재 시점부터 다시 염
+						}
+					}))
+				.subscribe(this::route, error -> log.error("{} change stream terminated", collection, error));
+			log.info("Opened shared {} change stream", collection);
+		}
+
+		private synchronized void stop() {
+			if (upstream != null) {
+				upstream.dispose();
+				upstream = null;
+				log.info("Closed shared {} change stream", collection);
+			}
+		}
+
+		private Flux<ChangeStreamEvent<Document>> openChangeStream() {
+			ChangeStreamOptions.ChangeStreamOptionsBuilder builder = ChangeStreamOptions.builder()
+				.filter(Aggregation.newAggregation(Aggregation.match(Criteria.where("operationType")
+					.in(OperationType.INSERT.getValue(), OperationType.REPLACE.getValue(),
+						OperationType.UPDATE.getValue()))))
+				.fullDocumentLookup(FullDocument.UPDATE_LOOKUP);
+			BsonValue token = resumeToken;
+			if (token != null) {
+				builder.resumeAfter(token);
+			}
+			return reactiveMongoTemplate.changeStream(collection, builder.build(), Document.class);
+		}
+
+		// 이벤트는 upstream 스레드 하나에서만 들어오므로 sink 에 순서대로 emit
+		private void route(ChangeStreamEvent<Document> event) {
+			Document document = event.getBody();
+			if (document == null) {
+				return;
+			}
+			for (String key : keyExtractor.apply(document)) {
+				Route route = routeMap.get(key);
+				if (route != null) {
+					route.sink.tryEmitNext(document);
+				}
+			}
+		}
+	}
+}
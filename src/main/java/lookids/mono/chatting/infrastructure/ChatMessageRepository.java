@@ -1,7 +1,5 @@
 package lookids.mono.chatting.infrastructure;
 
-import java.util.Optional;
-
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
@@ -13,7 +11,5 @@ public interface ChatMessageRepository extends MongoRepository<ChatMessage, Stri
 	@Query("{ 'roomId' : ?0 }")
 	Page<ChatMessage> findByRoomId(String roomId, Pageable pageable);
 
-	Optional<ChatMessage> findTopByRoomIdOrderByCreatedAtDesc(String roomId);
-
 	void deleteAllByRoomId(String roomId);
 }
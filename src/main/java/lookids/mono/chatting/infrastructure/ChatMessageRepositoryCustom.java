@@ -1,8 +1,32 @@
 package lookids.mono.chatting.infrastructure;
 
+import java.util.List;
+import java.util.Optional;
+
+import org.bson.types.ObjectId;
+
 import lookids.mono.chatting.domain.ChatMessage;
+import lookids.mono.chatting.dto.in.ChattingUpdateRequestDto;
 import lookids.mono.common.utils.CursorPage;
 
 public interface ChatMessageRepositoryCustom {
 	CursorPage<ChatMessage> getChatMessage(String roomId, String lastId, Integer pageSize, Integer page);
-}
\ No newline at end of file
+
+	// chat_message 와 bucket 을 합쳐 가장 최근 메세지
+	Optional<ChatMessage> findLatestChatMessage(String roomId);
+
+	// chat_message 의 메세지 수정 (upsert 없음), 없으면 false
+	boolean updateChatMessage(ChattingUpdateRequestDto chattingUpdateRequestDto);
+
+	// bucket 으로 옮긴 메세지 수정, 없으면 false
+	boolean updateBucketedChatMessage(ChattingUpdateRequestDto chattingUpdateRequestDto);
+
+	void deleteBucketsByRoomId(String roomId);
+
+	// chat_message 에 메세지가 있는 채팅방을 afterRoomId 다음부터 roomId 순으로 limit 개
+	List<String> findRoomIdList(String afterRoomId, int limit);
+
+	// 채팅방의 오래된 메세지를 bucketSize 개씩 bucket 으로 옮기고, 옮긴 메세지 수를 반환 (남는 메세지는 다음에 옮김)
+	// before 보다 오래된 메세지가 bucket 하나를 채우지 못하면 메세지를 읽지 않고 0
+	int compactRoom(String roomId, ObjectId before, int bucketSize, int maxBuckets);
+}
@@ -1,47 +1,268 @@
 package lookids.mono.chatting.infrastructure;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.bson.Document;
 import org.bson.types.ObjectId;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lookids.mono.chatting.domain.ChatMessage;
+import lookids.mono.chatting.domain.ChatMessageBucket;
+import lookids.mono.chatting.domain.ChatMessageBucketItem;
+import lookids.mono.chatting.dto.in.ChattingUpdateRequestDto;
 import lookids.mono.common.utils.CursorPage;
 
+/**
+ * 채팅 메세지 저장소 (최근 메세지는 chat_message 에 한 건씩, 오래된 메세지는 chat_message_bucket 에 묶음으로)
+ * 커서와 정렬 모두 _id 기준이며 두 컬렉션 모두 (roomId, _id) 인덱스로 읽는다.
+ * bucket 에는 채팅방의 가장 오래된 메세지부터 옮기므로 bucket 메세지는 chat_message 에 남은 메세지보다 항상 오래되었다.
+ */
 @Slf4j
 @RequiredArgsConstructor
 @Repository
 public class ChatMessageRepositoryImpl implements ChatMessageRepositoryCustom {
 
+	private static final Comparator<ChatMessage> NEWEST_FIRST = Comparator.comparing(ChatMessage::getId,
+		Comparator.reverseOrder());
+
 	private final MongoTemplate mongoTemplate;
 
+	@EventListener(ApplicationReadyEvent.class)
+	public void ensureIndexes() {
+		MongoPersistentEntityIndexResolver indexResolver = new MongoPersistentEntityIndexResolver(
+			mongoTemplate.getConverter().getMappingContext());
+		IndexOperations chatMessageIndexOperations = mongoTemplate.indexOps(ChatMessage.class);
+		indexResolver.resolveIndexFor(ChatMessage.class).forEach(chatMessageIndexOperations::ensureIndex);
+		IndexOperations bucketIndexOperations = mongoTemplate.indexOps(ChatMessageBucket.class);
+		indexResolver.resolveIndexFor(ChatMessageBucket.class).forEach(bucketIndexOperations::ensureIndex);
+	}
+
 	@Override
 	public CursorPage<ChatMessage> getChatMessage(String roomId, String lastId, Integer pageSize, Integer page) {
+		ObjectId cursor = lastId != null ? new ObjectId(lastId) : null;
+		int limit = pageSize + 1;
+
+		// 최근 메세지부터 읽고, 모자라면 bucket 을 최신 bucket 부터 역순으로 이어 읽음
 		Query query = new Query();
 		query.addCriteria(Criteria.where("roomId").is(roomId));
-
-		if (lastId != null) {
-			query.addCriteria(Criteria.where("_id").lt(new ObjectId(lastId)));
+		if (cursor != null) {
+			query.addCriteria(Criteria.where("_id").lt(cursor));
 		}
+		query.limit(limit);
+		query.with(Sort.by(Sort.Direction.DESC, "_id"));
 
-		query.limit(pageSize + 1);
-		query.with(Sort.by(Sort.Direction.DESC, "createdAt"));
-
-		List<ChatMessage> chatMessages = mongoTemplate.find(query, ChatMessage.class);
+		List<ChatMessage> chatMessages = new ArrayList<>(mongoTemplate.find(query, ChatMessage.class));
+		if (chatMessages.size() < limit) {
+			readBucketsBackward(roomId, cursor, limit - chatMessages.size(), chatMessages);
+			chatMessages.sort(NEWEST_FIRST);
+		}
 
 		boolean hasNext = chatMessages.size() > pageSize;
-		String nextCursor = hasNext ? chatMessages.get(pageSize).getId() : null;
-
 		if (hasNext) {
 			chatMessages = chatMessages.subList(0, pageSize);
 		}
+		// 다음 페이지는 이번 페이지 마지막 메세지 이전부터
+		String nextCursor = hasNext ? chatMessages.get(chatMessages.size() - 1).getId() : null;
 
 		return new CursorPage<>(chatMessages, nextCursor, hasNext, pageSize, page);
 	}
-}
\ No newline at end of file
+
+	// cursor 보다 오래된 bucket 메세지를 최신순으로 count 개까지 추가
+	private void readBucketsBackward(String roomId, ObjectId cursor, int count, List<ChatMessage> chatMessages) {
+		Query query = new Query();
+		query.addCriteria(Criteria.where("roomId").is(roomId));
+		if (cursor != null) {
+			query.addCriteria(Criteria.where("_id").lt(cursor)); // bucket id 는 첫 메세지 id 라서 cursor 가 걸친 bucket 도 포함
+		}
+		query.with(Sort.by(Sort.Direction.DESC, "_id"));
+		query.cursorBatchSize(2); // bucket 하나가 페이지 여러 개 분량이므로 조금씩 가져옴
+
+		String cursorId = cursor != null ? cursor.toHexString() : null;
+		int added = 0;
+		try (Stream<ChatMessageBucket> bucketStream = mongoTemplate.stream(query, ChatMessageBucket.class)) {
+			Iterator<ChatMessageBucket> bucketIterator = bucketStream.iterator();
+			while (added < count && bucketIterator.hasNext()) {
+				ChatMessageBucket chatMessageBucket = bucketIterator.next();
+				List<ChatMessageBucketItem> itemList = chatMessageBucket.getChatMessages();
+				for (int i = itemList.size() - 1; i >= 0 && added < count; i--) {
+					ChatMessageBucketItem item = itemList.get(i);
+					if (cursorId == null || item.getChatMessageId().compareTo(cursorId) < 0) {
+						chatMessages.add(item.toChatMessage(roomId));
+						added++;
+					}
+				}
+			}
+		}
+	}
+
+	@Override
+	public Optional<ChatMessage> findLatestChatMessage(String roomId) {
+		Query query = Query.query(Criteria.where("roomId").is(roomId)).with(Sort.by(Sort.Direction.DESC, "_id"));
+		ChatMessage chatMessage = mongoTemplate.findOne(query, ChatMessage.class);
+		if (chatMessage != null) {
+			return Optional.of(chatMessage);
+		}
+		ChatMessageBucket chatMessageBucket = mongoTemplate.findOne(query, ChatMessageBucket.class);
+		if (chatMessageBucket == null || chatMessageBucket.getChatMessages().isEmpty()) {
+			return Optional.empty();
+		}
+		List<ChatMessageBucketItem> itemList = chatMessageBucket.getChatMessages();
+		return Optional.of(itemList.get(itemList.size() - 1).toChatMessage(roomId));
+	}
+
+	@Override
+	public boolean updateChatMessage(ChattingUpdateRequestDto chattingUpdateRequestDto) {
+		// upsert 하지 않으므로 그 사이 bucket 으로 옮겨진 메세지를 chat_message 에 다시 만들지 않음
+		Query query = Query.query(Criteria.where("_id").is(chattingUpdateRequestDto.getId()));
+		Update update = new Update().set("messageType", chattingUpdateRequestDto.getMessageType())
+			.set("message", chattingUpdateRequestDto.getMessage())
+			.set("updatedAt", LocalDateTime.now());
+		return mongoTemplate.updateFirst(query, update, ChatMessage.class).getMatchedCount() > 0;
+	}
+
+	@Override
+	public boolean updateBucketedChatMessage(ChattingUpdateRequestDto chattingUpdateRequestDto) {
+		Query query = new Query();
+		if (chattingUpdateRequestDto.getRoomId() != null) {
+			query.addCriteria(Criteria.where("roomId").is(chattingUpdateRequestDto.getRoomId()));
+		}
+		// bucket id 는 첫 메세지 id 이므로 메세지 id 이하인 bucket 만 보면 됨
+		query.addCriteria(Criteria.where("_id").lte(chattingUpdateRequestDto.getId())
+			.and("chatMessages.chatMessageId").is(chattingUpdateRequestDto.getId()));
+
+		Update update = new Update().set("chatMessages.$[item].messageType", chattingUpdateRequestDto.getMessageType())
+			.set("chatMessages.$[item].message", chattingUpdateRequestDto.getMessage())
+			.set("chatMessages.$[item].updatedAt", LocalDateTime.now())
+			.filterArray(Criteria.where("item.chatMessageId").is(chattingUpdateRequestDto.getId()));
+		return mongoTemplate.updateFirst(query, update, ChatMessageBucket.class).getMatchedCount() > 0;
+	}
+
+	@Override
+	public void deleteBucketsByRoomId(String roomId) {
+		mongoTemplate.remove(Query.query(Criteria.where("roomId").is(roomId)), ChatMessageBucket.class);
+	}
+
+	@Override
+	public List<String> findRoomIdList(String afterRoomId, int limit) {
+		// (roomId, _id) 인덱스에서 다음 roomId 로 한 번씩 건너뛰며 읽음 (roomId 만 읽으므로 문서는 읽지 않음)
+		List<String> roomIdList = new ArrayList<>(limit);
+		String roomId = afterRoomId != null ? afterRoomId : "";
+		while (roomIdList.size() < limit) {
+			Query query = Query.query(Criteria.where("roomId").gt(roomId))
+				.with(Sort.by(Sort.Direction.ASC, "roomId"))
+				.limit(1);
+			query.fields().include("roomId").exclude("_id");
+			Document next = mongoTemplate.findOne(query, Document.class,
+				mongoTemplate.getCollectionName(ChatMessage.class));
+			if (next == null) {
+				break;
+			}
+			roomId = next.getString("roomId");
+			roomIdList.add(roomId);
+		}
+		return roomIdList;
+	}
+
+	@Override
+	public int compactRoom(String roomId, ObjectId before, int bucketSize, int maxBuckets) {
+		// bucket 하나를 채우는지 인덱스만으로 먼저 확인 (bucketSize 개까지만 셈)
+		Query countQuery = Query.query(Criteria.where("roomId").is(roomId).and("_id").lt(before)).limit(bucketSize);
+		if (mongoTemplate.count(countQuery, ChatMessage.class) < bucketSize) {
+			return 0;
+		}
+		Query query = Query.query(Criteria.where("roomId").is(roomId).and("_id").lt(before))
+			.with(Sort.by(Sort.Direction.ASC, "_id"))
+			.limit(bucketSize * maxBuckets);
+		List<ChatMessage> chatMessages = mongoTemplate.find(query, ChatMessage.class);
+
+		int moved = 0;
+		for (int from = 0; from + bucketSize <= chatMessages.size(); from += bucketSize) {
+			List<ChatMessage> bucketMessageList = chatMessages.subList(from, from + bucketSize);
+			ChatMessageBucket chatMessageBucket = ChatMessageBucket.of(bucketMessageList);
+			try {
+				mongoTemplate.insert(chatMessageBucket);
+			} catch (DuplicateKeyException e) {
+				// 이전 실행이 bucket 저장 후 원본 삭제 전에 멈춘 경우, 저장된 bucket 에 들어 있는 원본만 지움
+				chatMessageBucket = mongoTemplate.findById(chatMessageBucket.getId(), ChatMessageBucket.class);
+				if (chatMessageBucket == null || !sameMessages(chatMessageBucket, bucketMessageList)) {
+					log.warn("Chat message bucket {} does not match its source messages, skipping room {}",
+						bucketMessageList.get(0).getId(), roomId);
+					break;
+				}
+				log.info("Chat message bucket {} already exists, removing its source messages",
+					chatMessageBucket.getId());
+			}
+			moved += removeSources(chatMessageBucket);
+		}
+		return moved;
+	}
+
+	private static boolean sameMessages(ChatMessageBucket chatMessageBucket, List<ChatMessage> chatMessageList) {
+		return chatMessageBucket.getChatMessages()
+			.stream()
+			.map(ChatMessageBucketItem::getChatMessageId)
+			.toList()
+			.equals(chatMessageList.stream().map(ChatMessage::getId).toList());
+	}
+
+	// bucket 에 들어간 내용 그대로인 원본은 한 번에 지우고, 그 사이 수정된 원본은 하나씩 지우면서 지운 내용을 bucket 에 반영
+	// 수정은 chat_message 에 먼저 시도하고 없으면 bucket 에 하므로, 원본을 지운 뒤의 수정은 bucket 에 바로 들어감
+	private int removeSources(ChatMessageBucket chatMessageBucket) {
+		Map<String, LocalDateTime> bucketedUpdatedAtMap = new HashMap<>();
+		chatMessageBucket.getChatMessages()
+			.forEach(item -> bucketedUpdatedAtMap.put(item.getChatMessageId(), item.getUpdatedAt()));
+		List<Criteria> unchangedList = bucketedUpdatedAtMap.entrySet()
+			.stream()
+			.map(entry -> Criteria.where("_id").is(entry.getKey()).and("updatedAt").is(entry.getValue()))
+			.toList();
+		int removed = (int)mongoTemplate.remove(Query.query(new Criteria().orOperator(unchangedList)),
+			ChatMessage.class).getDeletedCount();
+		if (removed == bucketedUpdatedAtMap.size()) {
+			return removed;
+		}
+		Query editedQuery = Query.query(Criteria.where("_id").in(bucketedUpdatedAtMap.keySet()));
+		editedQuery.fields().include("_id");
+		for (ChatMessage edited : mongoTemplate.find(editedQuery, ChatMessage.class)) {
+			ChatMessage removedChatMessage = mongoTemplate.findAndRemove(
+				Query.query(Criteria.where("_id").is(edited.getId())), ChatMessage.class);
+			if (removedChatMessage != null) {
+				mergeIntoBucket(chatMessageBucket.getId(), removedChatMessage,
+					bucketedUpdatedAtMap.get(removedChatMessage.getId()));
+				removed++;
+			}
+		}
+		return removed;
+	}
+
+	// bucket 의 메세지가 저장 당시 그대로일 때만 반영 (원본을 지운 뒤 bucket 에 들어간 수정을 덮어쓰지 않음)
+	private void mergeIntoBucket(String bucketId, ChatMessage chatMessage, LocalDateTime bucketedUpdatedAt) {
+		Update update = new Update().set("chatMessages.$[item].messageType", chatMessage.getMessageType())
+			.set("chatMessages.$[item].message", chatMessage.getMessage())
+			.set("chatMessages.$[item].updatedAt", chatMessage.getUpdatedAt())
+			.filterArray(Criteria.where("item.chatMessageId")
+				.is(chatMessage.getId())
+				.and("item.updatedAt")
+				.is(bucketedUpdatedAt));
+		mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(bucketId)), update, ChatMessageBucket.class);
+	}
+}
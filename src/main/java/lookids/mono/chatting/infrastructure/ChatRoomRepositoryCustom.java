@@ -1,8 +1,25 @@
 package lookids.mono.chatting.infrastructure;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import lookids.mono.chatting.dto.in.ChatRoomSummaryUpdateDto;
 import lookids.mono.chatting.domain.ChatRoom;
 import lookids.mono.common.utils.CursorPage;
 
 public interface ChatRoomRepositoryCustom {
 	CursorPage<ChatRoom> getChatRoom(String roomId, String lastId, Integer pageSize, Integer page);
+
+	// 채팅방 참여자 userId 목록 (없는 채팅방이면 빈 목록)
+	List<String> findParticipantIdList(String roomId);
+
+	// 보낸 사람에게 바로 보여야 하는 요약(마지막 메세지, 정렬 기준 시각)만 바로 반영
+	void updateLastChatMessage(String roomId, String lastChatMessageAt, LocalDateTime updatedAt);
+
+	// 채팅방별로 모아 둔 메세지 요약을 bulk 로 반영
+	void bulkUpdateSummary(Collection<ChatRoomSummaryUpdateDto> chatRoomSummaryUpdateDtoList);
+
+	// 참여자 한 명의 입장/퇴장 상태와 읽음 위치만 갱신, 채팅방에 없는 사용자면 null
+	ChatRoom updateParticipantPresence(String roomId, String userId, String lastReadChatMessage, boolean entered);
 }
@@ -1,17 +1,24 @@
 package lookids.mono.chatting.infrastructure;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import org.bson.types.ObjectId;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lookids.mono.chatting.domain.ChatRoom;
+import lookids.mono.chatting.domain.Participant;
+import lookids.mono.chatting.dto.in.ChatRoomSummaryUpdateDto;
 import lookids.mono.common.utils.CursorPage;
 
 @Slf4j
@@ -45,4 +52,90 @@ public class ChatRoomRepositoryImpl implements ChatRoomRepositoryCustom {
 
 		return new CursorPage<>(chatRoom, nextCursor, hasNext, pageSize, page);
 	}
+
+	@Override
+	public List<String> findParticipantIdList(String roomId) {
+		Query query = Query.query(Criteria.where("_id").is(roomId));
+		query.fields().include("participants.userId");
+		ChatRoom chatRoom = mongoTemplate.findOne(query, ChatRoom.class);
+		if (chatRoom == null || chatRoom.getParticipants() == null) {
+			return List.of();
+		}
+		return chatRoom.getParticipants().stream().map(Participant::getUserId).toList();
+	}
+
+	@Override
+	public void updateLastChatMessage(String roomId, String lastChatMessageAt, LocalDateTime updatedAt) {
+		// 다른 노드가 더 나중 메세지를 이미 반영했으면 되돌리지 않음
+		// 읽음 위치는 여기서 바꾸지 않음 (먼저 바꾸면 같은 window 의 안 읽은 수 증가분이 읽음 처리된 것으로 보고 빠짐)
+		Query query = Query.query(Criteria.where("_id")
+			.is(roomId)
+			.orOperator(Criteria.where("updatedAt").is(null), Criteria.where("updatedAt").lt(updatedAt)));
+		Update update = new Update().set("lastChatMessageAt", lastChatMessageAt).set("updatedAt", updatedAt);
+		mongoTemplate.updateFirst(query, update, ChatRoom.class);
+	}
+
+	@Override
+	public void bulkUpdateSummary(Collection<ChatRoomSummaryUpdateDto> chatRoomSummaryUpdateDtoList) {
+		if (chatRoomSummaryUpdateDtoList.isEmpty()) {
+			return;
+		}
+		// 채팅방마다 updateOne 하나: 증가분은 $inc, 마지막 읽은 메세지는 $set 이라 다른 쓰기와 섞여도 유실되지 않음
+		// 다른 노드에서 입장/퇴장으로 그 이후까지 읽음 처리된 참여자에게는 늦게 도착한 증가분/읽음 위치를 반영하지 않음
+		BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatRoom.class);
+		for (ChatRoomSummaryUpdateDto chatRoomSummaryUpdateDto : chatRoomSummaryUpdateDtoList) {
+			// 정렬 기준 시각은 $max 로 올리기만 하므로 다른 노드가 바로 반영한 더 나중 메세지를 되돌리지 않음
+			Update update = new Update().max("updatedAt", chatRoomSummaryUpdateDto.getUpdatedAt());
+			if (chatRoomSummaryUpdateDto.getLastChatMessageAt() != null) { // 바로 반영에 실패한 마지막 메세지
+				update.set("lastChatMessageAt", chatRoomSummaryUpdateDto.getLastChatMessageAt());
+			}
+			int index = 0;
+			for (String userId : chatRoomSummaryUpdateDto.getParticipantIdSet()) {
+				Long unreadDelta = chatRoomSummaryUpdateDto.getUnreadDeltaMap().get(userId);
+				if (unreadDelta != null) { // 사용하지 않는 array filter 는 오류이므로 있는 값만
+					String identifier = "u" + index++;
+					update.inc("participants.$[" + identifier + "].unreadCount", unreadDelta);
+					update.filterArray(readBefore(identifier, userId,
+						chatRoomSummaryUpdateDto.getFirstUnreadChatMessageMap().get(userId)));
+				}
+				String lastReadChatMessage = chatRoomSummaryUpdateDto.getLastReadChatMessageMap().get(userId);
+				if (lastReadChatMessage != null) {
+					String identifier = "r" + index++;
+					update.set("participants.$[" + identifier + "].lastReadChatMessage", lastReadChatMessage);
+					update.filterArray(readBefore(identifier, userId, lastReadChatMessage));
+				}
+			}
+			bulkOperations.updateOne(Query.query(Criteria.where("_id").is(chatRoomSummaryUpdateDto.getRoomId())),
+				update);
+		}
+		bulkOperations.execute();
+	}
+
+	// userId 참여자 중 chatMessageId 를 아직 읽지 않은 경우만 (chatMessageId 는 ObjectId 문자열이라 문자열 비교가 시간 순서)
+	private static Criteria readBefore(String identifier, String userId, String chatMessageId) {
+		return Criteria.where(identifier + ".userId")
+			.is(userId)
+			.orOperator(Criteria.where(identifier + ".lastReadChatMessage").is(null),
+				Criteria.where(identifier + ".lastReadChatMessage").lt(chatMessageId));
+	}
+
+	@Override
+	public ChatRoom updateParticipantPresence(String roomId, String userId, String lastReadChatMessage,
+		boolean entered) {
+		// 참여자 한 명의 필드만 바꾸므로 다른 참여자의 안 읽은 수 증가와 섞여도 덮어쓰지 않음
+		LocalDateTime now = LocalDateTime.now();
+		Update update = new Update().set("participants.$[me].lastLeaveTime", now)
+			.set("participants.$[me].isOnline", entered)
+			.set("participants.$[me].unreadCount", 0L)
+			.filterArray(Criteria.where("me.userId").is(userId));
+		if (entered) {
+			update.set("participants.$[me].lastEnterTime", now);
+		}
+		if (lastReadChatMessage != null) {
+			update.set("participants.$[me].lastReadChatMessage", lastReadChatMessage);
+		}
+		return mongoTemplate.findAndModify(
+			Query.query(Criteria.where("_id").is(roomId).and("participants.userId").is(userId)), update,
+			FindAndModifyOptions.options().returnNew(true), ChatRoom.class);
+	}
 }
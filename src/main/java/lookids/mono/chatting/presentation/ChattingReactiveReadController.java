@@ -4,8 +4,10 @@ import java.time.Duration;
 import java.util.concurrent.TimeoutException;
 
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -44,9 +46,13 @@ public class ChattingReactiveReadController {
 	}
 
 	@GetMapping(value = "/reactive/{roomId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-	public Flux<ChattingResponseVo> readReactiveNewChatMessageByRoomId(@PathVariable String roomId) {
-		return chattingService.readReactiveChatMessageByRoomId(roomId)
+	public Flux<ServerSentEvent<ChattingResponseVo>> readReactiveNewChatMessageByRoomId(@PathVariable String roomId,
+		@RequestHeader(value = "uuid", required = false) String uuid,
+		@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+		// 이벤트 id 로 메세지 id 를 보내서 재연결 시 Last-Event-ID 이후 메세지부터 이어받도록 함
+		return chattingService.readReactiveChatMessageByRoomId(roomId, uuid, lastEventId)
 			.map(ChattingResponseDto::toVo)
+			.map(chattingResponseVo -> ServerSentEvent.builder(chattingResponseVo).id(chattingResponseVo.getId()).build())
 			.subscribeOn(Schedulers.boundedElastic())
 			.timeout(Duration.ofMinutes(1)) // 1분 동안 새로운 메시지가 없으면 연결 종료
 			.doOnError(throwable -> {
@@ -1,5 +1,6 @@
 package lookids.mono.commentread.adaptor.in.kafka.config;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -10,6 +11,7 @@ import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
@@ -21,6 +23,9 @@ import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
 import lookids.mono.comment.vo.out.CommentKafkaVo;
 import lookids.mono.comment.vo.out.ReplyKafkaVo;
 import lookids.mono.commentread.adaptor.in.kafka.event.CommentEvent;
@@ -28,6 +33,7 @@ import lookids.mono.commentread.adaptor.in.kafka.event.NicknameEvent;
 import lookids.mono.commentread.adaptor.in.kafka.event.ProfileImageEvent;
 import lookids.mono.commentread.adaptor.in.kafka.event.ReplyEvent;
 import lookids.mono.commentread.adaptor.in.kafka.event.UserProfileEvent;
+import lookids.mono.common.kafka.KafkaJoinBuffer;
 
 @EnableKafka
 @Configuration
@@ -36,6 +42,26 @@ public class CommentReadKafkaConfig {
 	@Value("${spring.kafka.bootstrap-servers}")
 	private String bootstrapServers;
 
+	@Value("${comment-read.join.ttl:10m}")
+	private Duration joinTtl;
+
+	@Value("${comment-read.join.spill:false}")
+	private boolean joinSpill;
+
+	@Bean
+	public KafkaJoinBuffer<CommentEvent, UserProfileEvent> commentJoinBuffer(MeterRegistry meterRegistry,
+		StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper) {
+		return new KafkaJoinBuffer<>("comment-create", joinTtl, CommentEvent.class, UserProfileEvent.class,
+			meterRegistry, joinSpill ? stringRedisTemplate : null, objectMapper);
+	}
+
+	@Bean
+	public KafkaJoinBuffer<ReplyEvent, UserProfileEvent> replyJoinBuffer(MeterRegistry meterRegistry,
+		StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper) {
+		return new KafkaJoinBuffer<>("reply-create", joinTtl, ReplyEvent.class, UserProfileEvent.class,
+			meterRegistry, joinSpill ? stringRedisTemplate : null, objectMapper);
+	}
+
 	private Map<String, Object> commonConsumerProps(String groupId) {
 		Map<String, Object> props = new HashMap<>();
 		props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
@@ -1,9 +1,8 @@
 package lookids.mono.commentread.adaptor.in.kafka.controller;
 
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
-
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
@@ -17,6 +16,8 @@ import lookids.mono.commentread.application.mapper.CommentReadDtoMapper;
 import lookids.mono.commentread.application.port.in.CommentDeleteUseCase;
 import lookids.mono.commentread.application.port.in.CommentReadCreateUseCase;
 import lookids.mono.commentread.application.port.in.UserProfileUpdateUseCase;
+import lookids.mono.common.kafka.KafkaJoinBuffer;
+import lookids.mono.common.kafka.KafkaJoinBuffer.Joined;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -31,9 +32,9 @@ public class KafkaConsumerController {
 
 	private final CommentReadDtoMapper commentReadDtoMapper;
 
-	private final ConcurrentHashMap<String, CompletableFuture<CommentEvent>> commentEventFutureMap = new ConcurrentHashMap<>();
-	private final ConcurrentHashMap<String, CompletableFuture<UserProfileEvent>> userProfileEventFutureMap = new ConcurrentHashMap<>();
-	private final ConcurrentHashMap<String, CompletableFuture<ReplyEvent>> replyCommentEventFutureMap = new ConcurrentHashMap<>(); // 대댓글을 위한 맵 추가
+	// 댓글/대댓글 이벤트와 userprofile 응답을 commentCode 기준으로 짝지음
+	private final KafkaJoinBuffer<CommentEvent, UserProfileEvent> commentJoinBuffer;
+	private final KafkaJoinBuffer<ReplyEvent, UserProfileEvent> replyJoinBuffer;
 
 	@KafkaListener(topics = "${profile.nickname.update}", groupId = "${group-id.commentread}", containerFactory = "nicknameCommentListenerContainerFactory")
 	public void consumeNicknameEvent(NicknameEvent nicknameEvent) {
@@ -47,40 +48,26 @@ public class KafkaConsumerController {
 
 	@KafkaListener(topics = "${comment.create}", groupId = "${group-id.commentread}", containerFactory = "commentReadListenerContainerFactory")
 	public void consumeCommentEvent(CommentEvent commentEvent) {
-		String userUuid = commentEvent.getUuid();
-		CompletableFuture<CommentEvent> feedEventFuture = commentEventFutureMap.computeIfAbsent(userUuid,
-			key -> new CompletableFuture<>());
-
-		// CompletableFuture가 완료되었음을 나타냅니다.
-		feedEventFuture.complete(commentEvent);
 		log.info("consumeCommentEvent: {}", commentEvent);
-
-		checkAndCreateCommentEventListener(userUuid);
+		commentJoinBuffer.offerLeft(commentEvent.getCommentCode(), commentEvent).ifPresent(this::createCommentRead);
 	}
 
 	@KafkaListener(topics = "${comment.join}", groupId = "${group-id.commentread}", containerFactory = "userProfileCommentListenerContainerFactory")
-	public void consumeCommentJoinEvent(UserProfileEvent userProfileEvent) {
-		String userUuid = userProfileEvent.getUuid();
-		CompletableFuture<UserProfileEvent> userProfileEventFuture = userProfileEventFutureMap.computeIfAbsent(userUuid,
-			key -> new CompletableFuture<>());
-
-		userProfileEventFuture.complete(userProfileEvent);
+	public void consumeCommentJoinEvent(UserProfileEvent userProfileEvent,
+		@Header(name = KafkaHeaders.RECEIVED_KEY, required = false) String commentCode) {
 		log.info("userProfileEvent: {}", userProfileEvent);
-
-		checkAndCreateCommentEventListener(userUuid);
+		if (commentCode == null) {
+			log.warn("comment join event without commentCode key dropped: {}", userProfileEvent);
+			return;
+		}
+		commentJoinBuffer.offerRight(commentCode, userProfileEvent).ifPresent(this::createCommentRead);
 	}
 
 	// 대댓글을 처리하는 리스너
 	@KafkaListener(topics = "${reply.create}", groupId = "${group-id.commentread}", containerFactory = "replyReadListenerContainerFactory")
 	public void consumeReplyEvent(ReplyEvent replyEvent) {
-		String userUuid = replyEvent.getUuid();
-		CompletableFuture<ReplyEvent> replyEventFuture = replyCommentEventFutureMap.computeIfAbsent(userUuid,
-			key -> new CompletableFuture<>());
-
-		replyEventFuture.complete(replyEvent);
 		log.info("consumeReplyCommentEvent: {}", replyEvent);
-
-		checkAndCreateReplyEventListener(userUuid);
+		replyJoinBuffer.offerLeft(replyEvent.getCommentCode(), replyEvent).ifPresent(this::createReplyRead);
 	}
 
 	@KafkaListener(topics = "${comment.delete}", groupId = "${group-id.commentread}", containerFactory = "commentReadListenerContainerFactory")
@@ -96,52 +83,25 @@ public class KafkaConsumerController {
 	}
 
 	@KafkaListener(topics = "${reply.join}", groupId = "${group-id.commentread}", containerFactory = "userProfileCommentListenerContainerFactory")
-	public void consumeReplyJoinEvent(UserProfileEvent userProfileEvent) {
-		String userUuid = userProfileEvent.getUuid();
-		CompletableFuture<UserProfileEvent> userProfileEventFuture = userProfileEventFutureMap.computeIfAbsent(userUuid,
-			key -> new CompletableFuture<>());
-
-		userProfileEventFuture.complete(userProfileEvent);
+	public void consumeReplyJoinEvent(UserProfileEvent userProfileEvent,
+		@Header(name = KafkaHeaders.RECEIVED_KEY, required = false) String commentCode) {
 		log.info("createUserProfile: {}", userProfileEvent);
-
-		checkAndCreateReplyEventListener(userUuid);
-	}
-
-	private void checkAndCreateCommentEventListener(String userUuid) {
-		CompletableFuture<UserProfileEvent> userProfileEventFuture = userProfileEventFutureMap.get(userUuid);
-		CompletableFuture<CommentEvent> commentEventFuture = commentEventFutureMap.get(userUuid);
-
-		if (userProfileEventFuture != null && commentEventFuture != null) {
-			userProfileEventFuture.thenCombine(commentEventFuture, (userProfileEvent, commentEvent) -> {
-				// 부모 댓글 처리
-				commentReadCreateUseCase.createCommentRead(
-					commentReadDtoMapper.toCommentCreateEventDto(commentEvent, userProfileEvent));
-
-				// 작업이 완료되면 `Map`에서 해당 키 제거
-				commentEventFutureMap.remove(userUuid);
-				userProfileEventFutureMap.remove(userUuid);
-
-				return null;
-			});
+		if (commentCode == null) {
+			log.warn("reply join event without commentCode key dropped: {}", userProfileEvent);
+			return;
 		}
+		replyJoinBuffer.offerRight(commentCode, userProfileEvent).ifPresent(this::createReplyRead);
 	}
 
-	private void checkAndCreateReplyEventListener(String userUuid) {
-		CompletableFuture<UserProfileEvent> userProfileEventFuture = userProfileEventFutureMap.get(userUuid);
-		CompletableFuture<ReplyEvent> replyEventFuture = replyCommentEventFutureMap.get(userUuid); // 대댓글 처리
-
-		if (userProfileEventFuture != null && replyEventFuture != null) {
-			userProfileEventFuture.thenCombine(replyEventFuture, (userProfileEvent, replyEvent) -> {
-				// 대댓글 처리
-				commentReadCreateUseCase.createReplyRead(
-					commentReadDtoMapper.toReplyCreateEventDto(replyEvent, userProfileEvent));
-
-				// 작업이 완료되면 `Map`에서 해당 키 제거
-				replyCommentEventFutureMap.remove(userUuid);
-				userProfileEventFutureMap.remove(userUuid);
+	private void createCommentRead(Joined<CommentEvent, UserProfileEvent> joined) {
+		// 부모 댓글 처리
+		commentReadCreateUseCase.createCommentRead(
+			commentReadDtoMapper.toCommentCreateEventDto(joined.left(), joined.right()));
+	}
 
-				return null;
-			});
-		}
+	private void createReplyRead(Joined<ReplyEvent, UserProfileEvent> joined) {
+		// 대댓글 처리
+		commentReadCreateUseCase.createReplyRead(
+			commentReadDtoMapper.toReplyCreateEventDto(joined.left(), joined.right()));
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,53 @@
+package lookids.mono.common.config;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+	// Kafka 응답 이후의 Mongo 조회를 servlet 스레드 밖에서 수행
+	@Bean
+	public Executor feedReadExecutor(@Value("${feed-read.executor.core-size:16}") int coreSize,
+		@Value("${feed-read.executor.max-size:64}") int maxSize) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(coreSize);
+		executor.setMaxPoolSize(maxSize);
+		executor.setQueueCapacity(1000);
+		executor.setThreadNamePrefix("feed-read-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.initialize();
+		return executor;
+	}
+
+	// 알림 fan-out chunk 를 병렬로 처리, 큐가 차면 listener 스레드가 직접 처리해 속도를 맞춤
+	@Bean
+	public Executor notificationFanOutExecutor(@Value("${notification.fan-out.parallelism:8}") int parallelism) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(parallelism);
+		executor.setMaxPoolSize(parallelism);
+		executor.setQueueCapacity(parallelism * 4);
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setThreadNamePrefix("notification-fan-out-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.initialize();
+		return executor;
+	}
+
+	// dead-letter 재발행은 한 번에 하나씩 속도를 맞춰 진행, 이미 진행 중이면 다음 요청은 큐에서 대기
+	@Bean
+	public Executor notificationDeadLetterReplayExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setQueueCapacity(10);
+		executor.setThreadNamePrefix("notification-dlq-replay-");
+		executor.initialize();
+		return executor;
+	}
+}
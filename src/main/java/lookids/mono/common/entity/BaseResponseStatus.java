@@ -92,6 +92,8 @@ public enum BaseResponseStatus {
 		"유저의 알림 설정이 존재하지 않습니다."), EXIST_NOTIFICATION_SETTING(HttpStatus.BAD_REQUEST, false, 5002,
 		"유저의 알림 설정이 이미 존재합니다."), NO_EXIST_NOTIFICATION(HttpStatus.NOT_FOUND, false, 5003,
 		"존재하지 않는 알림입니다."), CANNOT_SHARE(HttpStatus.BAD_REQUEST, false, 5004, "공유할 수 없는 유저입니다."),
+	INVALID_NOTIFICATION_CURSOR(HttpStatus.BAD_REQUEST, false, 5005, "유효하지 않은 커서입니다."),
+	INVALID_NOTIFICATION_DEAD_LETTER_FILTER(HttpStatus.BAD_REQUEST, false, 5006, "유효하지 않은 재처리 조회 조건입니다."),
 
 	/**
 	 * 6000: gpt-api error
@@ -104,6 +106,7 @@ public enum BaseResponseStatus {
 
 	//Feed
 	NO_EXIST_FEED(HttpStatus.CONFLICT, false, 4005, "피드가 존재하지 않습니다."),
+	INVALID_FEED_CURSOR(HttpStatus.BAD_REQUEST, false, 4006, "유효하지 않은 커서입니다."),
 
 	//policy
 	NO_EXIST_POLICY(HttpStatus.CONFLICT, false, 4007, "정책이 존재하지 않습니다."),
@@ -21,6 +21,7 @@ import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
+import lookids.mono.chatting.dto.in.ChatRoomDeleteKafkaDto;
 import lookids.mono.chatting.dto.in.UserKafkaRequestDto;
 import lookids.mono.chatting.dto.out.NotificationKafkaRequestDto;
 
@@ -78,4 +79,37 @@ public class ChattingKafkaConfig {
 		return factory;
 	}
 
-}
\ No newline at end of file
+	// 채팅방 삭제 broadcast (노드마다 random groupId 로 구독)
+	@Bean
+	public ProducerFactory<String, ChatRoomDeleteKafkaDto> chatRoomDeleteProducerFactory() {
+		Map<String, Object> configProps = new HashMap<>();
+		configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+		configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+		configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+		return new DefaultKafkaProducerFactory<>(configProps);
+	}
+
+	@Bean
+	public KafkaTemplate<String, ChatRoomDeleteKafkaDto> chatRoomDeleteKafkaTemplate() {
+		return new KafkaTemplate<>(chatRoomDeleteProducerFactory());
+	}
+
+	@Bean
+	public ConsumerFactory<String, ChatRoomDeleteKafkaDto> chatRoomDeleteConsumerFactory() {
+		Map<String, Object> props = new HashMap<>();
+		props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+		props.put(ConsumerConfig.GROUP_ID_CONFIG, "chatting-member-cache");
+		props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+		props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+		props.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
+		return new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(),
+			new ErrorHandlingDeserializer<>(new JsonDeserializer<>(ChatRoomDeleteKafkaDto.class, false)));
+	}
+
+	@Bean
+	public ConcurrentKafkaListenerContainerFactory<String, ChatRoomDeleteKafkaDto> chatRoomDeleteEventListenerContainerFactory() {
+		ConcurrentKafkaListenerContainerFactory<String, ChatRoomDeleteKafkaDto> factory = new ConcurrentKafkaListenerContainerFactory<>();
+		factory.setConsumerFactory(chatRoomDeleteConsumerFactory());
+		return factory;
+	}
+}
@@ -1,7 +1,9 @@
 package lookids.mono.common.kafka;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
@@ -10,6 +12,7 @@ import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
@@ -20,12 +23,21 @@ import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.util.HashedWheelTimer;
 import lookids.mono.feedread.dto.in.BlockKafkaDto;
+import lookids.mono.feedread.dto.in.BlockUpdateKafkaDto;
 import lookids.mono.feedread.dto.in.FeedDeleteKafkaDto;
+import lookids.mono.feedread.dto.in.FeedDetailEvictKafkaDto;
 import lookids.mono.feedread.dto.in.FeedKafkaDto;
+import lookids.mono.feedread.dto.in.FollowEventKafkaDto;
+import lookids.mono.feedread.dto.in.PetCodeListKafkaDto;
 import lookids.mono.feedread.dto.in.PetImageKafkaDto;
-import lookids.mono.feedread.dto.in.PetKafkaDto;
+import lookids.mono.feedread.dto.in.PetImageListKafkaDto;
 import lookids.mono.feedread.dto.in.TargetKafkaDto;
 import lookids.mono.feedread.dto.in.UserImageKafkaDto;
 import lookids.mono.feedread.dto.in.UserKafkaDto;
@@ -33,6 +45,7 @@ import lookids.mono.feedread.dto.in.UserNickNameKafkaDto;
 import lookids.mono.feedread.dto.in.UuidKafkaDto;
 import lookids.mono.feedread.dto.out.FavoriteResponseDto;
 import lookids.mono.feedread.dto.out.FollowResponseDto;
+import lookids.mono.feedread.dto.out.FollowerResponseDto;
 
 @EnableKafka
 @Configuration
@@ -41,6 +54,54 @@ public class FeedReadKafkaConfig {
 	@Value("${spring.kafka.bootstrap-servers}")
 	private String bootstrapServer;
 
+	@Value("${feed-read.reply-timeout:5s}")
+	private Duration replyTimeout;
+
+	@Value("${feed-read.join.ttl:10m}")
+	private Duration joinTtl;
+
+	@Value("${feed-read.join.spill:false}")
+	private boolean joinSpill;
+
+	//feed-create + userprofile join
+	@Bean
+	public KafkaJoinBuffer<FeedKafkaDto, UserKafkaDto> feedJoinBuffer(MeterRegistry meterRegistry,
+		StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper) {
+		return new KafkaJoinBuffer<>("feed-create", joinTtl, FeedKafkaDto.class, UserKafkaDto.class, meterRegistry,
+			joinSpill ? stringRedisTemplate : null, objectMapper);
+	}
+
+	//request-reply
+	@Bean(destroyMethod = "stop")
+	public HashedWheelTimer replyTimeoutTimer() {
+		return new HashedWheelTimer(new CustomizableThreadFactory("reply-timeout-"), 10, TimeUnit.MILLISECONDS);
+	}
+
+	@Bean
+	public ReplyCorrelator<FavoriteResponseDto> favoriteReplyCorrelator(MeterRegistry meterRegistry) {
+		return new ReplyCorrelator<>("favorite", replyTimeoutTimer(), replyTimeout, meterRegistry);
+	}
+
+	@Bean
+	public ReplyCorrelator<FollowResponseDto> followReplyCorrelator(MeterRegistry meterRegistry) {
+		return new ReplyCorrelator<>("follow", replyTimeoutTimer(), replyTimeout, meterRegistry);
+	}
+
+	@Bean
+	public ReplyCorrelator<BlockKafkaDto> blockReplyCorrelator(MeterRegistry meterRegistry) {
+		return new ReplyCorrelator<>("block", replyTimeoutTimer(), replyTimeout, meterRegistry);
+	}
+
+	@Bean
+	public ReplyCorrelator<FollowerResponseDto> followerReplyCorrelator(MeterRegistry meterRegistry) {
+		return new ReplyCorrelator<>("follower", replyTimeoutTimer(), replyTimeout, meterRegistry);
+	}
+
+	@Bean
+	public ReplyCorrelator<PetImageListKafkaDto> petImageReplyCorrelator(MeterRegistry meterRegistry) {
+		return new ReplyCorrelator<>("petImage", replyTimeoutTimer(), replyTimeout, meterRegistry);
+	}
+
 	//producer
 	@Bean
 	public Map<String, Object> feedReadProducerConfigs() {
@@ -71,6 +132,16 @@ public class FeedReadKafkaConfig {
 		return new KafkaTemplate<>(FollowUuidNotification());
 	}
 
+	@Bean
+	public ProducerFactory<String, UuidKafkaDto> FollowerUuidNotification() {
+		return new DefaultKafkaProducerFactory<>(feedReadProducerConfigs());
+	}
+
+	@Bean
+	public KafkaTemplate<String, UuidKafkaDto> followerRequestKafkaTemplate() {
+		return new KafkaTemplate<>(FollowerUuidNotification());
+	}
+
 	@Bean
 	public ProducerFactory<String, UuidKafkaDto> BlockUuidNotification() {
 		return new DefaultKafkaProducerFactory<>(feedReadProducerConfigs());
@@ -82,13 +153,23 @@ public class FeedReadKafkaConfig {
 	}
 
 	@Bean
-	public ProducerFactory<String, PetKafkaDto> petProfileNotification() {
+	public ProducerFactory<String, PetCodeListKafkaDto> petProfileListNotification() {
 		return new DefaultKafkaProducerFactory<>(feedReadProducerConfigs());
 	}
 
 	@Bean
-	public KafkaTemplate<String, PetKafkaDto> petKafkaTemplate() {
-		return new KafkaTemplate<>(petProfileNotification());
+	public KafkaTemplate<String, PetCodeListKafkaDto> petListKafkaTemplate() {
+		return new KafkaTemplate<>(petProfileListNotification());
+	}
+
+	@Bean
+	public ProducerFactory<String, FeedDetailEvictKafkaDto> feedDetailEvictProducerFactory() {
+		return new DefaultKafkaProducerFactory<>(feedReadProducerConfigs());
+	}
+
+	@Bean
+	public KafkaTemplate<String, FeedDetailEvictKafkaDto> feedDetailEvictKafkaTemplate() {
+		return new KafkaTemplate<>(feedDetailEvictProducerFactory());
 	}
 
 	// @Bean
@@ -189,6 +270,36 @@ public class FeedReadKafkaConfig {
 		return createListenerContainerFactory(followConsumerFactory());
 	}
 
+	@Bean
+	public ConsumerFactory<String, FollowerResponseDto> followerResponseConsumerFactory() {
+		return createConsumerFactory(FollowerResponseDto.class, "feed-read-group");
+	}
+
+	@Bean
+	public ConcurrentKafkaListenerContainerFactory<String, FollowerResponseDto> followerEventListenerContainerFactory() {
+		return createListenerContainerFactory(followerResponseConsumerFactory());
+	}
+
+	@Bean
+	public ConsumerFactory<String, FollowEventKafkaDto> followGraphConsumerFactory() {
+		return createConsumerFactory(FollowEventKafkaDto.class, "feed-read-group");
+	}
+
+	@Bean
+	public ConcurrentKafkaListenerContainerFactory<String, FollowEventKafkaDto> followGraphEventListenerContainerFactory() {
+		return createListenerContainerFactory(followGraphConsumerFactory());
+	}
+
+	@Bean
+	public ConsumerFactory<String, BlockUpdateKafkaDto> blockGraphConsumerFactory() {
+		return createConsumerFactory(BlockUpdateKafkaDto.class, "feed-read-group");
+	}
+
+	@Bean
+	public ConcurrentKafkaListenerContainerFactory<String, BlockUpdateKafkaDto> blockGraphEventListenerContainerFactory() {
+		return createListenerContainerFactory(blockGraphConsumerFactory());
+	}
+
 	@Bean
 	public ConsumerFactory<String, FeedDeleteKafkaDto> DeleteConsumerFactory() {
 		return createConsumerFactory(FeedDeleteKafkaDto.class, "feed-read-group");
@@ -199,6 +310,16 @@ public class FeedReadKafkaConfig {
 		return createListenerContainerFactory(DeleteConsumerFactory());
 	}
 
+	@Bean
+	public ConsumerFactory<String, FeedDetailEvictKafkaDto> feedDetailEvictConsumerFactory() {
+		return createConsumerFactory(FeedDetailEvictKafkaDto.class, "feed-read-detail-cache");
+	}
+
+	@Bean
+	public ConcurrentKafkaListenerContainerFactory<String, FeedDetailEvictKafkaDto> feedDetailEvictEventListenerContainerFactory() {
+		return createListenerContainerFactory(feedDetailEvictConsumerFactory());
+	}
+
 	@Bean
 	public ConsumerFactory<String, BlockKafkaDto> userBlockConsumerFactory() {
 		return createConsumerFactory(BlockKafkaDto.class, "feed-read-group");
@@ -210,13 +331,13 @@ public class FeedReadKafkaConfig {
 	}
 
 	@Bean
-	public ConsumerFactory<String, PetImageKafkaDto> petConsumerFactory() {
-		return createConsumerFactory(PetImageKafkaDto.class, "feed-read-group");
+	public ConsumerFactory<String, PetImageListKafkaDto> petListConsumerFactory() {
+		return createConsumerFactory(PetImageListKafkaDto.class, "feed-read-group");
 	}
 
 	@Bean
-	public ConcurrentKafkaListenerContainerFactory<String, PetImageKafkaDto> petEventListenerContainerFactory() {
-		return createListenerContainerFactory(petConsumerFactory());
+	public ConcurrentKafkaListenerContainerFactory<String, PetImageListKafkaDto> petListEventListenerContainerFactory() {
+		return createListenerContainerFactory(petListConsumerFactory());
 	}
 
 	@Bean
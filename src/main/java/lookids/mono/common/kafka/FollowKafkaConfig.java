@@ -22,6 +22,7 @@ import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import lookids.mono.followblock.block.dto.in.KafkaBlockRequestDto;
 import lookids.mono.followblock.block.dto.out.KafkaBlockResponseDto;
+import lookids.mono.followblock.block.dto.out.KafkaBlockUpdateDto;
 import lookids.mono.followblock.follow.dto.in.KafkaFollowDto;
 import lookids.mono.followblock.follow.dto.in.KafkaFollowRequestDto;
 import lookids.mono.followblock.follow.dto.in.KafkaUserUpdateRequestDto;
@@ -84,6 +85,16 @@ public class FollowKafkaConfig {
 		return new KafkaTemplate<>(blockKafkaResponseDtoProducerFactory());
 	}
 
+	@Bean
+	public ProducerFactory<String, KafkaBlockUpdateDto> blockUpdateKafkaProducerFactory() {
+		return new DefaultKafkaProducerFactory<>(followProducerConfigs());
+	}
+
+	@Bean
+	KafkaTemplate<String, KafkaBlockUpdateDto> blockUpdateKafkaTemplate() {
+		return new KafkaTemplate<>(blockUpdateKafkaProducerFactory());
+	}
+
 	@Bean
 	public ConsumerFactory<String, KafkaFollowRequestDto> FeedFollowconsumerFactory() {
 		Map<String, Object> configProps = new HashMap<>();
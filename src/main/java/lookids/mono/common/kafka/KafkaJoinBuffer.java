@@ -0,0 +1,149 @@
+package lookids.mono.common.kafka;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 두 토픽의 이벤트를 이벤트 id 기준으로 짝지어 주는 join buffer
+ * 먼저 도착한 쪽은 TTL 동안 보관하고, 반대쪽이 도착하면 보관하던 값을 꺼내 한 쌍으로 돌려준다.
+ * spill 이 켜져 있으면 보관 위치가 Redis 가 되어 재시작이나 파티션 재할당 후에도 대기 중인 값이 남는다.
+ * (한쪽 확인과 저장은 Lua 스크립트로 한 번에 처리하므로 두 노드가 동시에 받아도 한 번만 짝지어진다.)
+ */
+@Slf4j
+public class KafkaJoinBuffer<L, R> {
+
+	private static final String SPILL_KEY_PREFIX = "KafkaJoin:";
+
+	// KEYS[1] = 내 쪽 키, KEYS[2] = 반대쪽 키, ARGV[1] = 값, ARGV[2] = TTL(ms)
+	private static final RedisScript<String> OFFER_SCRIPT = new DefaultRedisScript<>("""
+		local other = redis.call('GET', KEYS[2])
+		if other then
+			redis.call('DEL', KEYS[2])
+			return other
+		end
+		redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+		return false
+		""", String.class);
+
+	private final String name;
+	private final Duration ttl;
+	private final Class<L> leftType;
+	private final Class<R> rightType;
+	private final Cache<String, JoinSlot<L, R>> buffer;
+	private final StringRedisTemplate spillTemplate;
+	private final ObjectMapper objectMapper;
+	private final Counter joinedCounter;
+	private final Counter expiredCounter;
+
+	public KafkaJoinBuffer(String name, Duration ttl, Class<L> leftType, Class<R> rightType,
+		MeterRegistry meterRegistry, StringRedisTemplate spillTemplate, ObjectMapper objectMapper) {
+		this.name = name;
+		this.ttl = ttl;
+		this.leftType = leftType;
+		this.rightType = rightType;
+		this.spillTemplate = spillTemplate;
+		this.objectMapper = objectMapper;
+		this.joinedCounter = meterRegistry.counter("kafka.join.joined", "buffer", name);
+		this.expiredCounter = meterRegistry.counter("kafka.join.expired", "buffer", name);
+		this.buffer = Caffeine.newBuilder()
+			.expireAfterWrite(ttl)
+			.scheduler(Scheduler.systemScheduler())
+			.<String, JoinSlot<L, R>>removalListener((joinId, slot, cause) -> {
+				if (cause == RemovalCause.EXPIRED) {
+					expiredCounter.increment();
+					log.warn("[{}] join {} expired with only one side: {}", name, joinId, slot);
+				}
+			})
+			.build();
+		Gauge.builder("kafka.join.pending", buffer, Cache::estimatedSize).tag("buffer", name).register(meterRegistry);
+	}
+
+	public Optional<Joined<L, R>> offerLeft(String joinId, L left) {
+		if (spillTemplate != null) {
+			return offerSpill(joinId, "left", "right", left, rightType).map(right -> new Joined<>(left, right));
+		}
+		return offer(joinId, new JoinSlot<>(left, null));
+	}
+
+	public Optional<Joined<L, R>> offerRight(String joinId, R right) {
+		if (spillTemplate != null) {
+			return offerSpill(joinId, "right", "left", right, leftType).map(left -> new Joined<>(left, right));
+		}
+		return offer(joinId, new JoinSlot<>(null, right));
+	}
+
+	private Optional<Joined<L, R>> offer(String joinId, JoinSlot<L, R> arrived) {
+		AtomicReference<JoinSlot<L, R>> completed = new AtomicReference<>();
+		buffer.asMap().compute(joinId, (key, slot) -> {
+			JoinSlot<L, R> merged = slot == null ? arrived : slot.merge(arrived);
+			if (merged.isComplete()) {
+				completed.set(merged);
+				return null;
+			}
+			return merged;
+		});
+		JoinSlot<L, R> slot = completed.get();
+		if (slot == null) {
+			return Optional.empty();
+		}
+		joinedCounter.increment();
+		return Optional.of(new Joined<>(slot.left(), slot.right()));
+	}
+
+	private <T, O> Optional<O> offerSpill(String joinId, String side, String otherSide, T value, Class<O> otherType) {
+		try {
+			String other = spillTemplate.execute(OFFER_SCRIPT,
+				List.of(spillKey(joinId, side), spillKey(joinId, otherSide)), objectMapper.writeValueAsString(value),
+				String.valueOf(ttl.toMillis()));
+			if (other == null) {
+				return Optional.empty();
+			}
+			joinedCounter.increment();
+			return Optional.of(objectMapper.readValue(other, otherType));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("[" + name + "] failed to (de)serialize join value " + joinId, e);
+		}
+	}
+
+	// 양쪽 키가 같은 hash slot 에 있어야 cluster 에서 스크립트가 CROSSSLOT 없이 실행됨
+	private String spillKey(String joinId, String side) {
+		return SPILL_KEY_PREFIX + "{" + name + ":" + joinId + "}:" + side;
+	}
+
+	public long pendingCount() {
+		return buffer.estimatedSize();
+	}
+
+	public record Joined<L, R>(L left, R right) {
+	}
+
+	private record JoinSlot<L, R>(L left, R right) {
+
+		JoinSlot<L, R> merge(JoinSlot<L, R> arrived) {
+			return new JoinSlot<>(arrived.left() != null ? arrived.left() : left,
+				arrived.right() != null ? arrived.right() : right);
+		}
+
+		boolean isComplete() {
+			return left != null && right != null;
+		}
+	}
+}
@@ -16,14 +16,16 @@ import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaAdmin;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
-import org.springframework.util.backoff.FixedBackOff;
 
 import lombok.extern.log4j.Log4j2;
 import lookids.mono.notification.dto.in.NotificationChattingRequestDto;
@@ -32,6 +34,7 @@ import lookids.mono.notification.dto.in.NotificationCommentRequestDto;
 import lookids.mono.notification.dto.in.NotificationFavoriteRequestDto;
 import lookids.mono.notification.dto.in.NotificationFeedRequestDto;
 import lookids.mono.notification.dto.in.NotificationFollowRequestDto;
+import lookids.mono.notification.dto.in.NotificationSseBroadcastDto;
 
 @EnableKafka
 @Configuration
@@ -55,6 +58,27 @@ public class NotificationKafkaConfig {
 	@Value("${consumer-group-id.comment-reply}")
 	private String commentReplyGroupId;
 
+	@Value("${topic.feed.create}")
+	private String feedTopic;
+	@Value("${topic.chatting.create}")
+	private String chattingTopic;
+	@Value("${topic.feed.favorite}")
+	private String feedFavoriteTopic;
+	@Value("${topic.comment.favorite}")
+	private String commentFavoriteTopic;
+	@Value("${topic.follow.create}")
+	private String followTopic;
+	@Value("${topic.comment.create}")
+	private String commentTopic;
+	@Value("${topic.comment.reply.create}")
+	private String commentReplyTopic;
+
+	@Value("${notification.kafka.max-poll-records:200}")
+	private int maxPollRecords;
+	// 파티션 수를 따르되 한 노드의 consumer 스레드 상한
+	@Value("${notification.kafka.max-concurrency:16}")
+	private int maxConcurrency;
+
 	@Bean
 	public DeadLetterPublishingRecoverer deadLetterPublishingRecoverer(
 		KafkaTemplate<String, NotificationFeedRequestDto> kafkaTemplate) {
@@ -64,7 +88,40 @@ public class NotificationKafkaConfig {
 
 	@Bean
 	public DefaultErrorHandler errorHandler(DeadLetterPublishingRecoverer recoverer) {
-		return new DefaultErrorHandler(recoverer, new FixedBackOff(2000L, 5));
+		// 수신자별 실패는 전송 기록에서 재시도하므로 여기서는 이벤트 처리 자체의 실패(저장소 장애 등)만 재시도
+		ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(5);
+		backOff.setInitialInterval(1000L);
+		backOff.setMultiplier(2.0);
+		backOff.setMaxInterval(10000L);
+		return new DefaultErrorHandler(recoverer, backOff);
+	}
+
+	// 알림 리스너 공통: 배치 리스너 + 배치 단위 수동 ack
+	private <T> ConcurrentKafkaListenerContainerFactory<String, T> createBatchListenerContainerFactory(
+		ConsumerFactory<String, T> consumerFactory, int concurrency) {
+		ConcurrentKafkaListenerContainerFactory<String, T> factory = new ConcurrentKafkaListenerContainerFactory<>();
+		factory.setConsumerFactory(consumerFactory);
+		factory.setBatchListener(true);  // 배치 리스너 설정
+		factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL); // 수동 커밋 활성화
+		factory.setConcurrency(concurrency);
+		return factory;
+	}
+
+	// 토픽 파티션 수만큼 consumer 스레드 사용 (파티션보다 많은 스레드는 할당받지 못하고 놀게 됨)
+	private int partitionConcurrency(KafkaAdmin kafkaAdmin, String... topics) {
+		try {
+			int partitions = kafkaAdmin.describeTopics(topics)
+				.values()
+				.stream()
+				.mapToInt(description -> description.partitions().size())
+				.max()
+				.orElse(1);
+			return Math.max(1, Math.min(partitions, maxConcurrency));
+		} catch (Exception e) {
+			log.warn("Failed to describe topics {}, falling back to concurrency 1: {}", String.join(",", topics),
+				e.getMessage());
+			return 1;
+		}
 	}
 
 	@Bean
@@ -91,6 +148,9 @@ public class NotificationKafkaConfig {
 		// Consumer 그룹 ID 설정
 		// 같은 그룹의 consumer들은 토픽의 파티션을 분배하여 메시지를 소비
 		props.put(ConsumerConfig.GROUP_ID_CONFIG, feedGroupId);
+		// 배치 리스너: 한 번의 poll 로 가져올 최대 레코드 수, 오프셋은 배치 처리 후 수동 커밋
+		props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+		props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
 		// 메시지 키의 역직렬화 설정 (String 타입)
 		props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
 		// 메시지 값의 역직렬화 설정 (JSON -> KafkaFeedRequestDto)
@@ -108,10 +168,10 @@ public class NotificationKafkaConfig {
 	}
 
 	@Bean
-	public ConcurrentKafkaListenerContainerFactory<String, NotificationFeedRequestDto> notificationFeedEventListenerContainerFactory() {
+	public ConcurrentKafkaListenerContainerFactory<String, NotificationFeedRequestDto> notificationFeedEventListenerContainerFactory(KafkaAdmin kafkaAdmin) {
 		// @KafkaListener 어노테이션이 사용할 Factory 설정
-		ConcurrentKafkaListenerContainerFactory<String, NotificationFeedRequestDto> factory = new ConcurrentKafkaListenerContainerFactory<>();
-		factory.setConsumerFactory(notificationFeedConsumerFactory());
+		ConcurrentKafkaListenerContainerFactory<String, NotificationFeedRequestDto> factory = createBatchListenerContainerFactory(
+			notificationFeedConsumerFactory(), partitionConcurrency(kafkaAdmin, feedTopic));
 		// DeadLetterPublishingRecoverer 연결
 		factory.setCommonErrorHandler(errorHandler(deadLetterPublishingRecoverer(kafkaFeedTemplate())));
 		return factory;
@@ -125,6 +185,9 @@ public class NotificationKafkaConfig {
 		// Consumer 그룹 ID 설정
 		// 같은 그룹의 consumer들은 토픽의 파티션을 분배하여 메시지를 소비
 		props.put(ConsumerConfig.GROUP_ID_CONFIG, chattingGroupId);
+		// 배치 리스너: 한 번의 poll 로 가져올 최대 레코드 수, 오프셋은 배치 처리 후 수동 커밋
+		props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+		props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
 		// 메시지 키의 역직렬화 설정 (String 타입)
 		props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
 		// 메시지 값의 역직렬화 설정 (JSON -> KafkaFeedRequestDto)
@@ -142,10 +205,12 @@ public class NotificationKafkaConfig {
 	}
 
 	@Bean
-	public ConcurrentKafkaListenerContainerFactory<String, NotificationChattingRequestDto> notificationChattingEventListenerContainerFactory() {
+	public ConcurrentKafkaListenerContainerFactory<String, NotificationChattingRequestDto> notificationChattingEventListenerContainerFactory(KafkaAdmin kafkaAdmin) {
 		// @KafkaListener 어노테이션이 사용할 Factory 설정
-		ConcurrentKafkaListenerContainerFactory<String, NotificationChattingRequestDto> factory = new ConcurrentKafkaListenerContainerFactory<>();
-		factory.setConsumerFactory(notificationChattingConsumerFactory());
+		ConcurrentKafkaListenerContainerFactory<String, NotificationChattingRequestDto> factory = createBatchListenerContainerFactory(
+			notificationChattingConsumerFactory(), partitionConcurrency(kafkaAdmin, chattingTopic));
+		// 재시도 후에도 실패한 레코드는 dead-letter 토픽으로 (NotificationDLQListener 가 저장)
+		factory.setCommonErrorHandler(errorHandler(deadLetterPublishingRecoverer(kafkaFeedTemplate())));
 		return factory;
 	}
 
@@ -157,6 +222,9 @@ public class NotificationKafkaConfig {
 		// Consumer 그룹 ID 설정
 		// 같은 그룹의 consumer들은 토픽의 파티션을 분배하여 메시지를 소비
 		props.put(ConsumerConfig.GROUP_ID_CONFIG, favoriteGroupId);
+		// 배치 리스너: 한 번의 poll 로 가져올 최대 레코드 수, 오프셋은 배치 처리 후 수동 커밋
+		props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+		props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
 		// 메시지 키의 역직렬화 설정 (String 타입)
 		props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
 		// 메시지 값의 역직렬화 설정 (JSON -> KafkaFeedRequestDto)
@@ -169,10 +237,12 @@ public class NotificationKafkaConfig {
 	}
 
 	@Bean
-	public ConcurrentKafkaListenerContainerFactory<String, NotificationFavoriteRequestDto> notificationFavoriteEventListenerContainerFactory() {
+	public ConcurrentKafkaListenerContainerFactory<String, NotificationFavoriteRequestDto> notificationFavoriteEventListenerContainerFactory(KafkaAdmin kafkaAdmin) {
 		// @KafkaListener 어노테이션이 사용할 Factory 설정
-		ConcurrentKafkaListenerContainerFactory<String, NotificationFavoriteRequestDto> factory = new ConcurrentKafkaListenerContainerFactory<>();
-		factory.setConsumerFactory(notificationFavoriteConsumerFactory());
+		ConcurrentKafkaListenerContainerFactory<String, NotificationFavoriteRequestDto> factory = createBatchListenerContainerFactory(
+			notificationFavoriteConsumerFactory(), partitionConcurrency(kafkaAdmin, feedFavoriteTopic, commentFavoriteTopic));
+		// 재시도 후에도 실패한 레코드는 dead-letter 토픽으로 (NotificationDLQListener 가 저장)
+		factory.setCommonErrorHandler(errorHandler(deadLetterPublishingRecoverer(kafkaFeedTemplate())));
 		return factory;
 	}
 
@@ -184,6 +254,9 @@ public class NotificationKafkaConfig {
 		// Consumer 그룹 ID 설정
 		// 같은 그룹의 consumer들은 토픽의 파티션을 분배하여 메시지를 소비
 		props.put(ConsumerConfig.GROUP_ID_CONFIG, followGroupId);
+		// 배치 리스너: 한 번의 poll 로 가져올 최대 레코드 수, 오프셋은 배치 처리 후 수동 커밋
+		props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+		props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
 		// 메시지 키의 역직렬화 설정 (String 타입)
 		props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
 		// 메시지 값의 역직렬화 설정 (JSON -> KafkaFeedRequestDto)
@@ -197,10 +270,12 @@ public class NotificationKafkaConfig {
 	}
 
 	@Bean
-	public ConcurrentKafkaListenerContainerFactory<String, NotificationFollowRequestDto> notificationFollowEventListenerContainerFactory() {
+	public ConcurrentKafkaListenerContainerFactory<String, NotificationFollowRequestDto> notificationFollowEventListenerContainerFactory(KafkaAdmin kafkaAdmin) {
 		// @KafkaListener 어노테이션이 사용할 Factory 설정
-		ConcurrentKafkaListenerContainerFactory<String, NotificationFollowRequestDto> factory = new ConcurrentKafkaListenerContainerFactory<>();
-		factory.setConsumerFactory(notificationFollowConsumerFactory());
+		ConcurrentKafkaListenerContainerFactory<String, NotificationFollowRequestDto> factory = createBatchListenerContainerFactory(
+			notificationFollowConsumerFactory(), partitionConcurrency(kafkaAdmin, followTopic));
+		// 재시도 후에도 실패한 레코드는 dead-letter 토픽으로 (NotificationDLQListener 가 저장)
+		factory.setCommonErrorHandler(errorHandler(deadLetterPublishingRecoverer(kafkaFeedTemplate())));
 		return factory;
 	}
 
@@ -212,6 +287,9 @@ public class NotificationKafkaConfig {
 		// Consumer 그룹 ID 설정
 		// 같은 그룹의 consumer들은 토픽의 파티션을 분배하여 메시지를 소비
 		props.put(ConsumerConfig.GROUP_ID_CONFIG, commentGroupId);
+		// 배치 리스너: 한 번의 poll 로 가져올 최대 레코드 수, 오프셋은 배치 처리 후 수동 커밋
+		props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+		props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
 		// 메시지 키의 역직렬화 설정 (String 타입)
 		props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
 		// 메시지 값의 역직렬화 설정 (JSON -> KafkaFeedRequestDto)
@@ -224,10 +302,12 @@ public class NotificationKafkaConfig {
 	}
 
 	@Bean
-	public ConcurrentKafkaListenerContainerFactory<String, NotificationCommentRequestDto> notificationCommentEventListenerContainerFactory() {
+	public ConcurrentKafkaListenerContainerFactory<String, NotificationCommentRequestDto> notificationCommentEventListenerContainerFactory(KafkaAdmin kafkaAdmin) {
 		// @KafkaListener 어노테이션이 사용할 Factory 설정
-		ConcurrentKafkaListenerContainerFactory<String, NotificationCommentRequestDto> factory = new ConcurrentKafkaListenerContainerFactory<>();
-		factory.setConsumerFactory(notificationCommentConsumerFactory());
+		ConcurrentKafkaListenerContainerFactory<String, NotificationCommentRequestDto> factory = createBatchListenerContainerFactory(
+			notificationCommentConsumerFactory(), partitionConcurrency(kafkaAdmin, commentTopic));
+		// 재시도 후에도 실패한 레코드는 dead-letter 토픽으로 (NotificationDLQListener 가 저장)
+		factory.setCommonErrorHandler(errorHandler(deadLetterPublishingRecoverer(kafkaFeedTemplate())));
 		return factory;
 	}
 
@@ -239,6 +319,9 @@ public class NotificationKafkaConfig {
 		// Consumer 그룹 ID 설정
 		// 같은 그룹의 consumer들은 토픽의 파티션을 분배하여 메시지를 소비
 		props.put(ConsumerConfig.GROUP_ID_CONFIG, commentReplyGroupId);
+		// 배치 리스너: 한 번의 poll 로 가져올 최대 레코드 수, 오프셋은 배치 처리 후 수동 커밋
+		props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+		props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
 		// 메시지 키의 역직렬화 설정 (String 타입)
 		props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
 		// 메시지 값의 역직렬화 설정 (JSON -> KafkaFeedRequestDto)
@@ -251,11 +334,63 @@ public class NotificationKafkaConfig {
 	}
 
 	@Bean
-	public ConcurrentKafkaListenerContainerFactory<String, NotificationCommentReplyRequestDto> notificationCommentReplyEventListenerContainerFactory() {
+	public ConcurrentKafkaListenerContainerFactory<String, NotificationCommentReplyRequestDto> notificationCommentReplyEventListenerContainerFactory(KafkaAdmin kafkaAdmin) {
 		// @KafkaListener 어노테이션이 사용할 Factory 설정
-		ConcurrentKafkaListenerContainerFactory<String, NotificationCommentReplyRequestDto> factory = new ConcurrentKafkaListenerContainerFactory<>();
-		factory.setConsumerFactory(notificationCommentReplyConsumerFactory());
+		ConcurrentKafkaListenerContainerFactory<String, NotificationCommentReplyRequestDto> factory = createBatchListenerContainerFactory(
+			notificationCommentReplyConsumerFactory(), partitionConcurrency(kafkaAdmin, commentReplyTopic));
+		// 재시도 후에도 실패한 레코드는 dead-letter 토픽으로 (NotificationDLQListener 가 저장)
+		factory.setCommonErrorHandler(errorHandler(deadLetterPublishingRecoverer(kafkaFeedTemplate())));
 		return factory;
 	}
 
+
+	// SSE broadcast: 노드마다 고유 group id 를 @KafkaListener 에서 지정
+	@Bean
+	public KafkaTemplate<String, NotificationSseBroadcastDto> kafkaSseBroadcastTemplate() {
+		ProducerFactory<String, NotificationSseBroadcastDto> sseBroadcastProducerFactory = new DefaultKafkaProducerFactory<>(
+			notiFeedProducerConfigs());
+		return new KafkaTemplate<>(sseBroadcastProducerFactory);
+	}
+
+	@Bean
+	public ConsumerFactory<String, NotificationSseBroadcastDto> notificationSseBroadcastConsumerFactory() {
+		Map<String, Object> props = new HashMap<>();
+		props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+		props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+		props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+		props.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
+		return new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(),
+			new ErrorHandlingDeserializer<>(new JsonDeserializer<>(NotificationSseBroadcastDto.class, false)));
+	}
+
+	@Bean
+	public ConcurrentKafkaListenerContainerFactory<String, NotificationSseBroadcastDto> notificationSseBroadcastListenerContainerFactory() {
+		ConcurrentKafkaListenerContainerFactory<String, NotificationSseBroadcastDto> factory = new ConcurrentKafkaListenerContainerFactory<>();
+		factory.setConsumerFactory(notificationSseBroadcastConsumerFactory());
+		return factory;
+	}
+
+	// dead-letter: 토픽마다 payload 타입이 다르므로 문자열 그대로 읽어 구조화해서 저장하고, 재처리 때 같은 문자열을 다시 발행
+	@Bean
+	public KafkaTemplate<String, String> kafkaDeadLetterReplayTemplate() {
+		Map<String, Object> producerProps = new HashMap<>(notiFeedProducerConfigs());
+		producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+		return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(producerProps));
+	}
+
+	@Bean
+	public ConsumerFactory<String, String> notificationDeadLetterConsumerFactory() {
+		Map<String, Object> props = new HashMap<>();
+		props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+		props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+		props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+		props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+		props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+		return new DefaultKafkaConsumerFactory<>(props);
+	}
+
+	@Bean
+	public ConcurrentKafkaListenerContainerFactory<String, String> notificationDeadLetterListenerContainerFactory() {
+		return createBatchListenerContainerFactory(notificationDeadLetterConsumerFactory(), 1);
+	}
 }
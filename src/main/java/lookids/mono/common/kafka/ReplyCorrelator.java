@@ -0,0 +1,117 @@
+package lookids.mono.common.kafka;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Kafka request/reply 상관관계 처리기
+ * 요청마다 correlationId 헤더를 붙여 전송하고, 응답 토픽에서 같은 헤더로 돌아온 응답을 대기 중인 future 에 연결한다.
+ * 만료는 timer wheel 로 처리하므로 응답을 기다리는 동안 스레드를 점유하지 않는다.
+ * 응답은 모든 노드가 받으므로 correlationId 앞에 인스턴스 id 를 붙여 다른 노드의 응답은 조용히 무시한다.
+ */
+@Slf4j
+public class ReplyCorrelator<T> {
+
+	private static final String INSTANCE_PREFIX = UUID.randomUUID() + ":";
+
+	private final String name;
+	private final Timer timer;
+	private final Duration timeout;
+	private final ConcurrentHashMap<String, PendingReply<T>> pendingReplies = new ConcurrentHashMap<>();
+	private final Counter completedCounter;
+	private final Counter timeoutCounter;
+	private final Counter lateReplyCounter;
+
+	public ReplyCorrelator(String name, Timer timer, Duration timeout, MeterRegistry meterRegistry) {
+		this.name = name;
+		this.timer = timer;
+		this.timeout = timeout;
+		this.completedCounter = meterRegistry.counter("kafka.reply.completed", "correlator", name);
+		this.timeoutCounter = meterRegistry.counter("kafka.reply.timeout", "correlator", name);
+		this.lateReplyCounter = meterRegistry.counter("kafka.reply.late", "correlator", name);
+		Gauge.builder("kafka.reply.pending", pendingReplies, ConcurrentHashMap::size)
+			.tag("correlator", name)
+			.register(meterRegistry);
+	}
+
+	public <V> CompletableFuture<T> sendAndReceive(KafkaTemplate<String, V> kafkaTemplate, String topic, V payload) {
+		String correlationId = INSTANCE_PREFIX + UUID.randomUUID();
+		CompletableFuture<T> future = new CompletableFuture<>();
+		Timeout expiry = timer.newTimeout(handle -> expire(correlationId), timeout.toMillis(), TimeUnit.MILLISECONDS);
+		pendingReplies.put(correlationId, new PendingReply<>(future, expiry));
+
+		ProducerRecord<String, V> record = new ProducerRecord<>(topic, payload);
+		record.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes(StandardCharsets.UTF_8));
+		kafkaTemplate.send(record).whenComplete((result, ex) -> {
+			if (ex != null) {
+				PendingReply<T> pendingReply = pendingReplies.remove(correlationId);
+				if (pendingReply != null) {
+					pendingReply.expiry().cancel();
+					pendingReply.future().completeExceptionally(ex);
+				}
+			}
+		});
+		return future;
+	}
+
+	public boolean complete(byte[] correlationId, T reply) {
+		if (correlationId == null) {
+			lateReplyCounter.increment();
+			log.warn("[{}] reply without correlation id dropped", name);
+			return false;
+		}
+		String key = new String(correlationId, StandardCharsets.UTF_8);
+		if (!key.startsWith(INSTANCE_PREFIX)) {
+			return false;
+		}
+		PendingReply<T> pendingReply = pendingReplies.remove(key);
+		if (pendingReply == null) {
+			lateReplyCounter.increment();
+			return false;
+		}
+		pendingReply.expiry().cancel();
+		completedCounter.increment();
+		return pendingReply.future().complete(reply);
+	}
+
+	public int pendingCount() {
+		return pendingReplies.size();
+	}
+
+	private void expire(String correlationId) {
+		PendingReply<T> pendingReply = pendingReplies.remove(correlationId);
+		if (pendingReply != null) {
+			timeoutCounter.increment();
+			pendingReply.future()
+				.completeExceptionally(new TimeoutException("[" + name + "] no reply within " + timeout.toMillis() + "ms"));
+		}
+	}
+
+	/** 응답 토픽으로 돌려보낼 때 요청의 correlationId 헤더를 그대로 복사 */
+	public static <V> ProducerRecord<String, V> toReplyRecord(String topic, V payload, byte[] correlationId) {
+		ProducerRecord<String, V> record = new ProducerRecord<>(topic, payload);
+		if (correlationId != null) {
+			record.headers().add(KafkaHeaders.CORRELATION_ID, correlationId);
+		}
+		return record;
+	}
+
+	private record PendingReply<T>(CompletableFuture<T> future, Timeout expiry) {
+	}
+}
@@ -15,6 +15,7 @@ import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 import lookids.mono.elasticsearch.dto.in.KafkaFeedCreateRequestDto;
 import lookids.mono.elasticsearch.dto.in.KafkaFeedDeleteRequestDto;
@@ -34,6 +35,17 @@ public class SearchKafkaConfig {
 	@Value("${spring.kafka.bootstrap-servers}")
 	private String bootstrapServers;
 
+	// @Scheduled 작업(채팅방 요약 flush, feed-read bulk, 알림 묶음/재시도 등)이 기본 단일 스레드를 나눠 쓰지 않도록
+	// 느린 작업 하나가 짧은 주기의 flush 를 밀어내지 않게 스레드 여러 개를 둠
+	@Bean
+	public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduling.pool-size:8}") int poolSize) {
+		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setPoolSize(poolSize);
+		scheduler.setThreadNamePrefix("scheduler-");
+		scheduler.setWaitForTasksToCompleteOnShutdown(true);
+		return scheduler;
+	}
+
 	private Map<String, Object> commonConsumerProps(String groupId) {
 		Map<String, Object> props = new HashMap<>();
 		props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
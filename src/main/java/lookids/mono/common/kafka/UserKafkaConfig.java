@@ -22,8 +22,10 @@ import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import lookids.mono.user.petprofile.vo.in.FeedKafkaVo;
+import lookids.mono.user.petprofile.vo.in.FeedPetCodeListKafkaVo;
 import lookids.mono.user.petprofile.vo.out.PetProfileDeleteKafkaVo;
 import lookids.mono.user.petprofile.vo.out.PetProfileKafkaVo;
+import lookids.mono.user.petprofile.vo.out.PetProfileListKafkaVo;
 import lookids.mono.user.petprofile.vo.out.PetProfileSearchKafkaVo;
 import lookids.mono.user.userprofile.vo.in.CommentEventVo;
 import lookids.mono.user.userprofile.vo.in.FeedEventVo;
@@ -125,6 +127,26 @@ public class UserKafkaConfig {
 		return factory;
 	}
 
+	@Bean
+	public ConsumerFactory<String, FeedPetCodeListKafkaVo> feedPetCodeListKafkaConsumerFactory() {
+		Map<String, Object> props = new HashMap<>();
+		props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+		props.put(ConsumerConfig.GROUP_ID_CONFIG, "comment-join-group");
+		props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+		props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+		props.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
+
+		return new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(),
+			new ErrorHandlingDeserializer<>(new JsonDeserializer<>(FeedPetCodeListKafkaVo.class, false)));
+	}
+
+	@Bean
+	public ConcurrentKafkaListenerContainerFactory<String, FeedPetCodeListKafkaVo> feedPetCodeListKafkaListenerContainerFactory() {
+		ConcurrentKafkaListenerContainerFactory<String, FeedPetCodeListKafkaVo> factory = new ConcurrentKafkaListenerContainerFactory<>();
+		factory.setConsumerFactory(feedPetCodeListKafkaConsumerFactory());
+		return factory;
+	}
+
 	@Bean
 	public ConsumerFactory<String, FollowEventVo> followUserKafkaConsumerFactory() {
 		Map<String, Object> props = new HashMap<>();
@@ -205,6 +227,16 @@ public class UserKafkaConfig {
 		return new KafkaTemplate<>(createPetEvent());
 	}
 
+	@Bean
+	public ProducerFactory<String, PetProfileListKafkaVo> petListEvent() {
+		return new DefaultKafkaProducerFactory<>(userProducerConfigs());
+	}
+
+	@Bean
+	public KafkaTemplate<String, PetProfileListKafkaVo> petProfileListKafkaTemplate() {
+		return new KafkaTemplate<>(petListEvent());
+	}
+
 	@Bean
 	public ProducerFactory<String, PetProfileSearchKafkaVo> searchPetEvent() {
 		return new DefaultKafkaProducerFactory<>(userProducerConfigs());
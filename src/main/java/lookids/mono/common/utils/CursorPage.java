@@ -1,6 +1,7 @@
 package lookids.mono.common.utils;
 
 import java.util.List;
+import java.util.function.Function;
 
 import lombok.Builder;
 import lombok.Getter;
@@ -27,4 +28,8 @@ public class CursorPage<T> {
 	public boolean hasNext() {
 		return nextCursor != null;
 	}
+
+	public <R> CursorPage<R> map(Function<? super T, ? extends R> converter) {
+		return new CursorPage<>(content.stream().<R>map(converter).toList(), nextCursor, hasNext, pageSize, page);
+	}
 }
\ No newline at end of file
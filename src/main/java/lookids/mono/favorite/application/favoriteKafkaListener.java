@@ -4,10 +4,13 @@ import java.util.List;
 
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import lookids.mono.common.kafka.ReplyCorrelator;
 import lookids.mono.favorite.dto.FavoriteFeedDto;
 import lookids.mono.favorite.dto.FavoriteResponseDto;
 import lookids.mono.favorite.dto.FeedKafkaRequestDto;
@@ -21,14 +24,15 @@ public class favoriteKafkaListener {
 	private final KafkaTemplate<String, FavoriteFeedDto> kafkaTemplate;
 
 	@KafkaListener(topics = "favorite-request", groupId = "favorite-join-feed", containerFactory = "feedFavoriteEventListenerContainerFactory")
-	public void consumeFeed(FeedKafkaRequestDto requestDto) {
+	public void consumeFeed(FeedKafkaRequestDto requestDto,
+		@Header(name = KafkaHeaders.CORRELATION_ID, required = false) byte[] correlationId) {
 		String uuid = requestDto.getUuid(); // UUID 추출
 		List<FavoriteResponseDto> responseDtos = favoriteService.readUserFavoriteList(uuid);
 		FavoriteFeedDto favoriteFeedDto = FavoriteFeedDto.builder()
 			.uuid(uuid)
 			.targetCodeList(responseDtos.stream().map(FavoriteResponseDto::getTargetCode).toList())
 			.build();
-		sendMessage("favorite-response", favoriteFeedDto);
+		kafkaTemplate.send(ReplyCorrelator.toReplyRecord("favorite-response", favoriteFeedDto, correlationId));
 	}
 
 	public void sendMessage(String topic, FavoriteFeedDto favoriteFeedDto) {
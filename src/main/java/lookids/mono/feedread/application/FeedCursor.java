@@ -0,0 +1,67 @@
+package lookids.mono.feedread.application;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import lookids.mono.common.entity.BaseResponseStatus;
+import lookids.mono.common.exception.BaseException;
+import lookids.mono.feedread.domain.FeedRead;
+
+/**
+ * 피드 목록 커서 (createdAt, _id)
+ * 클라이언트에는 base64 문자열로만 노출하고, 조회 시 마지막 항목보다 오래된 피드만 keyset 조건으로 읽는다.
+ */
+record FeedCursor(LocalDateTime createdAt, ObjectId id) {
+
+	static final Sort SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("_id"));
+
+	static final int MAX_PAGE_SIZE = 100;
+
+	// size 는 1 ~ MAX_PAGE_SIZE 로 맞춤 (0 이하면 마지막 항목을 찾을 수 없고, 너무 크면 size + 1 조회가 커짐)
+	static int pageSize(int size) {
+		return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+	}
+
+	static FeedCursor of(FeedRead feedRead) {
+		return new FeedCursor(feedRead.getCreatedAt(), feedRead.getId());
+	}
+
+	static FeedCursor decode(String cursor) {
+		if (cursor == null || cursor.isEmpty()) {
+			return null;
+		}
+		try {
+			String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+			LocalDateTime createdAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(parts[0])),
+				ZoneId.systemDefault());
+			return new FeedCursor(createdAt, new ObjectId(parts[1]));
+		} catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+			throw new BaseException(BaseResponseStatus.INVALID_FEED_CURSOR);
+		}
+	}
+
+	String encode() {
+		String raw = epochMilli() + ":" + id.toHexString();
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	long epochMilli() {
+		return createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+
+	/** createdAt < cursor.createdAt OR (createdAt == cursor.createdAt AND _id < cursor._id) */
+	static Criteria after(FeedCursor cursor) {
+		if (cursor == null) {
+			return new Criteria();
+		}
+		return new Criteria().orOperator(Criteria.where("createdAt").lt(cursor.createdAt()),
+			Criteria.where("createdAt").is(cursor.createdAt()).and("_id").lt(cursor.id()));
+	}
+}
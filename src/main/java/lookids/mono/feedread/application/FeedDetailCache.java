@@ -0,0 +1,211 @@
+package lookids.mono.feedread.application;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lookids.mono.common.entity.BaseResponseStatus;
+import lookids.mono.common.exception.BaseException;
+import lookids.mono.feedread.domain.FeedRead;
+import lookids.mono.feedread.dto.in.FeedDetailEvictKafkaDto;
+import lookids.mono.feedread.dto.out.FeedReadDetailResponseDto;
+import lookids.mono.feedread.infrastructure.FeedReadRepository;
+
+/**
+ * 피드 상세 2단 캐시 (로컬 Caffeine → Redis → Mongo + 반려동물 이미지)
+ * 같은 feedCode 에 대한 동시 요청은 로컬 캐시의 future 하나를 공유하므로 로드는 한 번만 일어난다.
+ * 피드 삭제와 프로필 변경은 FeedReadBulkUpdater 가 feedRead 에 반영한 뒤에 지우므로, 반영 전 값이 다시 채워지지 않는다.
+ * Redis 는 반영한 노드가 uuid/petCode 별 색인으로 찾아 지우고, 로컬 캐시는 무효화 이벤트를 노드마다 받아 비운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedDetailCache {
+
+	private static final String DETAIL_KEY_PREFIX = "FeedDetail:";
+	private static final String UUID_INDEX_PREFIX = "FeedDetailIndex:uuid:";
+	private static final String PET_INDEX_PREFIX = "FeedDetailIndex:pet:";
+	private static final String EVICT_TOPIC = "feed-read-detail-evict";
+
+	private final FeedReadRepository feedReadRepository;
+	private final PetImageResolver petImageResolver;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final ObjectMapper objectMapper;
+	private final Executor feedReadExecutor;
+	private final MeterRegistry meterRegistry;
+	private final KafkaTemplate<String, FeedDetailEvictKafkaDto> feedDetailEvictKafkaTemplate;
+
+	@Value("${feed-read.detail-cache.local-size:10000}")
+	private long localSize;
+
+	@Value("${feed-read.detail-cache.local-ttl:1m}")
+	private Duration localTtl;
+
+	@Value("${feed-read.detail-cache.redis-ttl:30m}")
+	private Duration redisTtl;
+
+	private AsyncCache<String, FeedReadDetailResponseDto> localCache;
+
+	@PostConstruct
+	void init() {
+		localCache = Caffeine.newBuilder()
+			.maximumSize(localSize)
+			.expireAfterWrite(localTtl)
+			.recordStats()
+			.buildAsync();
+		CaffeineCacheMetrics.monitor(meterRegistry, localCache.synchronous(), "feedReadDetail");
+	}
+
+	public FeedReadDetailResponseDto get(String feedCode) {
+		try {
+			return localCache.get(feedCode, (key, executor) -> CompletableFuture.supplyAsync(() -> key, feedReadExecutor)
+				.thenCompose(this::load)).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof BaseException baseException) {
+				throw baseException;
+			}
+			throw e;
+		}
+	}
+
+	private CompletableFuture<FeedReadDetailResponseDto> load(String feedCode) {
+		FeedReadDetailResponseDto cached = readRedis(feedCode);
+		if (cached != null) {
+			meterRegistry.counter("feed.read.detail-cache.redis", "result", "hit").increment();
+			return CompletableFuture.completedFuture(cached);
+		}
+		meterRegistry.counter("feed.read.detail-cache.redis", "result", "miss").increment();
+		FeedRead feedRead = feedReadRepository.findByFeedCodeAndStateTrue(feedCode)
+			.orElseThrow(() -> new BaseException(BaseResponseStatus.NO_EXIST_FEED));
+		return petImageResolver.resolve(List.of(feedRead)).thenApply(petImageMap -> {
+			FeedReadDetailResponseDto feedReadDetailResponseDto = FeedReadDetailResponseDto.toDto(feedRead,
+				petImageMap.get(PetImageResolver.firstPetCode(feedRead)));
+			writeRedis(feedCode, feedReadDetailResponseDto);
+			return feedReadDetailResponseDto;
+		});
+	}
+
+	private FeedReadDetailResponseDto readRedis(String feedCode) {
+		String json = stringRedisTemplate.opsForValue().get(DETAIL_KEY_PREFIX + feedCode);
+		if (json == null) {
+			return null;
+		}
+		try {
+			return objectMapper.readValue(json, FeedReadDetailResponseDto.class);
+		} catch (JsonProcessingException e) {
+			log.warn("Broken feed detail cache entry {}", feedCode, e);
+			stringRedisTemplate.delete(DETAIL_KEY_PREFIX + feedCode);
+			return null;
+		}
+	}
+
+	private void writeRedis(String feedCode, FeedReadDetailResponseDto feedReadDetailResponseDto) {
+		try {
+			stringRedisTemplate.opsForValue()
+				.set(DETAIL_KEY_PREFIX + feedCode, objectMapper.writeValueAsString(feedReadDetailResponseDto), redisTtl);
+		} catch (JsonProcessingException e) {
+			log.warn("Failed to cache feed detail {}", feedCode, e);
+			return;
+		}
+		addIndex(UUID_INDEX_PREFIX + feedReadDetailResponseDto.getUuid(), feedCode);
+		if (feedReadDetailResponseDto.getPetCode() != null) {
+			feedReadDetailResponseDto.getPetCode().forEach(petCode -> addIndex(PET_INDEX_PREFIX + petCode, feedCode));
+		}
+	}
+
+	private void addIndex(String indexKey, String feedCode) {
+		stringRedisTemplate.opsForSet().add(indexKey, feedCode);
+		stringRedisTemplate.expire(indexKey, redisTtl);
+	}
+
+	public void evict(String feedCode) {
+		localCache.synchronous().invalidate(feedCode);
+		stringRedisTemplate.delete(DETAIL_KEY_PREFIX + feedCode);
+	}
+
+	public void evictByUuid(String uuid) {
+		evictMatching(UUID_INDEX_PREFIX + uuid, feedReadDetailResponseDto -> uuid.equals(
+			feedReadDetailResponseDto.getUuid()));
+	}
+
+	public void evictByPetCode(String petCode) {
+		evictMatching(PET_INDEX_PREFIX + petCode, feedReadDetailResponseDto ->
+			feedReadDetailResponseDto.getPetCode() != null && feedReadDetailResponseDto.getPetCode().contains(petCode));
+	}
+
+	private void evictMatching(String indexKey, Predicate<FeedReadDetailResponseDto> predicate) {
+		localCache.synchronous().asMap().values().removeIf(predicate);
+		Set<String> feedCodeSet = stringRedisTemplate.opsForSet().members(indexKey);
+		if (feedCodeSet == null || feedCodeSet.isEmpty()) {
+			return;
+		}
+		List<String> keyList = new ArrayList<>(feedCodeSet.size() + 1);
+		feedCodeSet.forEach(feedCode -> keyList.add(DETAIL_KEY_PREFIX + feedCode));
+		keyList.add(indexKey);
+		stringRedisTemplate.delete(keyList);
+		meterRegistry.counter("feed.read.detail-cache.evicted").increment(feedCodeSet.size());
+	}
+
+	/**
+	 * feedRead 반영이 끝난 변경(FeedReadBulkUpdater.flush 성공 후)에 대해 Redis 를 지우고, 모든 노드에 로컬 캐시 무효화를 broadcast 한다.
+	 * @param field   uuid, petCode, feedCode
+	 * @param keyList 반영된 값
+	 */
+	public void evictApplied(String field, Collection<String> keyList) {
+		keyList.forEach(key -> {
+			switch (field) {
+				case "uuid" -> evictByUuid(key);
+				case "petCode" -> evictByPetCode(key);
+				default -> evict(key);
+			}
+		});
+		feedDetailEvictKafkaTemplate.send(EVICT_TOPIC,
+				FeedDetailEvictKafkaDto.builder().field(field).keyList(List.copyOf(keyList)).build())
+			.whenComplete((result, e) -> {
+				if (e != null) {
+					// 다른 노드의 로컬 캐시는 local-ttl 이 지나면 비워짐
+					log.warn("Failed to broadcast feed detail eviction for {} {} keys", field, keyList.size(), e);
+				}
+			});
+	}
+
+	@KafkaListener(topics = EVICT_TOPIC, groupId = "#{'feed-read-detail-cache-' + T(java.util.UUID).randomUUID()}", containerFactory = "feedDetailEvictEventListenerContainerFactory", properties = "auto.offset.reset=latest")
+	public void evictLocal(FeedDetailEvictKafkaDto feedDetailEvictKafkaDto) {
+		Set<String> keySet = new HashSet<>(feedDetailEvictKafkaDto.getKeyList());
+		switch (feedDetailEvictKafkaDto.getField()) {
+			case "uuid" -> localCache.synchronous()
+				.asMap()
+				.values()
+				.removeIf(feedReadDetailResponseDto -> keySet.contains(feedReadDetailResponseDto.getUuid()));
+			case "petCode" -> localCache.synchronous()
+				.asMap()
+				.values()
+				.removeIf(feedReadDetailResponseDto -> feedReadDetailResponseDto.getPetCode() != null
+					&& feedReadDetailResponseDto.getPetCode().stream().anyMatch(keySet::contains));
+			default -> localCache.synchronous().invalidateAll(keySet);
+		}
+	}
+}
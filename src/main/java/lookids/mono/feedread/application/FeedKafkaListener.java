@@ -6,13 +6,10 @@ import java.util.stream.Collectors;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
-import lookids.mono.common.entity.BaseResponseStatus;
-import lookids.mono.common.exception.BaseException;
 import lookids.mono.feedread.domain.FeedRead;
 import lookids.mono.feedread.dto.in.FeedDeleteKafkaDto;
 import lookids.mono.feedread.dto.in.PetImageKafkaDto;
@@ -33,39 +30,21 @@ public class FeedKafkaListener {
 
 	private final FeedReadRepository feedReadRepository;
 
-	@Transactional
+	private final FeedReadBulkUpdater feedReadBulkUpdater;
+
 	@KafkaListener(topics = "userprofile-nickname-update", groupId = "feed-read-group", containerFactory = "userNickNameEventListenerContainerFactory")
 	public void NickNameUpdateConsume(UserNickNameKafkaDto userNickNameKafkaDto) {
-		List<FeedRead> findUuid = feedReadRepository.findAllByUuid(userNickNameKafkaDto.getUuid());
-		if (findUuid.isEmpty()) {
-			throw new BaseException(BaseResponseStatus.NO_EXIST_FEED);
-		}
-		List<FeedRead> nickNameUpdate = findUuid.stream()
-			.map(userNickNameKafkaDto::toNickNameUpdate)
-			.collect(Collectors.toList());
-		feedReadRepository.saveAll(nickNameUpdate);
+		feedReadBulkUpdater.updateByUuid(userNickNameKafkaDto.getUuid(), userNickNameKafkaDto.toNickNameUpdate());
 	}
 
-	@Transactional
 	@KafkaListener(topics = "userprofile-image-update", groupId = "feed-read-group", containerFactory = "userImageEventListenerContainerFactory")
 	public void ImageUpdateConsume(UserImageKafkaDto userImageKafkaDto) {
-		List<FeedRead> findUuid = feedReadRepository.findAllByUuid(userImageKafkaDto.getUuid());
-		if (findUuid.isEmpty()) {
-			throw new BaseException(BaseResponseStatus.NO_EXIST_FEED);
-		}
-		List<FeedRead> ImageUpdate = findUuid.stream()
-			.map(userImageKafkaDto::toImageUpdate)
-			.collect(Collectors.toList());
-		feedReadRepository.saveAll(ImageUpdate);
+		feedReadBulkUpdater.updateByUuid(userImageKafkaDto.getUuid(), userImageKafkaDto.toImageUpdate());
 	}
 
 	@KafkaListener(topics = "feed-delete", groupId = "feed-read-group", containerFactory = "deleteEventListenerContainerFactory")
 	public void FeedDeleteConsume(FeedDeleteKafkaDto feedDeleteKafkaDto) {
-		FeedRead feedRead = feedReadRepository.findByFeedCodeAndStateTrue(feedDeleteKafkaDto.getFeedCode())
-			.orElseThrow(() -> new BaseException(BaseResponseStatus.NO_EXIST_FEED));
-		FeedRead updatedFeedRead = feedDeleteKafkaDto.toUpdatedEntity(feedRead);
-		log.info("adskjfhaksljdfh: {}", feedDeleteKafkaDto);
-		feedReadRepository.save(updatedFeedRead);
+		feedReadBulkUpdater.updateByFeedCode(feedDeleteKafkaDto.getFeedCode(), feedDeleteKafkaDto.toDelete());
 	}
 
 	@KafkaListener(topics = "recommend-user", groupId = "feed-read-group", containerFactory = "recommendEventListenerContainerFactory")
@@ -77,27 +56,14 @@ public class FeedKafkaListener {
 		recommendKafkaTemplate.send("recommend-user-response", targetRequestKafkaDto);
 	}
 
-	@Transactional
 	@KafkaListener(topics = "petprofile-update", groupId = "feed-read-group", containerFactory = "petProfileEventListenerContainerFactory")
 	public void ImageUpdateConsume(PetImageKafkaDto petImageKafkaDto) {
-		List<FeedRead> findPetCode = feedReadRepository.findAllBypetCode(petImageKafkaDto.getPetCode());
-		if (findPetCode.isEmpty()) {
-			throw new BaseException(BaseResponseStatus.NO_EXIST_FEED);
-		}
-		List<FeedRead> ImageUpdate = findPetCode.stream()
-			.map(petImageKafkaDto::toImageUpdate)
-			.collect(Collectors.toList());
-		feedReadRepository.saveAll(ImageUpdate);
+		feedReadBulkUpdater.updateByPetCode(petImageKafkaDto.getPetCode(), petImageKafkaDto.toImageUpdate());
 	}
 
 	@KafkaListener(topics = "account-delete", groupId = "feed-read-group", containerFactory = "accountDeleteEventListenerContainerFactory")
 	public void ImageUpdateConsume(UuidKafkaDto uuidKafkaDto) {
-		List<FeedRead> findUuid = feedReadRepository.findAllByUuid(uuidKafkaDto.getUuid());
-		if (findUuid.isEmpty()) {
-			throw new BaseException(BaseResponseStatus.NO_EXIST_FEED);
-		}
-		List<FeedRead> feedDelete = findUuid.stream().map(uuidKafkaDto::toDelete).collect(Collectors.toList());
-		feedReadRepository.saveAll(feedDelete);
+		feedReadBulkUpdater.updateByUuid(uuidKafkaDto.getUuid(), uuidKafkaDto.toDelete());
 	}
 
 }
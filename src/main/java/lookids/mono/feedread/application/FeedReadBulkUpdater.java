@@ -0,0 +1,131 @@
+package lookids.mono.feedread.application;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.bulk.BulkWriteResult;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lookids.mono.feedread.domain.FeedRead;
+
+/**
+ * 사용자/반려동물 프로필 변경과 피드 삭제를 feedRead 에 반영하는 bulk writer
+ * 같은 uuid(petCode, feedCode) 에 대한 변경은 flush 주기 동안 하나의 $set 으로 합치고,
+ * flush 때 모아 둔 변경을 updateMulti 묶음 한 번으로 보낸다. (문서를 읽어 오지 않고 바뀐 필드만 수정)
+ * 반영이 성공한 뒤에 피드 상세 캐시를 지운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedReadBulkUpdater {
+
+	private final MongoTemplate mongoTemplate;
+	private final MeterRegistry meterRegistry;
+	private final FeedDetailCache feedDetailCache;
+
+	// uuid -> 반영할 $set, petCode -> 반영할 $set, feedCode -> 반영할 $set
+	private final ConcurrentHashMap<String, Document> pendingByUuid = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, Document> pendingByPetCode = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, Document> pendingByFeedCode = new ConcurrentHashMap<>();
+
+	public void updateByUuid(String uuid, Update update) {
+		enqueue(pendingByUuid, uuid, update);
+	}
+
+	public void updateByPetCode(String petCode, Update update) {
+		enqueue(pendingByPetCode, petCode, update);
+	}
+
+	public void updateByFeedCode(String feedCode, Update update) {
+		enqueue(pendingByFeedCode, feedCode, update);
+	}
+
+	private void enqueue(ConcurrentHashMap<String, Document> pending, String key, Update update) {
+		Document set = update.getUpdateObject().get("$set", Document.class);
+		pending.merge(key, new Document(set), (current, arrived) -> {
+			meterRegistry.counter("feed.read.bulk-update.coalesced").increment();
+			Document merged = new Document(current);
+			merged.putAll(arrived);
+			return merged;
+		});
+	}
+
+	@Scheduled(fixedDelayString = "${feed-read.bulk-update.window-ms:500}")
+	public void flush() {
+		flush("uuid", pendingByUuid);
+		flush("petCode", pendingByPetCode);
+		flush("feedCode", pendingByFeedCode);
+	}
+
+	@PreDestroy
+	public void flushOnShutdown() {
+		flush();
+	}
+
+	private void flush(String field, ConcurrentHashMap<String, Document> pending) {
+		if (pending.isEmpty()) {
+			return;
+		}
+		BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, FeedRead.class);
+		Map<String, Document> drained = new HashMap<>();
+		for (String key : pending.keySet()) {
+			Document set = pending.remove(key);
+			if (set == null) {
+				continue;
+			}
+			Update update = new Update();
+			set.forEach(update::set);
+			bulkOperations.updateMulti(Query.query(Criteria.where(field).is(key)), update);
+			drained.put(key, set);
+		}
+		if (drained.isEmpty()) {
+			return;
+		}
+		int keyCount = drained.size();
+		Timer.Sample sample = Timer.start(meterRegistry);
+		BulkWriteResult result;
+		try {
+			result = bulkOperations.execute();
+		} catch (RuntimeException e) {
+			// 이미 ack 된 이벤트라 버리면 유실되므로 다음 flush 에 다시 보냄 ($set 이라 다시 반영해도 같은 결과)
+			log.warn("feedRead bulk update by {} failed, requeueing {} keys: {}", field, keyCount, e.getMessage());
+			meterRegistry.counter("feed.read.bulk-update.requeued", "key", field).increment(keyCount);
+			drained.forEach((key, set) -> requeue(pending, key, set));
+			return;
+		}
+		sample.stop(meterRegistry.timer("feed.read.bulk-update.latency", "key", field));
+		meterRegistry.counter("feed.read.bulk-update.keys", "key", field).increment(keyCount);
+		meterRegistry.counter("feed.read.bulk-update.modified", "key", field).increment(result.getModifiedCount());
+		log.debug("feedRead bulk update by {}: keys={}, matched={}, modified={}", field, keyCount,
+			result.getMatchedCount(), result.getModifiedCount());
+		try {
+			// 반영이 끝난 뒤에 지워야 이전 값이 다시 캐시에 채워지지 않음
+			feedDetailCache.evictApplied(field, drained.keySet());
+		} catch (RuntimeException e) {
+			log.warn("Feed detail eviction by {} failed for {} keys: {}", field, keyCount, e.getMessage());
+		}
+	}
+
+	// 실패한 $set 을 되돌려 놓음, 그 사이 새로 들어온 값이 있으면 새 값이 이김
+	private void requeue(ConcurrentHashMap<String, Document> pending, String key, Document failed) {
+		pending.merge(key, failed, (newer, older) -> {
+			Document merged = new Document(older);
+			merged.putAll(newer);
+			return merged;
+		});
+	}
+}
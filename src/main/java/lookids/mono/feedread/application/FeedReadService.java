@@ -1,7 +1,10 @@
 package lookids.mono.feedread.application;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.springframework.data.domain.Page;
 
+import lookids.mono.common.utils.CursorPage;
 import lookids.mono.feedread.dto.out.FeedListResponseDto;
 import lookids.mono.feedread.dto.out.FeedReadDetailResponseDto;
 import lookids.mono.feedread.dto.out.FeedReadResponseDto;
@@ -9,14 +12,22 @@ import lookids.mono.feedread.dto.out.FeedReadResponseDto;
 public interface FeedReadService {
 	Page<FeedReadResponseDto> readFeedThumbnailList(String uuid, int page, int size);
 
-	Page<FeedReadResponseDto> readFeedFavoriteList(String uuid, int page, int size);
+	CompletableFuture<Page<FeedReadResponseDto>> readFeedFavoriteList(String uuid, int page, int size);
 
-	Page<FeedListResponseDto> readFeedAndTagList(String uuid, String tag, int page, int size);
+	CompletableFuture<Page<FeedListResponseDto>> readFeedAndTagList(String uuid, String tag, int page, int size);
 
-	Page<FeedReadResponseDto> readFeedMemberRandomList(String uuid, int page, int size);
+	CompletableFuture<Page<FeedReadResponseDto>> readFeedMemberRandomList(String uuid, int page, int size);
 
 	Page<FeedListResponseDto> readFeedRandomList(int page, int size);
 
+	CursorPage<FeedReadResponseDto> readFeedThumbnailCursorPage(String uuid, String cursor, int size);
+
+	CompletableFuture<CursorPage<FeedReadResponseDto>> readFeedFavoriteCursorPage(String uuid, String cursor,
+		int size);
+
+	CompletableFuture<CursorPage<FeedListResponseDto>> readFeedAndTagCursorPage(String uuid, String tag,
+		String cursor, int size);
+
 	FeedReadDetailResponseDto readFeedDetail(String feedCode);
 
 	Boolean readFeedCheck(String uuid, String feedCode);
@@ -1,13 +1,22 @@
 package lookids.mono.feedread.application;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -20,26 +29,28 @@ import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
-import lookids.mono.common.entity.BaseResponseStatus;
-import lookids.mono.common.exception.BaseException;
+import lookids.mono.common.kafka.KafkaJoinBuffer;
+import lookids.mono.common.kafka.KafkaJoinBuffer.Joined;
+import lookids.mono.common.kafka.ReplyCorrelator;
+import lookids.mono.common.utils.CursorPage;
 import lookids.mono.feedread.domain.FeedRead;
-import lookids.mono.feedread.dto.in.BlockKafkaDto;
 import lookids.mono.feedread.dto.in.FeedKafkaDto;
-import lookids.mono.feedread.dto.in.PetImageKafkaDto;
-import lookids.mono.feedread.dto.in.PetKafkaDto;
 import lookids.mono.feedread.dto.in.UserKafkaDto;
 import lookids.mono.feedread.dto.in.UuidKafkaDto;
 import lookids.mono.feedread.dto.out.FavoriteResponseDto;
 import lookids.mono.feedread.dto.out.FeedListResponseDto;
 import lookids.mono.feedread.dto.out.FeedReadDetailResponseDto;
 import lookids.mono.feedread.dto.out.FeedReadResponseDto;
-import lookids.mono.feedread.dto.out.FollowResponseDto;
 import lookids.mono.feedread.infrastructure.FeedReadRepository;
+import lookids.mono.feedread.infrastructure.HomeTimelineRepository;
+import lookids.mono.feedread.infrastructure.HomeTimelineRepository.TimelineEntry;
 
 @Slf4j
 @Service
@@ -47,175 +58,151 @@ import lookids.mono.feedread.infrastructure.FeedReadRepository;
 @ToString
 public class FeedReadServiceImpl implements FeedReadService {
 
-	private final ConcurrentHashMap<String, CompletableFuture<FeedKafkaDto>> feedEventFutureMap = new ConcurrentHashMap<>();
-	private final ConcurrentHashMap<String, CompletableFuture<UserKafkaDto>> userEventFutureMap = new ConcurrentHashMap<>();
-	private final ConcurrentHashMap<String, CompletableFuture<FavoriteResponseDto>> favoriteEventFutureMap = new ConcurrentHashMap<>();
-	private final ConcurrentHashMap<String, CompletableFuture<FollowResponseDto>> followEventFutureMap = new ConcurrentHashMap<>();
-	private final ConcurrentHashMap<String, CompletableFuture<BlockKafkaDto>> blockEventFutureMap = new ConcurrentHashMap<>();
-	private final ConcurrentHashMap<String, CompletableFuture<PetImageKafkaDto>> petEventFutureMap = new ConcurrentHashMap<>();
+	private final KafkaJoinBuffer<FeedKafkaDto, UserKafkaDto> feedJoinBuffer;
 	private final KafkaTemplate<String, UuidKafkaDto> favoriteKafkaTemplate;
-	private final KafkaTemplate<String, UuidKafkaDto> followKafkaTemplate;
-	private final KafkaTemplate<String, UuidKafkaDto> blockKafkaTemplate;
-	private final KafkaTemplate<String, PetKafkaDto> petKafkaTemplate;
 	private final FeedReadRepository feedReadRepository;
 	private final MongoTemplate mongoTemplate;
 	private final FeedKafkaListener feedKafkaListener;
+	private final ReplyCorrelator<FavoriteResponseDto> favoriteReplyCorrelator;
+	private final Executor feedReadExecutor;
+	private final PetImageResolver petImageResolver;
+	private final SocialGraphCache socialGraphCache;
+	private final RandomFeedSampler randomFeedSampler;
+	private final FeedDetailCache feedDetailCache;
+	private final HomeTimelineRepository homeTimelineRepository;
+	private final HomeTimelineFanOut homeTimelineFanOut;
 
-	@KafkaListener(topics = "favorite-response", groupId = "feed-read-group", containerFactory = "favoriteEventListenerContainerFactory")
-	public void readFeedFavorite(FavoriteResponseDto favoriteResponseDto) {
-		String uuid = favoriteResponseDto.getUuid();
-		CompletableFuture<FavoriteResponseDto> futureFeedCodeList = favoriteEventFutureMap.get(uuid);
-		futureFeedCodeList.complete(favoriteResponseDto);
+	@KafkaListener(topics = "favorite-response", groupId = "#{'feed-read-reply-' + T(java.util.UUID).randomUUID()}", containerFactory = "favoriteEventListenerContainerFactory", properties = "auto.offset.reset=latest")
+	public void readFeedFavorite(FavoriteResponseDto favoriteResponseDto,
+		@Header(name = KafkaHeaders.CORRELATION_ID, required = false) byte[] correlationId) {
+		favoriteReplyCorrelator.complete(correlationId, favoriteResponseDto);
 	}
 
-	@KafkaListener(topics = "block-response", groupId = "feed-read-group", containerFactory = "userBlockEventListenerContainerFactory")
-	public void readBlockUuid(BlockKafkaDto blockKafkaDto) {
-		String uuid = blockKafkaDto.getUuid();
-		CompletableFuture<BlockKafkaDto> futureBlockList = blockEventFutureMap.get(uuid);
-		futureBlockList.complete(blockKafkaDto);
-	}
-
-	@KafkaListener(topics = "follow-response", groupId = "feed-read-group", containerFactory = "followEventListenerContainerFactory")
-	public void readFeedFollow(FollowResponseDto followResponseDto) {
-		String uuid = followResponseDto.getUuid();
-		CompletableFuture<FollowResponseDto> futureUuidList = followEventFutureMap.get(uuid);
-		futureUuidList.complete(followResponseDto);
-	}
-
-	@KafkaListener(topics = "petprofile-response", groupId = "feed-read-group", containerFactory = "petEventListenerContainerFactory")
-	public void readPetImage(PetImageKafkaDto petImageKafkaDto) {
-		String petCode = petImageKafkaDto.getPetCode();
-		CompletableFuture<PetImageKafkaDto> futurePetImage = petEventFutureMap.get(petCode);
-		if (futurePetImage != null) {
-			futurePetImage.complete(petImageKafkaDto);
-		}
+	@Override
+	public CompletableFuture<Page<FeedReadResponseDto>> readFeedFavoriteList(String uuid, int page, int size) {
+		return favoriteReplyCorrelator.sendAndReceive(favoriteKafkaTemplate, "favorite-request", UuidKafkaDto.toDto(uuid))
+			.thenApply(FavoriteResponseDto::getTargetCodeList)
+			.exceptionally(e -> {
+				log.warn("Error while fetching favorite feed codes", e);
+				return Collections.emptyList();
+			})
+			.thenApplyAsync(targetCodeList -> {
+				Criteria criteria = Criteria.where("feedCode").in(targetCodeList).and("state").is(true);
+				Query query = new Query(criteria).with(Sort.by(Sort.Order.desc("createdAt")))
+					.skip((long)page * size)
+					.limit(size);
+				List<FeedReadResponseDto> feedDtoList = mongoTemplate.find(query, FeedRead.class)
+					.stream()
+					.map(FeedReadResponseDto::toDto)
+					.collect(Collectors.toList());
+				long total = mongoTemplate.count(Query.query(criteria), "feedRead");
+				Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Order.desc("createdAt")));
+				return new PageImpl<>(feedDtoList, pageable, total);
+			}, feedReadExecutor);
 	}
 
 	@Override
-	public Page<FeedReadResponseDto> readFeedFavoriteList(String uuid, int page, int size) {
-		favoriteKafkaTemplate.send("favorite-request", UuidKafkaDto.toDto(uuid));
-		CompletableFuture<FavoriteResponseDto> futureFeedCodeList = new CompletableFuture<>();
-		favoriteEventFutureMap.put(uuid, futureFeedCodeList);
-		List<String> targetCodeList;
-		try {
-			targetCodeList = futureFeedCodeList.get(5, TimeUnit.SECONDS).getTargetCodeList();
-		} catch (InterruptedException | ExecutionException e) {
-			log.error("Error while fetching favorite feed codes", e);
-			targetCodeList = Collections.emptyList();
-		} catch (TimeoutException e) {
-			log.warn("Timeout while waiting for favorite feed codes", e);
-			targetCodeList = Collections.emptyList();
-		}
-		Criteria criteria = Criteria.where("feedCode").in(targetCodeList).and("state").is(true);
-		Query query = new Query(criteria).with(Sort.by(Sort.Order.desc("createdAt")))
-			.skip((long)page * size)
-			.limit(size);
-		List<FeedReadResponseDto> feedDtoList = mongoTemplate.find(query, FeedRead.class)
-			.stream()
-			.map(FeedReadResponseDto::toDto)
-			.collect(Collectors.toList());
-		long total = mongoTemplate.count(Query.query(criteria), "feedRead");
-		Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Order.desc("createdAt")));
-
-		return new PageImpl<>(feedDtoList, pageable, total);
+	public CompletableFuture<Page<FeedListResponseDto>> readFeedAndTagList(String uuid, String tag, int page,
+		int size) {
+		CompletableFuture<List<String>> futureFollowList = socialGraphCache.following(uuid);
+		CompletableFuture<List<String>> futureBlockList = socialGraphCache.blocked(uuid);
+		CompletableFuture<Page<FeedRead>> futureFeedReadPage = futureFollowList.thenCombineAsync(futureBlockList,
+			(followUuid, blockUuidList) -> tag == null || tag.isEmpty() ?
+				readHomeTimeline(uuid, followUuid, blockUuidList, page, size) :
+				readFollowFeedPage(followUuid, blockUuidList, tag, page, size), feedReadExecutor);
+		return futureFeedReadPage.thenCompose(this::toFeedListPage);
 	}
 
-	@Override
-	public Page<FeedListResponseDto> readFeedAndTagList(String uuid, String tag, int page, int size) {
-		followKafkaTemplate.send("follow-request", UuidKafkaDto.toDto(uuid));
-		CompletableFuture<FollowResponseDto> futureUuidList = new CompletableFuture<>();
-		followEventFutureMap.put(uuid, futureUuidList);
-		blockKafkaTemplate.send("block-request", UuidKafkaDto.toDto(uuid));
-		CompletableFuture<BlockKafkaDto> futureBlockList = new CompletableFuture<>();
-		blockEventFutureMap.put(uuid, futureBlockList);
-		List<String> followUuid;
-		try {
-			followUuid = futureUuidList.get(5, TimeUnit.SECONDS).getFollowUuid();
-		} catch (InterruptedException | ExecutionException e) {
-			log.error("Error while fetching follow list", e);
-			followUuid = Collections.emptyList();
-		} catch (TimeoutException e) {
-			log.warn("Timeout", e);
-			followUuid = Collections.emptyList();
-		}
-		List<String> BlockUuidList;
-		try {
-			BlockUuidList = futureBlockList.get(5, TimeUnit.SECONDS).getBlockUuid();
-		} catch (InterruptedException | ExecutionException e) {
-			log.error("Error while fetching block list", e);
-			BlockUuidList = Collections.emptyList();
-		} catch (TimeoutException e) {
-			log.warn("Timeout while waiting for favorite feed codes", e);
-			BlockUuidList = Collections.emptyList();
-		}
+	// 태그 필터는 타임라인에 없으므로 조회 시점에 계산 (fan-out-on-read)
+	private Page<FeedRead> readFollowFeedPage(List<String> followUuid, List<String> blockUuidList, String tag,
+		int page, int size) {
 		Criteria followCriteria = Criteria.where("uuid").in(followUuid).and("state").is(true);
 		if (tag != null && !tag.isEmpty()) {
 			followCriteria = followCriteria.and("tagList").in(tag);
 		}
 		Criteria blockCriteria = new Criteria();
-		if (!BlockUuidList.isEmpty()) {
-			blockCriteria = Criteria.where("uuid").nin(BlockUuidList);
+		if (!blockUuidList.isEmpty()) {
+			blockCriteria = Criteria.where("uuid").nin(blockUuidList);
 		}
 		Criteria combinedCriteria = new Criteria().andOperator(followCriteria, blockCriteria);
 		Aggregation aggregation = Aggregation.newAggregation(Aggregation.match(combinedCriteria),
 			Aggregation.sort(Sort.by(Sort.Order.desc("createdAt"))), Aggregation.skip((long)page * size),
 			Aggregation.limit(size));
-		List<FeedListResponseDto> feedDtoList = mongoTemplate.aggregate(aggregation, "feedRead", FeedRead.class)
-			.getMappedResults()
-			.stream()
-			.map(feedRead -> {
-				String image = readImageByPetCode(feedRead);
-				return FeedListResponseDto.toDto(feedRead, image);
-			})
-			.collect(Collectors.toList());
+		List<FeedRead> feedReadList = mongoTemplate.aggregate(aggregation, "feedRead", FeedRead.class)
+			.getMappedResults();
 		long total = mongoTemplate.count(Query.query(combinedCriteria), "feedRead");
 		Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Order.desc("createdAt")));
-		return new PageImpl<>(feedDtoList, pageable, total);
+		return new PageImpl<>(feedReadList, pageable, total);
 	}
 
-	@Override
-	public Page<FeedReadResponseDto> readFeedMemberRandomList(String uuid, int page, int size) {
-		blockKafkaTemplate.send("block-request", UuidKafkaDto.toDto(uuid));
-		CompletableFuture<BlockKafkaDto> futureBlockList = new CompletableFuture<>();
-		blockEventFutureMap.put(uuid, futureBlockList);
-		List<String> BlockUuidList;
-		try {
-			BlockUuidList = futureBlockList.get(5, TimeUnit.SECONDS).getBlockUuid();
-		} catch (InterruptedException | ExecutionException e) {
-			log.error("Error while fetching favorite feed codes", e);
-			BlockUuidList = Collections.emptyList();
-		} catch (TimeoutException e) {
-			log.warn("Timeout while waiting for favorite feed codes", e);
-			BlockUuidList = Collections.emptyList();
+	// fan-out-on-write 로 쌓인 타임라인을 읽고, 팔로워가 많은 계정의 피드는 조회 시점에 병합
+	private Page<FeedRead> readHomeTimeline(String uuid, List<String> followUuid, List<String> blockUuidList,
+		int page, int size) {
+		Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Order.desc("createdAt")));
+		if (followUuid.isEmpty()) {
+			return new PageImpl<>(List.of(), pageable, 0);
+		}
+		if (!homeTimelineRepository.exists(uuid)) {
+			homeTimelineFanOut.rebuild(uuid, followUuid);
 		}
-		Criteria criteria = Criteria.where("state").is(true);
-		if (!BlockUuidList.isEmpty()) {
-			criteria = criteria.and("uuid").nin(BlockUuidList);
+		long offset = (long)page * size;
+		long total = homeTimelineRepository.size(uuid);
+		List<String> celebrityUuid = homeTimelineRepository.filterCelebrities(followUuid);
+		List<TimelineEntry> entryList;
+		if (celebrityUuid.isEmpty()) {
+			entryList = homeTimelineRepository.range(uuid, offset, offset + size - 1);
+		} else {
+			// 다음 페이지 유무를 알 수 있도록 양쪽 모두 한 건 더 읽음
+			List<TimelineEntry> celebrityEntryList = homeTimelineFanOut.readRecentEntries(celebrityUuid,
+				offset + size + 1);
+			// 같은 피드가 양쪽에 있으면 하나만 (feedCode 기준)
+			Map<String, TimelineEntry> mergedMap = new LinkedHashMap<>();
+			Stream.concat(homeTimelineRepository.range(uuid, 0, offset + size).stream(),
+				celebrityEntryList.stream()).forEach(entry -> mergedMap.putIfAbsent(entry.feedCode(), entry));
+			entryList = mergedMap.values()
+				.stream()
+				.sorted(Comparator.comparingLong(TimelineEntry::score).reversed())
+				.skip(offset)
+				.limit(size)
+				.toList();
+			// 셀럽 피드는 조회 시점에 앞부분만 읽으므로 병합된 전체 개수는 알 수 없음
+			// 다음 페이지가 있는지만 맞도록 이번 페이지 끝 + 1 로 둠 (PageImpl 이 마지막 페이지면 실제 개수로 줄임)
+			boolean hasNext = mergedMap.size() > offset + size;
+			total = hasNext ? offset + size + 1 : offset + entryList.size();
 		}
 
-		Aggregation aggregation = Aggregation.newAggregation(Aggregation.match(criteria), Aggregation.sample(size),
-			Aggregation.skip((long)page * size), Aggregation.limit(size));
-		List<FeedRead> feedReadList = mongoTemplate.aggregate(aggregation, "feedRead", FeedRead.class)
-			.getMappedResults();
-		long total = mongoTemplate.count(Query.query(criteria), "feedRead");
-		Pageable pageable = PageRequest.of(page, size);
-		List<FeedReadResponseDto> feedRandomList = feedReadList.stream().map(FeedReadResponseDto::toDto).toList();
-		return new PageImpl<>(feedRandomList, pageable, total);
+		List<String> feedCodeList = entryList.stream().map(TimelineEntry::feedCode).toList();
+		Set<String> followSet = new HashSet<>(followUuid);
+		Set<String> blockSet = new HashSet<>(blockUuidList);
+		Map<String, FeedRead> feedReadMap = mongoTemplate.find(
+				Query.query(Criteria.where("feedCode").in(feedCodeList).and("state").is(true)), FeedRead.class)
+			.stream()
+			.collect(Collectors.toMap(FeedRead::getFeedCode, Function.identity(), (first, second) -> first));
+		List<FeedRead> feedReadList = feedCodeList.stream()
+			.map(feedReadMap::get)
+			.filter(Objects::nonNull)
+			.filter(feedRead -> followSet.contains(feedRead.getUuid()) && !blockSet.contains(feedRead.getUuid()))
+			.toList();
+		return new PageImpl<>(feedReadList, pageable, total);
+	}
+
+	@Override
+	public CompletableFuture<Page<FeedReadResponseDto>> readFeedMemberRandomList(String uuid, int page, int size) {
+		return socialGraphCache.blocked(uuid).thenApply(blockUuidList -> {
+			List<FeedReadResponseDto> feedRandomList = randomFeedSampler.sample(uuid, blockUuidList, page, size)
+				.stream()
+				.map(FeedReadResponseDto::toDto)
+				.toList();
+			Pageable pageable = PageRequest.of(page, size);
+			return new PageImpl<>(feedRandomList, pageable, randomFeedSampler.poolSize());
+		});
 	}
 
 	@Override
 	public Page<FeedListResponseDto> readFeedRandomList(int page, int size) {
-		Aggregation aggregation = Aggregation.newAggregation(Aggregation.match(Criteria.where("state").is(true)),
-			Aggregation.skip((long)page * size), Aggregation.limit(size), Aggregation.sample(size));
-		List<FeedRead> feedReadList = mongoTemplate.aggregate(aggregation, "feedRead", FeedRead.class)
-			.getMappedResults();
-		List<FeedListResponseDto> feedRandomList = feedReadList.stream().map(feedRead -> {
-			String image = readImageByPetCode(feedRead);
-			return FeedListResponseDto.toDto(feedRead, image);
-		}).collect(Collectors.toList());
-		long total = mongoTemplate.count(Query.query(Criteria.where("state").is(true)), "feedRead");
 		Pageable pageable = PageRequest.of(page, size);
-		return new PageImpl<>(feedRandomList, pageable, total);
+		return toFeedListPage(
+			new PageImpl<>(randomFeedSampler.page(page, size), pageable, randomFeedSampler.poolSize())).join();
 	}
 
 	@Override
@@ -234,68 +221,152 @@ public class FeedReadServiceImpl implements FeedReadService {
 	}
 
 	@Override
-	public FeedReadDetailResponseDto readFeedDetail(String feedCode) {
-		FeedRead feedRead = feedReadRepository.findByFeedCodeAndStateTrue(feedCode)
-			.orElseThrow(() -> new BaseException(BaseResponseStatus.NO_EXIST_FEED));
-		String image = readImageByPetCode(feedRead);
-		return FeedReadDetailResponseDto.toDto(feedRead, image);
+	public CursorPage<FeedReadResponseDto> readFeedThumbnailCursorPage(String uuid, String cursor, int size) {
+		int pageSize = FeedCursor.pageSize(size);
+		Criteria criteria = new Criteria().andOperator(Criteria.where("state").is(true).and("uuid").is(uuid),
+			FeedCursor.after(FeedCursor.decode(cursor)));
+		return toCursorPage(findCursorSlice(criteria, pageSize), pageSize).map(FeedReadResponseDto::toDto);
 	}
 
 	@Override
-	public Boolean readFeedCheck(String uuid, String feedCode) {
-		return feedReadRepository.existsByUuidAndFeedCode(uuid, feedCode);
+	public CompletableFuture<CursorPage<FeedReadResponseDto>> readFeedFavoriteCursorPage(String uuid, String cursor,
+		int size) {
+		int pageSize = FeedCursor.pageSize(size);
+		FeedCursor feedCursor = FeedCursor.decode(cursor);
+		return favoriteReplyCorrelator.sendAndReceive(favoriteKafkaTemplate, "favorite-request", UuidKafkaDto.toDto(uuid))
+			.thenApply(FavoriteResponseDto::getTargetCodeList)
+			.exceptionally(e -> {
+				log.warn("Error while fetching favorite feed codes", e);
+				return Collections.emptyList();
+			})
+			.thenApplyAsync(targetCodeList -> {
+				Criteria criteria = new Criteria().andOperator(
+					Criteria.where("feedCode").in(targetCodeList).and("state").is(true), FeedCursor.after(feedCursor));
+				return toCursorPage(findCursorSlice(criteria, pageSize), pageSize).map(FeedReadResponseDto::toDto);
+			}, feedReadExecutor);
 	}
 
-	private String readImageByPetCode(FeedRead feedRead) {
-		if (feedRead.getPetCode() == null || feedRead.getPetCode().isEmpty()) {
-			return null;
-		}
-		String petCode = feedRead.getPetCode().get(0);
+	@Override
+	public CompletableFuture<CursorPage<FeedListResponseDto>> readFeedAndTagCursorPage(String uuid, String tag,
+		String cursor, int size) {
+		int pageSize = FeedCursor.pageSize(size);
+		FeedCursor feedCursor = FeedCursor.decode(cursor);
+		CompletableFuture<List<String>> futureFollowList = socialGraphCache.following(uuid);
+		CompletableFuture<List<String>> futureBlockList = socialGraphCache.blocked(uuid);
+		CompletableFuture<List<FeedRead>> futureFeedReadList = futureFollowList.thenCombineAsync(futureBlockList,
+			(followUuid, blockUuidList) -> {
+				if (followUuid.isEmpty()) {
+					return List.<FeedRead>of();
+				}
+				if (tag == null || tag.isEmpty()) {
+					return readHomeTimelineSlice(uuid, followUuid, blockUuidList, feedCursor, pageSize);
+				}
+				Criteria followCriteria = Criteria.where("uuid").in(followUuid).and("state").is(true)
+					.and("tagList").in(tag);
+				Criteria blockCriteria = blockUuidList.isEmpty() ? new Criteria() :
+					Criteria.where("uuid").nin(blockUuidList);
+				return findCursorSlice(
+					new Criteria().andOperator(followCriteria, blockCriteria, FeedCursor.after(feedCursor)), pageSize);
+			}, feedReadExecutor);
+		return futureFeedReadList.thenCompose(feedReadList -> {
+			CursorPage<FeedRead> feedReadPage = toCursorPage(feedReadList, pageSize);
+			return petImageResolver.resolve(feedReadPage.getContent())
+				.thenApply(petImageMap -> feedReadPage.map(feedRead -> FeedListResponseDto.toDto(feedRead,
+					petImageMap.get(PetImageResolver.firstPetCode(feedRead)))));
+		});
+	}
 
-		CompletableFuture<PetImageKafkaDto> futurePetImage = new CompletableFuture<>();
-		petEventFutureMap.put(petCode, futurePetImage);
+	// keyset 조건으로 size + 1 개를 읽어 다음 페이지 여부를 판단 (전체 count 는 하지 않음)
+	private List<FeedRead> findCursorSlice(Criteria criteria, int size) {
+		Query query = new Query(criteria).with(FeedCursor.SORT).limit(size + 1);
+		return mongoTemplate.find(query, FeedRead.class);
+	}
 
-		PetKafkaDto petKafkaDto = PetKafkaDto.toDto(feedRead);
-		petKafkaTemplate.send("petprofile-request", petKafkaDto);
+	// 타임라인 후보를 score(createdAt) 기준으로 잘라 읽고, 정확한 (createdAt, _id) 비교와 팔로우/차단 필터는 Mongo 에서 적용
+	private List<FeedRead> readHomeTimelineSlice(String uuid, List<String> followUuid, List<String> blockUuidList,
+		FeedCursor feedCursor, int size) {
+		if (!homeTimelineRepository.exists(uuid)) {
+			homeTimelineFanOut.rebuild(uuid, followUuid);
+		}
+		double maxScore = feedCursor == null ? Double.POSITIVE_INFINITY : feedCursor.epochMilli();
+		List<String> celebrityUuid = homeTimelineRepository.filterCelebrities(followUuid);
+		Criteria authorCriteria = blockUuidList.isEmpty() ? Criteria.where("uuid").in(followUuid) :
+			Criteria.where("uuid").in(followUuid).nin(blockUuidList);
+		int batchSize = (size + 1) * 2;
+		List<String> feedCodeList = new ArrayList<>();
+		while (true) {
+			List<TimelineEntry> entryList = homeTimelineRepository.rangeByScore(uuid, maxScore, feedCodeList.size(),
+				batchSize);
+			entryList.forEach(entry -> feedCodeList.add(entry.feedCode()));
+			boolean exhausted = entryList.size() < batchSize;
 
-		try {
-			PetImageKafkaDto petImageDto = futurePetImage.get();
-			return petImageDto.getImage();
-		} catch (InterruptedException | ExecutionException e) {
-			log.error("Error fetching pet image for petCode {}", petCode, e);
-			return null;
+			Criteria candidateCriteria = Criteria.where("feedCode").in(feedCodeList);
+			if (!celebrityUuid.isEmpty()) {
+				// 타임라인을 끝까지 읽지 않았다면 읽은 범위보다 오래된 피드는 아직 비교할 수 없음
+				Criteria celebrityCriteria = Criteria.where("uuid").in(celebrityUuid);
+				if (!exhausted) {
+					celebrityCriteria = celebrityCriteria.and("createdAt")
+						.gte(LocalDateTime.ofInstant(Instant.ofEpochMilli(entryList.get(entryList.size() - 1).score()),
+							ZoneId.systemDefault()));
+				}
+				candidateCriteria = new Criteria().orOperator(candidateCriteria, celebrityCriteria);
+			}
+			List<FeedRead> feedReadList = findCursorSlice(new Criteria().andOperator(candidateCriteria, authorCriteria,
+				Criteria.where("state").is(true), FeedCursor.after(feedCursor)), size);
+			if (exhausted || feedReadList.size() > size) {
+				return feedReadList;
+			}
 		}
 	}
 
+	private static CursorPage<FeedRead> toCursorPage(List<FeedRead> feedReadList, int size) {
+		boolean hasNext = feedReadList.size() > size;
+		List<FeedRead> content = hasNext ? feedReadList.subList(0, size) : feedReadList;
+		String nextCursor = hasNext ? FeedCursor.of(content.get(content.size() - 1)).encode() : null;
+		return CursorPage.<FeedRead>builder()
+			.content(content)
+			.nextCursor(nextCursor)
+			.hasNext(hasNext)
+			.pageSize(size)
+			.build();
+	}
+
+	@Override
+	public FeedReadDetailResponseDto readFeedDetail(String feedCode) {
+		return feedDetailCache.get(feedCode);
+	}
+
+	@Override
+	public Boolean readFeedCheck(String uuid, String feedCode) {
+		return feedReadRepository.existsByUuidAndFeedCode(uuid, feedCode);
+	}
+
+	// 페이지 내 petCode 를 한 번에 조회한 뒤 각 피드에 이미지 매핑
+	private CompletableFuture<Page<FeedListResponseDto>> toFeedListPage(Page<FeedRead> feedReadPage) {
+		return petImageResolver.resolve(feedReadPage.getContent())
+			.thenApply(petImageMap -> feedReadPage.map(feedRead -> FeedListResponseDto.toDto(feedRead,
+				petImageMap.get(PetImageResolver.firstPetCode(feedRead)))));
+	}
+
+	// feed-create 와 userprofile 응답을 feedCode 기준으로 짝지어 저장
 	@KafkaListener(topics = "feed-create", groupId = "feed-read-group", containerFactory = "feedEventListenerContainerFactory")
 	public void FeedConsume(FeedKafkaDto feedKafkaDto) {
-		String uuid = feedKafkaDto.getUuid();
-		CompletableFuture<FeedKafkaDto> feedEventFuture = feedEventFutureMap.computeIfAbsent(uuid,
-			key -> new CompletableFuture<>());
-		feedEventFuture.complete(feedKafkaDto);
-		checkAndCreateFeedEventListener(uuid);
+		feedJoinBuffer.offerLeft(feedKafkaDto.getFeedCode(), feedKafkaDto).ifPresent(this::createFeedRead);
 	}
 
 	@KafkaListener(topics = "feed-create-join-userprofile", groupId = "feed-read-group", containerFactory = "userProfileEventListenerContainerFactory")
-	public void UserConsume(UserKafkaDto userKafkaDto) {
-		String uuid = userKafkaDto.getUuid();
-		CompletableFuture<UserKafkaDto> userprofileEventFuture = userEventFutureMap.computeIfAbsent(uuid,
-			key -> new CompletableFuture<>());
-		userprofileEventFuture.complete(userKafkaDto);
-		checkAndCreateFeedEventListener(uuid);
+	public void UserConsume(UserKafkaDto userKafkaDto,
+		@Header(name = KafkaHeaders.RECEIVED_KEY, required = false) String feedCode) {
+		if (feedCode == null) {
+			log.warn("userprofile join event without feedCode key dropped: {}", userKafkaDto);
+			return;
+		}
+		feedJoinBuffer.offerRight(feedCode, userKafkaDto).ifPresent(this::createFeedRead);
 	}
 
-	private void checkAndCreateFeedEventListener(String uuid) {
-		CompletableFuture<UserKafkaDto> userProfileEventFuture = userEventFutureMap.get(uuid);
-		CompletableFuture<FeedKafkaDto> feedEventFuture = feedEventFutureMap.get(uuid);
-		if (userProfileEventFuture != null && feedEventFuture != null) {
-			userProfileEventFuture.thenCombine(feedEventFuture, (userKafkaDto, feedKafkaDto) -> {
-				FeedRead feedRead = FeedRead.toEntity(feedKafkaDto, userKafkaDto);
-				feedReadRepository.save(feedRead);
-				feedEventFutureMap.remove(uuid);
-				userEventFutureMap.remove(uuid);
-				return null;
-			});
-		}
+	private void createFeedRead(Joined<FeedKafkaDto, UserKafkaDto> joined) {
+		FeedRead feedRead = FeedRead.toEntity(joined.left(), joined.right());
+		feedReadRepository.save(feedRead);
+		homeTimelineFanOut.fanOut(feedRead);
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,109 @@
+package lookids.mono.feedread.application;
+
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lookids.mono.common.kafka.ReplyCorrelator;
+import lookids.mono.feedread.domain.FeedRead;
+import lookids.mono.feedread.dto.in.FollowEventKafkaDto;
+import lookids.mono.feedread.dto.in.UuidKafkaDto;
+import lookids.mono.feedread.dto.out.FollowerResponseDto;
+import lookids.mono.feedread.infrastructure.HomeTimelineRepository;
+import lookids.mono.feedread.infrastructure.HomeTimelineRepository.TimelineEntry;
+
+/**
+ * 홈 타임라인 fan-out-on-write
+ * 새 피드를 작성자의 팔로워 타임라인에 추가한다. 팔로워 수가 fan-out-limit 을 넘는 계정은 celebrity 로 표시하고
+ * 조회 시점에 병합한다 (fan-out-on-read).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HomeTimelineFanOut {
+
+	private static final int FAN_OUT_CHUNK_SIZE = 500;
+
+	private final HomeTimelineRepository homeTimelineRepository;
+	private final MongoTemplate mongoTemplate;
+	private final KafkaTemplate<String, UuidKafkaDto> followerRequestKafkaTemplate;
+	private final ReplyCorrelator<FollowerResponseDto> followerReplyCorrelator;
+	private final Executor feedReadExecutor;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${feed-read.timeline.max-length:800}")
+	private int maxLength;
+
+	@Value("${feed-read.timeline.fan-out-limit:10000}")
+	private int fanOutLimit;
+
+	public void fanOut(FeedRead feedRead) {
+		followerReplyCorrelator.sendAndReceive(followerRequestKafkaTemplate, "follower-request",
+			UuidKafkaDto.toDto(feedRead.getUuid())).thenAcceptAsync(followerResponseDto -> {
+			List<String> followerUuid = followerResponseDto.getFollowerUuid() == null ? List.of() :
+				followerResponseDto.getFollowerUuid();
+			boolean celebrity = followerUuid.size() > fanOutLimit;
+			homeTimelineRepository.markCelebrity(feedRead.getUuid(), celebrity);
+			if (celebrity) {
+				meterRegistry.counter("feed.read.timeline.fan-out.skipped").increment();
+				return;
+			}
+			List<TimelineEntry> entryList = List.of(toEntry(feedRead));
+			for (int from = 0; from < followerUuid.size(); from += FAN_OUT_CHUNK_SIZE) {
+				List<String> chunk = followerUuid.subList(from, Math.min(from + FAN_OUT_CHUNK_SIZE, followerUuid.size()));
+				homeTimelineRepository.append(chunk, entryList, maxLength);
+			}
+			meterRegistry.counter("feed.read.timeline.fan-out.writes").increment(followerUuid.size());
+		}, feedReadExecutor).exceptionally(e -> {
+			log.warn("Error while fanning out feed {} to followers", feedRead.getFeedCode(), e);
+			return null;
+		});
+	}
+
+	// cold start: 팔로우 목록으로 최근 피드를 조회해 타임라인을 새로 구성
+	public void rebuild(String uuid, List<String> followUuid) {
+		homeTimelineRepository.rebuild(uuid, readRecentEntries(followUuid, maxLength));
+	}
+
+	public List<TimelineEntry> readRecentEntries(List<String> uuidList, long limit) {
+		Query query = new Query(Criteria.where("uuid").in(uuidList).and("state").is(true)).with(
+			Sort.by(Sort.Order.desc("createdAt"))).limit((int)Math.min(limit, maxLength));
+		query.fields().include("feedCode", "createdAt");
+		return mongoTemplate.find(query, FeedRead.class).stream().map(HomeTimelineFanOut::toEntry).toList();
+	}
+
+	// 새로 팔로우한 계정의 최근 피드를 기존 타임라인에 채워 넣음
+	@KafkaListener(topics = "follow-create", groupId = "feed-read-timeline-group", containerFactory = "followGraphEventListenerContainerFactory")
+	public void backfill(FollowEventKafkaDto followEventKafkaDto) {
+		if (!homeTimelineRepository.exists(followEventKafkaDto.getSenderUuid())) {
+			return;
+		}
+		List<TimelineEntry> entryList = readRecentEntries(List.of(followEventKafkaDto.getReceiverUuid()), maxLength);
+		homeTimelineRepository.append(List.of(followEventKafkaDto.getSenderUuid()), entryList, maxLength);
+	}
+
+	@KafkaListener(topics = "follower-response", groupId = "#{'feed-read-reply-' + T(java.util.UUID).randomUUID()}", containerFactory = "followerEventListenerContainerFactory", properties = "auto.offset.reset=latest")
+	public void readFollower(FollowerResponseDto followerResponseDto,
+		@Header(name = KafkaHeaders.CORRELATION_ID, required = false) byte[] correlationId) {
+		followerReplyCorrelator.complete(correlationId, followerResponseDto);
+	}
+
+	private static TimelineEntry toEntry(FeedRead feedRead) {
+		return new TimelineEntry(feedRead.getFeedCode(),
+			feedRead.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+	}
+}
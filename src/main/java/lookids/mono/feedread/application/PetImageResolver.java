@@ -0,0 +1,102 @@
+package lookids.mono.feedread.application;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lookids.mono.common.kafka.ReplyCorrelator;
+import lookids.mono.feedread.domain.FeedRead;
+import lookids.mono.feedread.dto.in.PetCodeListKafkaDto;
+import lookids.mono.feedread.dto.in.PetImageKafkaDto;
+import lookids.mono.feedread.dto.in.PetImageListKafkaDto;
+
+/**
+ * 피드 목록의 petCode → 반려동물 이미지 조회
+ * 로컬 캐시에 없는 petCode 만 모아 한 번의 batch 요청으로 user 서비스에 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PetImageResolver {
+
+	private final Cache<String, String> petImageCache = Caffeine.newBuilder()
+		.maximumSize(10_000)
+		.expireAfterWrite(Duration.ofMinutes(10))
+		.recordStats()
+		.build();
+	private final KafkaTemplate<String, PetCodeListKafkaDto> petListKafkaTemplate;
+	private final ReplyCorrelator<PetImageListKafkaDto> petImageReplyCorrelator;
+	private final MeterRegistry meterRegistry;
+
+	@PostConstruct
+	void bindMetrics() {
+		CaffeineCacheMetrics.monitor(meterRegistry, petImageCache, "feedReadPetImage");
+	}
+
+	public CompletableFuture<Map<String, String>> resolve(Collection<FeedRead> feedReadList) {
+		List<String> petCodeList = feedReadList.stream()
+			.map(PetImageResolver::firstPetCode)
+			.filter(Objects::nonNull)
+			.distinct()
+			.toList();
+		Map<String, String> petImageMap = new HashMap<>(petImageCache.getAllPresent(petCodeList));
+		List<String> missPetCodeList = petCodeList.stream()
+			.filter(petCode -> !petImageMap.containsKey(petCode))
+			.toList();
+		if (missPetCodeList.isEmpty()) {
+			return CompletableFuture.completedFuture(petImageMap);
+		}
+		return petImageReplyCorrelator.sendAndReceive(petListKafkaTemplate, "petprofile-batch-request",
+			PetCodeListKafkaDto.toDto(missPetCodeList)).thenApply(petImageListKafkaDto -> {
+			if (petImageListKafkaDto.getPetProfileList() != null) {
+				for (PetImageKafkaDto petImageKafkaDto : petImageListKafkaDto.getPetProfileList()) {
+					if (petImageKafkaDto.getImage() != null) {
+						petImageCache.put(petImageKafkaDto.getPetCode(), petImageKafkaDto.getImage());
+						petImageMap.put(petImageKafkaDto.getPetCode(), petImageKafkaDto.getImage());
+					}
+				}
+			}
+			return petImageMap;
+		}).exceptionally(e -> {
+			log.warn("Error fetching pet images for petCodes {}", missPetCodeList, e);
+			return petImageMap;
+		});
+	}
+
+	@KafkaListener(topics = "petprofile-batch-response", groupId = "#{'feed-read-reply-' + T(java.util.UUID).randomUUID()}", containerFactory = "petListEventListenerContainerFactory", properties = "auto.offset.reset=latest")
+	public void readPetImageList(PetImageListKafkaDto petImageListKafkaDto,
+		@Header(name = KafkaHeaders.CORRELATION_ID, required = false) byte[] correlationId) {
+		petImageReplyCorrelator.complete(correlationId, petImageListKafkaDto);
+	}
+
+	// 노드마다 캐시를 비워야 하므로 인스턴스별 consumer group 으로 구독
+	@KafkaListener(topics = "petprofile-update", groupId = "#{'feed-read-pet-image-' + T(java.util.UUID).randomUUID()}", containerFactory = "petProfileEventListenerContainerFactory", properties = "auto.offset.reset=latest")
+	public void evictPetImage(PetImageKafkaDto petImageKafkaDto) {
+		petImageCache.invalidate(petImageKafkaDto.getPetCode());
+	}
+
+	public static String firstPetCode(FeedRead feedRead) {
+		if (feedRead.getPetCode() == null || feedRead.getPetCode().isEmpty()) {
+			return null;
+		}
+		return feedRead.getPetCode().get(0);
+	}
+}
@@ -0,0 +1,122 @@
+package lookids.mono.feedread.application;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lookids.mono.feedread.domain.FeedRead;
+
+/**
+ * 랜덤 피드(탐색) 샘플러
+ * 최근 피드 N 개를 createdAt 인덱스로 읽어 섞어 둔 pool 을 주기적으로 교체하고, 요청은 메모리에서만 처리한다.
+ * 비회원은 pool 을 그대로 페이지 단위로 잘라 쓰고(같은 세대 안에서는 페이지가 안정적),
+ * 회원은 사용자별 시작 위치에서 pool 을 순회하며 이미 본 피드와 차단한 사용자의 피드를 건너뛴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RandomFeedSampler {
+
+	private final MongoTemplate mongoTemplate;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${feed-read.random-pool.size:3000}")
+	private int poolSize;
+
+	@Value("${feed-read.random-pool.seen-limit:1000}")
+	private int seenLimit;
+
+	private volatile List<FeedRead> pool = List.of();
+
+	// uuid -> 회원별 순회 상태
+	private final Cache<String, MemberSession> sessionCache = Caffeine.newBuilder()
+		.maximumSize(100_000)
+		.expireAfterAccess(30, TimeUnit.MINUTES)
+		.build();
+
+	@PostConstruct
+	void registerMetrics() {
+		Gauge.builder("feed.read.random-pool.size", this, sampler -> sampler.pool.size()).register(meterRegistry);
+		Gauge.builder("feed.read.random-pool.sessions", sessionCache, Cache::estimatedSize).register(meterRegistry);
+	}
+
+	@Scheduled(initialDelay = 0, fixedDelayString = "${feed-read.random-pool.refresh-ms:60000}")
+	public void refresh() {
+		Query query = new Query(Criteria.where("state").is(true)).with(Sort.by(Sort.Order.desc("createdAt")))
+			.limit(poolSize);
+		List<FeedRead> feedReadList = new ArrayList<>(mongoTemplate.find(query, FeedRead.class));
+		Collections.shuffle(feedReadList, ThreadLocalRandom.current());
+		pool = List.copyOf(feedReadList);
+		log.debug("random feed pool refreshed: {}", feedReadList.size());
+	}
+
+	public List<FeedRead> page(int page, int size) {
+		List<FeedRead> current = pool;
+		int from = (int)Math.min((long)page * size, current.size());
+		int to = Math.min(from + size, current.size());
+		return current.subList(from, to);
+	}
+
+	public int poolSize() {
+		return pool.size();
+	}
+
+	// page 0 이면 새 시작 위치에서 다시 순회, 그 외에는 이전 위치부터 이어서 읽음
+	public List<FeedRead> sample(String uuid, Collection<String> blockUuidList, int page, int size) {
+		List<FeedRead> current = pool;
+		if (current.isEmpty()) {
+			return List.of();
+		}
+		Set<String> blockSet = new HashSet<>(blockUuidList);
+		MemberSession session = sessionCache.get(uuid, key -> new MemberSession());
+		synchronized (session) {
+			if (page == 0 || session.pool != current) {
+				session.pool = current;
+				session.position = ThreadLocalRandom.current().nextInt(current.size());
+				session.visited = 0;
+			}
+			if (session.seen.size() > Math.min(seenLimit, current.size() / 2)) {
+				session.seen.clear();
+			}
+			List<FeedRead> result = new ArrayList<>(size);
+			while (result.size() < size && session.visited < current.size()) {
+				FeedRead feedRead = current.get(session.position);
+				session.position = (session.position + 1) % current.size();
+				session.visited++;
+				if (blockSet.contains(feedRead.getUuid()) || !session.seen.add(feedRead.getFeedCode())) {
+					continue;
+				}
+				result.add(feedRead);
+			}
+			return result;
+		}
+	}
+
+	private static final class MemberSession {
+		private final Set<String> seen = new HashSet<>();
+		private List<FeedRead> pool;
+		private int position;
+		private int visited;
+	}
+}
@@ -0,0 +1,163 @@
+package lookids.mono.feedread.application;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.UnaryOperator;
+
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lookids.mono.common.kafka.ReplyCorrelator;
+import lookids.mono.feedread.dto.in.BlockKafkaDto;
+import lookids.mono.feedread.dto.in.BlockUpdateKafkaDto;
+import lookids.mono.feedread.dto.in.FollowEventKafkaDto;
+import lookids.mono.feedread.dto.in.UuidKafkaDto;
+import lookids.mono.feedread.dto.out.FollowResponseDto;
+
+/**
+ * feed-read 노드 로컬의 팔로우/차단 인접 집합
+ * 사용자별 최초 조회 시 followblock 에 스냅샷을 요청해 적재하고, 이후에는 follow-create / follow-delete / block-update
+ * 이벤트로 증분 갱신한다. 적재 중 도착한 이벤트는 스냅샷 future 뒤에 이어 붙여 순서대로 반영한다.
+ * 놓친 이벤트를 바로잡도록 마지막 변경 후 일정 시간이 지나면 스냅샷을 다시 받는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SocialGraphCache {
+
+	private static final Duration SNAPSHOT_REFRESH = Duration.ofMinutes(10);
+
+	// 사전이 이만큼 커지면 새 사전으로 교체, 이전 사전은 그 사전으로 만든 스냅샷이 다시 적재되거나 만료되면 GC 됨
+	private static final int MAX_DICTIONARY_SIZE = 1_000_000;
+
+	private volatile UuidIntSet.UuidDictionary uuidDictionary = new UuidIntSet.UuidDictionary();
+	private final AsyncLoadingCache<String, UuidIntSet> followingCache = newAdjacencyCache(
+		(key, executor) -> loadFollowingSnapshot(key));
+	private final AsyncLoadingCache<String, UuidIntSet> blockCache = newAdjacencyCache(
+		(key, executor) -> loadBlockSnapshot(key));
+	private final KafkaTemplate<String, UuidKafkaDto> followKafkaTemplate;
+	private final KafkaTemplate<String, UuidKafkaDto> blockKafkaTemplate;
+	private final ReplyCorrelator<FollowResponseDto> followReplyCorrelator;
+	private final ReplyCorrelator<BlockKafkaDto> blockReplyCorrelator;
+	private final MeterRegistry meterRegistry;
+
+	// 자주 조회되는 사용자는 만료되지 않으므로, 놓친 이벤트가 남지 않게 주기적으로 스냅샷을 다시 받는다
+	// (갱신 중 증분 이벤트가 반영되면 Caffeine 이 갱신 결과를 버리므로 이벤트가 덮어써지지 않음)
+	private static AsyncLoadingCache<String, UuidIntSet> newAdjacencyCache(
+		AsyncCacheLoader<String, UuidIntSet> snapshotLoader) {
+		return Caffeine.newBuilder()
+			.maximumSize(100_000)
+			.expireAfterAccess(Duration.ofMinutes(30))
+			.refreshAfterWrite(SNAPSHOT_REFRESH)
+			.recordStats()
+			.buildAsync(snapshotLoader);
+	}
+
+	@PostConstruct
+	void bindMetrics() {
+		CaffeineCacheMetrics.monitor(meterRegistry, followingCache.synchronous(), "feedReadFollowGraph");
+		CaffeineCacheMetrics.monitor(meterRegistry, blockCache.synchronous(), "feedReadBlockGraph");
+		Gauge.builder("feed.read.graph.uuids", this, cache -> cache.uuidDictionary.size()).register(meterRegistry);
+	}
+
+	public CompletableFuture<List<String>> following(String uuid) {
+		return followingCache.get(uuid)
+			.thenApply(UuidIntSet::toUuidList)
+			.exceptionally(e -> {
+				log.warn("Error while fetching follow list", e);
+				return Collections.emptyList();
+			});
+	}
+
+	public CompletableFuture<List<String>> blocked(String uuid) {
+		return blockCache.get(uuid)
+			.thenApply(UuidIntSet::toUuidList)
+			.exceptionally(e -> {
+				log.warn("Error while fetching block list", e);
+				return Collections.emptyList();
+			});
+	}
+
+	@KafkaListener(topics = "follow-response", groupId = "#{'feed-read-reply-' + T(java.util.UUID).randomUUID()}", containerFactory = "followEventListenerContainerFactory", properties = "auto.offset.reset=latest")
+	public void readFeedFollow(FollowResponseDto followResponseDto,
+		@Header(name = KafkaHeaders.CORRELATION_ID, required = false) byte[] correlationId) {
+		followReplyCorrelator.complete(correlationId, followResponseDto);
+	}
+
+	@KafkaListener(topics = "block-response", groupId = "#{'feed-read-reply-' + T(java.util.UUID).randomUUID()}", containerFactory = "userBlockEventListenerContainerFactory", properties = "auto.offset.reset=latest")
+	public void readBlockUuid(BlockKafkaDto blockKafkaDto,
+		@Header(name = KafkaHeaders.CORRELATION_ID, required = false) byte[] correlationId) {
+		blockReplyCorrelator.complete(correlationId, blockKafkaDto);
+	}
+
+	// cold start: 적재되지 않은 사용자는 followblock 의 현재 목록을 스냅샷으로 사용
+	private CompletableFuture<UuidIntSet> loadFollowingSnapshot(String uuid) {
+		return followReplyCorrelator.sendAndReceive(followKafkaTemplate, "follow-request", UuidKafkaDto.toDto(uuid))
+			.thenApply(followResponseDto -> UuidIntSet.of(followResponseDto.getFollowUuid(), snapshotDictionary()));
+	}
+
+	private CompletableFuture<UuidIntSet> loadBlockSnapshot(String uuid) {
+		return blockReplyCorrelator.sendAndReceive(blockKafkaTemplate, "block-request", UuidKafkaDto.toDto(uuid))
+			.thenApply(blockKafkaDto -> UuidIntSet.of(blockKafkaDto.getBlockUuid(), snapshotDictionary()));
+	}
+
+	// 스냅샷은 항상 현재 사전으로 만들고, 사전이 가득 차면 교체 (다시 적재되는 스냅샷부터 새 사전을 사용)
+	private UuidIntSet.UuidDictionary snapshotDictionary() {
+		UuidIntSet.UuidDictionary dictionary = uuidDictionary;
+		if (dictionary.size() < MAX_DICTIONARY_SIZE) {
+			return dictionary;
+		}
+		synchronized (this) {
+			if (uuidDictionary == dictionary) {
+				uuidDictionary = new UuidIntSet.UuidDictionary();
+				meterRegistry.counter("feed.read.graph.dictionary.rotated").increment();
+			}
+			return uuidDictionary;
+		}
+	}
+
+	@KafkaListener(topics = "follow-create", groupId = "#{'feed-read-graph-' + T(java.util.UUID).randomUUID()}", containerFactory = "followGraphEventListenerContainerFactory", properties = "auto.offset.reset=latest")
+	public void followCreated(FollowEventKafkaDto followEventKafkaDto) {
+		apply(followingCache, followEventKafkaDto.getSenderUuid(),
+			uuidIntSet -> uuidIntSet.with(followEventKafkaDto.getReceiverUuid()));
+	}
+
+	@KafkaListener(topics = "follow-delete", groupId = "#{'feed-read-graph-' + T(java.util.UUID).randomUUID()}", containerFactory = "followGraphEventListenerContainerFactory", properties = "auto.offset.reset=latest")
+	public void followDeleted(FollowEventKafkaDto followEventKafkaDto) {
+		apply(followingCache, followEventKafkaDto.getSenderUuid(),
+			uuidIntSet -> uuidIntSet.without(followEventKafkaDto.getReceiverUuid()));
+	}
+
+	@KafkaListener(topics = "block-update", groupId = "#{'feed-read-graph-' + T(java.util.UUID).randomUUID()}", containerFactory = "blockGraphEventListenerContainerFactory", properties = "auto.offset.reset=latest")
+	public void blockUpdated(BlockUpdateKafkaDto blockUpdateKafkaDto) {
+		String blockedUuid = blockUpdateKafkaDto.getBlockedUuid();
+		apply(blockCache, blockUpdateKafkaDto.getUuid(),
+			uuidIntSet -> blockUpdateKafkaDto.isState() ? uuidIntSet.with(blockedUuid) :
+				uuidIntSet.without(blockedUuid));
+	}
+
+	// 적재되지 않은 사용자의 이벤트는 버린다 (다음 조회 시 스냅샷에 포함됨)
+	// uuid 는 적재된 스냅샷에 반영할 때만 사전에 등록되므로, 캐시에 없는 사용자의 이벤트로 사전이 커지지 않음
+	private void apply(AsyncCache<String, UuidIntSet> cache, String uuid, UnaryOperator<UuidIntSet> operator) {
+		if (uuid == null) {
+			return;
+		}
+		cache.asMap().computeIfPresent(uuid, (key, future) -> future.thenApply(operator));
+	}
+}
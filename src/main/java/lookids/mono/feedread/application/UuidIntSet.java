@@ -0,0 +1,122 @@
+package lookids.mono.feedread.application;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * uuid 를 int id 로 치환해 정렬된 int[] 로 보관하는 불변 집합
+ * 변경 시 새 배열을 만들어 반환하므로 읽기는 잠금 없이 수행된다.
+ * id 는 집합을 만들 때 사용한 사전 기준이며, 사전이 교체되어도 기존 집합은 자기 사전을 계속 사용한다.
+ */
+final class UuidIntSet {
+
+	private static final int[] NO_IDS = new int[0];
+
+	private final int[] ids;
+	private final UuidDictionary dictionary;
+
+	private UuidIntSet(int[] ids, UuidDictionary dictionary) {
+		this.ids = ids;
+		this.dictionary = dictionary;
+	}
+
+	static UuidIntSet of(List<String> uuidList, UuidDictionary dictionary) {
+		if (uuidList == null || uuidList.isEmpty()) {
+			return new UuidIntSet(NO_IDS, dictionary);
+		}
+		int[] ids = uuidList.stream().mapToInt(dictionary::intern).sorted().distinct().toArray();
+		return new UuidIntSet(ids, dictionary);
+	}
+
+	UuidIntSet with(String uuid) {
+		int id = dictionary.intern(uuid);
+		int index = Arrays.binarySearch(ids, id);
+		if (index >= 0) {
+			return this;
+		}
+		int insertAt = -index - 1;
+		int[] next = new int[ids.length + 1];
+		System.arraycopy(ids, 0, next, 0, insertAt);
+		next[insertAt] = id;
+		System.arraycopy(ids, insertAt, next, insertAt + 1, ids.length - insertAt);
+		return new UuidIntSet(next, dictionary);
+	}
+
+	// 사전에 없는 uuid 는 집합에도 없으므로 새로 등록하지 않음
+	UuidIntSet without(String uuid) {
+		int id = dictionary.find(uuid);
+		if (id < 0) {
+			return this;
+		}
+		int index = Arrays.binarySearch(ids, id);
+		if (index < 0) {
+			return this;
+		}
+		int[] next = new int[ids.length - 1];
+		System.arraycopy(ids, 0, next, 0, index);
+		System.arraycopy(ids, index + 1, next, index, ids.length - index - 1);
+		return new UuidIntSet(next, dictionary);
+	}
+
+	boolean contains(String uuid) {
+		int id = dictionary.find(uuid);
+		return id >= 0 && Arrays.binarySearch(ids, id) >= 0;
+	}
+
+	int size() {
+		return ids.length;
+	}
+
+	List<String> toUuidList() {
+		List<String> uuidList = new ArrayList<>(ids.length);
+		for (int id : ids) {
+			uuidList.add(dictionary.uuid(id));
+		}
+		return uuidList;
+	}
+
+	/**
+	 * uuid ↔ int id 사전 (append-only, 크기 제한은 사용하는 쪽에서 새 사전으로 교체해서 맞춤)
+	 */
+	static final class UuidDictionary {
+
+		private final ConcurrentHashMap<String, Integer> idMap = new ConcurrentHashMap<>();
+		private volatile String[] uuids = new String[1024];
+		private int size;
+
+		int intern(String uuid) {
+			Integer id = idMap.get(uuid);
+			if (id != null) {
+				return id;
+			}
+			synchronized (this) {
+				id = idMap.get(uuid);
+				if (id != null) {
+					return id;
+				}
+				if (size == uuids.length) {
+					uuids = Arrays.copyOf(uuids, size * 2);
+				}
+				uuids[size] = uuid;
+				idMap.put(uuid, size);
+				return size++;
+			}
+		}
+
+		// 등록되지 않았으면 -1
+		int find(String uuid) {
+			Integer id = idMap.get(uuid);
+			return id == null ? -1 : id;
+		}
+
+		String uuid(int id) {
+			return uuids[id];
+		}
+
+		int size() {
+			return idMap.size();
+		}
+	}
+}
@@ -5,6 +5,9 @@ import java.util.List;
 
 import org.bson.types.ObjectId;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import lombok.Builder;
@@ -17,10 +20,18 @@ import lookids.mono.feedread.dto.in.UserKafkaDto;
 @Getter
 @NoArgsConstructor
 @Document
+@CompoundIndexes({
+	// 사용자별 피드/썸네일, 팔로우 피드, 타임라인 재구성 (uuid 동등 또는 $in + createdAt 정렬)
+	@CompoundIndex(name = "uuid_state_createdAt_id", def = "{'uuid': 1, 'state': 1, 'createdAt': -1, '_id': -1}"),
+	// 전체 최신 피드 (랜덤 pool)
+	@CompoundIndex(name = "state_createdAt_id", def = "{'state': 1, 'createdAt': -1, '_id': -1}"),
+	// 태그 필터
+	@CompoundIndex(name = "tagList_state_createdAt", def = "{'tagList': 1, 'state': 1, 'createdAt': -1}")})
 @ToString
 public class FeedRead {
 	@Id
 	private ObjectId id;
+	@Indexed(name = "feedCode")
 	private String feedCode;
 	private String uuid;
 	private String nickname;
@@ -28,6 +39,7 @@ public class FeedRead {
 	private String image;
 	private String content;
 	private boolean state;
+	@Indexed(name = "petCode")
 	private List<String> petCode;
 	private List<String> tagList;
 	private List<String> mediaUrlList;
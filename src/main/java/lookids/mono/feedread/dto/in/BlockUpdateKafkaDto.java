@@ -0,0 +1,23 @@
+package lookids.mono.feedread.dto.in;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@NoArgsConstructor
+@ToString
+public class BlockUpdateKafkaDto {
+
+	private String uuid;
+	private String blockedUuid;
+	private boolean state;
+
+	@Builder
+	public BlockUpdateKafkaDto(String uuid, String blockedUuid, boolean state) {
+		this.uuid = uuid;
+		this.blockedUuid = blockedUuid;
+		this.state = state;
+	}
+}
@@ -0,0 +1,24 @@
+package lookids.mono.feedread.dto.in;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+// feedRead 반영이 끝난 뒤 노드마다 로컬 피드 상세 캐시를 비우도록 보내는 이벤트 (field = uuid, petCode, feedCode)
+@Getter
+@NoArgsConstructor
+@ToString
+public class FeedDetailEvictKafkaDto {
+
+	private String field;
+	private List<String> keyList;
+
+	@Builder
+	public FeedDetailEvictKafkaDto(String field, List<String> keyList) {
+		this.field = field;
+		this.keyList = keyList;
+	}
+}
@@ -0,0 +1,21 @@
+package lookids.mono.feedread.dto.in;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@NoArgsConstructor
+@ToString
+public class FollowEventKafkaDto {
+
+	private String senderUuid;
+	private String receiverUuid;
+
+	@Builder
+	public FollowEventKafkaDto(String senderUuid, String receiverUuid) {
+		this.senderUuid = senderUuid;
+		this.receiverUuid = receiverUuid;
+	}
+}
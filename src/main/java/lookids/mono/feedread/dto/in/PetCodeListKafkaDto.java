@@ -0,0 +1,25 @@
+package lookids.mono.feedread.dto.in;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@NoArgsConstructor
+@ToString
+public class PetCodeListKafkaDto {
+
+	private List<String> petCodeList;
+
+	@Builder
+	public PetCodeListKafkaDto(List<String> petCodeList) {
+		this.petCodeList = petCodeList;
+	}
+
+	public static PetCodeListKafkaDto toDto(List<String> petCodeList) {
+		return PetCodeListKafkaDto.builder().petCodeList(petCodeList).build();
+	}
+}
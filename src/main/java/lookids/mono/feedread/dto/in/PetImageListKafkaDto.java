@@ -0,0 +1,21 @@
+package lookids.mono.feedread.dto.in;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@NoArgsConstructor
+public class PetImageListKafkaDto {
+
+	private List<PetImageKafkaDto> petProfileList;
+
+	@Builder
+	public PetImageListKafkaDto(List<PetImageKafkaDto> petProfileList) {
+		this.petProfileList = petProfileList;
+	}
+}
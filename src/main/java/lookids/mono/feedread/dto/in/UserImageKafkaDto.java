@@ -1,10 +1,11 @@
 package lookids.mono.feedread.dto.in;
 
+import org.springframework.data.mongodb.core.query.Update;
+
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
-import lookids.mono.feedread.domain.FeedRead;
 
 @Getter
 @ToString
@@ -20,20 +21,7 @@ public class UserImageKafkaDto {
 		this.image = image;
 	}
 
-	public FeedRead toImageUpdate(FeedRead feedRead) {
-		return FeedRead.builder()
-			.id(feedRead.getId())
-			.feedCode(feedRead.getFeedCode())
-			.uuid(feedRead.getUuid())
-			.nickname(feedRead.getNickname())
-			.tag(feedRead.getTag())
-			.image(image)
-			.content(feedRead.getContent())
-			.state(feedRead.isState())
-			.petCode(feedRead.getPetCode())
-			.tagList(feedRead.getTagList())
-			.mediaUrlList(feedRead.getMediaUrlList())
-			.createdAt(feedRead.getCreatedAt())
-			.build();
+	public Update toImageUpdate() {
+		return new Update().set("image", image);
 	}
 }
@@ -1,10 +1,11 @@
 package lookids.mono.feedread.dto.in;
 
+import org.springframework.data.mongodb.core.query.Update;
+
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
-import lookids.mono.feedread.domain.FeedRead;
 
 @Getter
 @ToString
@@ -22,20 +23,7 @@ public class UserNickNameKafkaDto {
 		this.tag = tag;
 	}
 
-	public FeedRead toNickNameUpdate(FeedRead feedRead) {
-		return FeedRead.builder()
-			.id(feedRead.getId())
-			.feedCode(feedRead.getFeedCode())
-			.uuid(feedRead.getUuid())
-			.tag(tag)
-			.nickname(nickname)
-			.image(feedRead.getImage())
-			.content(feedRead.getContent())
-			.state(feedRead.isState())
-			.petCode(feedRead.getPetCode())
-			.tagList(feedRead.getTagList())
-			.mediaUrlList(feedRead.getMediaUrlList())
-			.createdAt(feedRead.getCreatedAt())
-			.build();
+	public Update toNickNameUpdate() {
+		return new Update().set("nickname", nickname).set("tag", tag);
 	}
 }
\ No newline at end of file
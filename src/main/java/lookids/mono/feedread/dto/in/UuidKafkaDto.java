@@ -1,10 +1,11 @@
 package lookids.mono.feedread.dto.in;
 
+import org.springframework.data.mongodb.core.query.Update;
+
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
-import lookids.mono.feedread.domain.FeedRead;
 
 @Getter
 @NoArgsConstructor
@@ -22,20 +23,7 @@ public class UuidKafkaDto {
 		return UuidKafkaDto.builder().uuid(uuid).build();
 	}
 
-	public FeedRead toDelete(FeedRead feedRead) {
-		return FeedRead.builder()
-			.id(feedRead.getId())
-			.feedCode(feedRead.getFeedCode())
-			.uuid(feedRead.getUuid())
-			.nickname(feedRead.getNickname())
-			.image(feedRead.getImage())
-			.tag(feedRead.getTag())
-			.content(feedRead.getContent())
-			.tagList(feedRead.getTagList())
-			.petCode(feedRead.getPetCode())
-			.mediaUrlList(feedRead.getMediaUrlList())
-			.createdAt(feedRead.getCreatedAt())
-			.state(false)
-			.build();
+	public Update toDelete() {
+		return new Update().set("state", false);
 	}
 }
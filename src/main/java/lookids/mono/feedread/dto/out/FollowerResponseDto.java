@@ -0,0 +1,23 @@
+package lookids.mono.feedread.dto.out;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@NoArgsConstructor
+@ToString
+public class FollowerResponseDto {
+
+	private String uuid;
+	private List<String> followerUuid;
+
+	@Builder
+	public FollowerResponseDto(String uuid, List<String> followerUuid) {
+		this.uuid = uuid;
+		this.followerUuid = followerUuid;
+	}
+}
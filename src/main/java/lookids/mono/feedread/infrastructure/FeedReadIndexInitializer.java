@@ -0,0 +1,134 @@
+package lookids.mono.feedread.infrastructure;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lookids.mono.feedread.domain.FeedRead;
+
+/**
+ * feedRead 인덱스 보장 + 실행 계획 점검
+ * auto-index-creation 이 꺼져 있어도 FeedRead 에 선언한 인덱스를 기동 시 생성하고,
+ * plan-guard 가 켜져 있으면 feed-read 의 조회 형태마다 explain 을 실행해 COLLSCAN 이 있는지 확인한다.
+ * (fail-on-collscan 이 켜져 있으면 기동을 중단하므로 스테이징/CI 환경에서 인덱스 회귀를 잡는 용도로 쓴다.)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedReadIndexInitializer {
+
+	private final MongoTemplate mongoTemplate;
+
+	@Value("${feed-read.index.plan-guard.enabled:false}")
+	private boolean planGuardEnabled;
+
+	@Value("${feed-read.index.plan-guard.fail-on-collscan:false}")
+	private boolean failOnCollscan;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void ensureIndexes() {
+		IndexOperations indexOperations = mongoTemplate.indexOps(FeedRead.class);
+		new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext()).resolveIndexFor(
+			FeedRead.class).forEach(indexOperations::ensureIndex);
+		log.info("feedRead indexes: {}", indexOperations.getIndexInfo().size());
+
+		if (planGuardEnabled) {
+			checkQueryPlans();
+		}
+	}
+
+	private void checkQueryPlans() {
+		List<String> collscanList = new ArrayList<>();
+		queryShapes().forEach((shape, query) -> {
+			Document explain = mongoTemplate.getCollection(mongoTemplate.getCollectionName(FeedRead.class))
+				.find(query.filter())
+				.sort(query.sort())
+				.limit(query.limit())
+				.explain();
+			Document winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+			if (hasStage(winningPlan, "COLLSCAN")) {
+				collscanList.add(shape);
+				log.warn("feedRead query shape [{}] uses COLLSCAN: {}", shape, winningPlan.toJson());
+			}
+		});
+		if (!collscanList.isEmpty() && failOnCollscan) {
+			throw new IllegalStateException("feedRead query shapes without index: " + collscanList);
+		}
+	}
+
+	// FeedReadServiceImpl, FeedReadRepository, FeedReadBulkUpdater 등에서 쓰는 조회 형태
+	private static Map<String, QueryShape> queryShapes() {
+		Document latest = new Document("createdAt", -1).append("_id", -1);
+		Date now = new Date();
+		// FeedCursor.after 의 keyset 조건
+		Document keyset = new Document("$or", List.of(new Document("createdAt", new Document("$lt", now)),
+			new Document("createdAt", now).append("_id", new Document("$lt", new ObjectId()))));
+		Document follow = new Document("uuid", new Document("$in", List.of("u1", "u2"))).append("state", true);
+		Document block = new Document("uuid", new Document("$nin", List.of("b1")));
+		Map<String, QueryShape> shapeMap = new LinkedHashMap<>();
+		shapeMap.put("thumbnail", new QueryShape(new Document("uuid", "u").append("state", true), latest, 11));
+		shapeMap.put("follow-feed", new QueryShape(
+			new Document("uuid", new Document("$in", List.of("u1", "u2"))).append("state", true), latest, 11));
+		shapeMap.put("follow-tag-feed", new QueryShape(
+			new Document("uuid", new Document("$in", List.of("u1", "u2"))).append("state", true)
+				.append("tagList", new Document("$in", List.of("t"))), latest, 11));
+		shapeMap.put("follow-feed-block", new QueryShape(new Document("$and", List.of(follow, block)),
+			new Document("createdAt", -1), 11));
+		shapeMap.put("follow-tag-feed-block", new QueryShape(new Document("$and",
+			List.of(new Document(follow).append("tagList", new Document("$in", List.of("t"))), block)),
+			new Document("createdAt", -1), 11));
+		shapeMap.put("thumbnail-cursor", new QueryShape(
+			new Document("$and", List.of(new Document("state", true).append("uuid", "u"), keyset)), latest, 11));
+		shapeMap.put("favorite-cursor", new QueryShape(new Document("$and",
+			List.of(new Document("feedCode", new Document("$in", List.of("f1", "f2"))).append("state", true), keyset)),
+			latest, 11));
+		shapeMap.put("follow-tag-cursor", new QueryShape(new Document("$and",
+			List.of(new Document(follow).append("tagList", new Document("$in", List.of("t"))), block, keyset)),
+			latest, 11));
+		// 홈 타임라인 후보 (타임라인 feedCode + 셀럽 피드) 에 팔로우/차단/keyset 조건
+		shapeMap.put("home-timeline-candidate", new QueryShape(new Document("$and", List.of(
+			new Document("$or", List.of(new Document("feedCode", new Document("$in", List.of("f1", "f2"))),
+				new Document("uuid", new Document("$in", List.of("c1"))).append("createdAt",
+					new Document("$gte", now)))),
+			new Document("uuid", new Document("$in", List.of("u1", "u2")).append("$nin", List.of("b1"))),
+			new Document("state", true), keyset)), latest, 11));
+		shapeMap.put("detail", new QueryShape(new Document("feedCode", "f").append("state", true), null, 0));
+		shapeMap.put("favorite", new QueryShape(
+			new Document("feedCode", new Document("$in", List.of("f1", "f2"))).append("state", true), latest, 11));
+		shapeMap.put("random-pool", new QueryShape(new Document("state", true), latest, 3000));
+		shapeMap.put("check", new QueryShape(new Document("uuid", "u").append("feedCode", "f"), null, 0));
+		shapeMap.put("bulk-update-uuid", new QueryShape(new Document("uuid", "u"), null, 0));
+		shapeMap.put("bulk-update-petCode", new QueryShape(new Document("petCode", "p"), null, 0));
+		return shapeMap;
+	}
+
+	private static boolean hasStage(Object node, String stage) {
+		if (node instanceof Document document) {
+			if (stage.equals(document.get("stage"))) {
+				return true;
+			}
+			return document.values().stream().anyMatch(value -> hasStage(value, stage));
+		}
+		if (node instanceof List<?> list) {
+			return list.stream().anyMatch(value -> hasStage(value, stage));
+		}
+		return false;
+	}
+
+	private record QueryShape(Document filter, Document sort, int limit) {
+	}
+}
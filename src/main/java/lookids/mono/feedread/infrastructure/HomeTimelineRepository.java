@@ -0,0 +1,165 @@
+package lookids.mono.feedread.infrastructure;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자별 홈 타임라인 (Redis sorted set, score = createdAt epoch millis, member = feedCode)
+ */
+@Repository
+@RequiredArgsConstructor
+public class HomeTimelineRepository {
+
+	private static final String TIMELINE_KEY_PREFIX = "FeedTimeline:";
+	private static final String CELEBRITY_KEY = "FeedTimeline:celebrity";
+	private static final Duration TIMELINE_TTL = Duration.ofDays(7);
+
+	// 빈 타임라인도 생성된 것으로 보이도록 넣어 두는 표시 (score -inf 라 항상 맨 뒤, 조회 결과에서는 제외)
+	private static final String EMPTY_MARKER = "__empty__";
+
+	// 이미 생성된 타임라인 하나에만 추가하고 길이를 cap 으로 유지 (ARGV[1] = cap, 이후 score/member 쌍)
+	// 키 하나씩 실행해서 cluster 에서도 slot 이 섞이지 않고, 스크립트 하나가 Redis 를 오래 잡지 않음
+	private static final byte[] APPEND_SCRIPT = """
+		if redis.call('EXISTS', KEYS[1]) == 1 then
+		  for i = 2, #ARGV, 2 do
+		    redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1])
+		  end
+		  redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -tonumber(ARGV[1]) - 1)
+		end
+		return 0
+		""".getBytes(StandardCharsets.UTF_8);
+
+	// 타임라인을 통째로 교체 (ARGV[1] = TTL ms, 이후 score/member 쌍), 지우고 채우는 사이에 빈 타임라인이 보이지 않도록 한 스크립트로 실행
+	private static final byte[] REBUILD_SCRIPT = """
+		redis.call('DEL', KEYS[1])
+		for i = 2, #ARGV, 2 do
+		  redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1])
+		end
+		redis.call('PEXPIRE', KEYS[1], ARGV[1])
+		return 0
+		""".getBytes(StandardCharsets.UTF_8);
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	public boolean exists(String uuid) {
+		return Boolean.TRUE.equals(stringRedisTemplate.hasKey(timelineKey(uuid)));
+	}
+
+	public void append(Collection<String> uuidList, List<TimelineEntry> entryList, int maxLength) {
+		if (uuidList.isEmpty() || entryList.isEmpty()) {
+			return;
+		}
+		List<byte[]> args = new ArrayList<>(entryList.size() * 2 + 1);
+		args.add(bytesOf(String.valueOf(maxLength)));
+		for (TimelineEntry entry : entryList) {
+			args.add(bytesOf(String.valueOf(entry.score())));
+			args.add(bytesOf(entry.feedCode()));
+		}
+		// 수신자마다 작은 스크립트 하나, 한 번의 pipeline 으로 전송
+		stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			for (String uuid : uuidList) {
+				byte[][] keysAndArgs = new byte[args.size() + 1][];
+				keysAndArgs[0] = bytesOf(timelineKey(uuid));
+				for (int i = 0; i < args.size(); i++) {
+					keysAndArgs[i + 1] = args.get(i);
+				}
+				connection.scriptingCommands().eval(APPEND_SCRIPT, ReturnType.INTEGER, 1, keysAndArgs);
+			}
+			return null;
+		});
+	}
+
+	public void rebuild(String uuid, List<TimelineEntry> entryList) {
+		byte[][] keysAndArgs = new byte[entryList.size() * 2 + 4][];
+		keysAndArgs[0] = bytesOf(timelineKey(uuid));
+		keysAndArgs[1] = bytesOf(String.valueOf(TIMELINE_TTL.toMillis()));
+		// 팔로우한 피드가 없어도 타임라인이 생성된 것으로 보이게 해서 매 조회마다 다시 만들지 않고 fan-out 도 받도록 함
+		keysAndArgs[2] = bytesOf("-inf");
+		keysAndArgs[3] = bytesOf(EMPTY_MARKER);
+		for (int i = 0; i < entryList.size(); i++) {
+			keysAndArgs[i * 2 + 4] = bytesOf(String.valueOf(entryList.get(i).score()));
+			keysAndArgs[i * 2 + 5] = bytesOf(entryList.get(i).feedCode());
+		}
+		stringRedisTemplate.execute((RedisCallback<Object>)connection -> connection.scriptingCommands()
+			.eval(REBUILD_SCRIPT, ReturnType.INTEGER, 1, keysAndArgs));
+	}
+
+	public List<TimelineEntry> range(String uuid, long start, long end) {
+		String key = timelineKey(uuid);
+		Set<ZSetOperations.TypedTuple<String>> tuples = stringRedisTemplate.opsForZSet()
+			.reverseRangeWithScores(key, start, end);
+		stringRedisTemplate.expire(key, TIMELINE_TTL);
+		if (tuples == null) {
+			return List.of();
+		}
+		return tuples.stream()
+			.filter(tuple -> !EMPTY_MARKER.equals(tuple.getValue()))
+			.map(tuple -> new TimelineEntry(tuple.getValue(), tuple.getScore().longValue()))
+			.toList();
+	}
+
+	// score 가 maxScore 이하인 항목을 최신순으로 offset 부터 count 개 조회 (커서 페이징)
+	public List<TimelineEntry> rangeByScore(String uuid, double maxScore, long offset, long count) {
+		String key = timelineKey(uuid);
+		Set<ZSetOperations.TypedTuple<String>> tuples = stringRedisTemplate.opsForZSet()
+			.reverseRangeByScoreWithScores(key, Double.NEGATIVE_INFINITY, maxScore, offset, count);
+		stringRedisTemplate.expire(key, TIMELINE_TTL);
+		if (tuples == null) {
+			return List.of();
+		}
+		return tuples.stream()
+			.filter(tuple -> !EMPTY_MARKER.equals(tuple.getValue()))
+			.map(tuple -> new TimelineEntry(tuple.getValue(), tuple.getScore().longValue()))
+			.toList();
+	}
+
+	public long size(String uuid) {
+		// 빈 타임라인 표시(-inf)는 세지 않음
+		Long size = stringRedisTemplate.opsForZSet().count(timelineKey(uuid), -Double.MAX_VALUE, Double.POSITIVE_INFINITY);
+		return size == null ? 0 : size;
+	}
+
+	public void markCelebrity(String uuid, boolean celebrity) {
+		if (celebrity) {
+			stringRedisTemplate.opsForSet().add(CELEBRITY_KEY, uuid);
+		} else {
+			stringRedisTemplate.opsForSet().remove(CELEBRITY_KEY, uuid);
+		}
+	}
+
+	public List<String> filterCelebrities(List<String> uuidList) {
+		if (uuidList.isEmpty()) {
+			return List.of();
+		}
+		Map<Object, Boolean> memberMap = stringRedisTemplate.opsForSet()
+			.isMember(CELEBRITY_KEY, uuidList.toArray());
+		if (memberMap == null) {
+			return List.of();
+		}
+		return uuidList.stream().filter(uuid -> Boolean.TRUE.equals(memberMap.get(uuid))).toList();
+	}
+
+	private static byte[] bytesOf(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static String timelineKey(String uuid) {
+		return TIMELINE_KEY_PREFIX + uuid;
+	}
+
+	public record TimelineEntry(String feedCode, long score) {
+	}
+}
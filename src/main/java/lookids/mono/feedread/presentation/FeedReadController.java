@@ -1,5 +1,7 @@
 package lookids.mono.feedread.presentation;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.springframework.data.domain.Page;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
@@ -10,6 +12,7 @@ import org.springframework.web.bind.annotation.RestController;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import lookids.mono.common.entity.BaseResponse;
+import lookids.mono.common.utils.CursorPage;
 import lookids.mono.feedread.application.FeedReadService;
 import lookids.mono.feedread.dto.out.FeedListResponseDto;
 import lookids.mono.feedread.dto.out.FeedReadResponseDto;
@@ -24,19 +27,20 @@ public class FeedReadController {
 
 	@Operation(summary = "feed List 조회 API", description = "feed List로 조회하는 API 입니다.", tags = {"Feed"})
 	@GetMapping("/feedList")
-	public BaseResponse<Page<FeedListResponseDto>> readFeedAndTagList(@RequestHeader String uuid,
+	public CompletableFuture<BaseResponse<Page<FeedListResponseDto>>> readFeedAndTagList(@RequestHeader String uuid,
 		@RequestParam(required = false) String tag, @RequestParam(defaultValue = "0") int page,
 		@RequestParam(defaultValue = "10") int size) {
-		Page<FeedListResponseDto> feedRead = feedReadService.readFeedAndTagList(uuid, tag, page, size);
-		return new BaseResponse<>(feedRead);
+		return feedReadService.readFeedAndTagList(uuid, tag, page, size)
+			.thenApply(feedRead -> new BaseResponse<>(feedRead));
 	}
 
 	@Operation(summary = "feed List 조회 API(회원용)", description = "feed List로 조회하는 API 입니다.(회원용)", tags = {"Feed"})
 	@GetMapping("/MemberRandom")
-	public BaseResponse<Page<FeedReadResponseDto>> readFeedMemberRandomList(@RequestHeader String uuid,
-		@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size) {
-		Page<FeedReadResponseDto> feedRead = feedReadService.readFeedMemberRandomList(uuid, page, size);
-		return new BaseResponse<>(feedRead);
+	public CompletableFuture<BaseResponse<Page<FeedReadResponseDto>>> readFeedMemberRandomList(
+		@RequestHeader String uuid, @RequestParam(defaultValue = "0") int page,
+		@RequestParam(defaultValue = "10") int size) {
+		return feedReadService.readFeedMemberRandomList(uuid, page, size)
+			.thenApply(feedRead -> new BaseResponse<>(feedRead));
 	}
 
 	@Operation(summary = "feed List 조회 API(비회원용)", description = "feed List로 조회하는 API 입니다.(비회원용)", tags = {"Feed"})
@@ -50,10 +54,10 @@ public class FeedReadController {
 	@Operation(summary = "feed Favorite List 조회 API", description = "사용자가 좋아요 한 feed List로 조회하는 API 입니다.", tags = {
 		"Feed"})
 	@GetMapping("/favoriteList")
-	public BaseResponse<Page<FeedReadResponseDto>> readFeedFavoriteList(@RequestHeader String uuid,
+	public CompletableFuture<BaseResponse<Page<FeedReadResponseDto>>> readFeedFavoriteList(@RequestHeader String uuid,
 		@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size) {
-		Page<FeedReadResponseDto> feedRead = feedReadService.readFeedFavoriteList(uuid, page, size);
-		return new BaseResponse<>(feedRead);
+		return feedReadService.readFeedFavoriteList(uuid, page, size)
+			.thenApply(feedRead -> new BaseResponse<>(feedRead));
 	}
 
 	@Operation(summary = "feed thumbnail List 조회 API", description = "uuid 기준으로 해당 사용자의 feed에 해당하는 썸네일을 List로 조회하는 API 입니다.", tags = {
@@ -65,6 +69,34 @@ public class FeedReadController {
 		return new BaseResponse<>(feedRead);
 	}
 
+	@Operation(summary = "feed List 커서 조회 API", description = "feed List를 커서 기반으로 조회하는 API 입니다. 응답의 nextCursor 를 다음 요청에 전달합니다.", tags = {
+		"Feed"})
+	@GetMapping("/cursor-page/feedList")
+	public CompletableFuture<BaseResponse<CursorPage<FeedListResponseDto>>> readFeedAndTagCursorPage(
+		@RequestHeader String uuid, @RequestParam(required = false) String tag,
+		@RequestParam(required = false) String cursor, @RequestParam(defaultValue = "10") int size) {
+		return feedReadService.readFeedAndTagCursorPage(uuid, tag, cursor, size)
+			.thenApply(feedRead -> new BaseResponse<>(feedRead));
+	}
+
+	@Operation(summary = "feed Favorite List 커서 조회 API", description = "사용자가 좋아요 한 feed List를 커서 기반으로 조회하는 API 입니다.", tags = {
+		"Feed"})
+	@GetMapping("/cursor-page/favoriteList")
+	public CompletableFuture<BaseResponse<CursorPage<FeedReadResponseDto>>> readFeedFavoriteCursorPage(
+		@RequestHeader String uuid, @RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "10") int size) {
+		return feedReadService.readFeedFavoriteCursorPage(uuid, cursor, size)
+			.thenApply(feedRead -> new BaseResponse<>(feedRead));
+	}
+
+	@Operation(summary = "feed thumbnail List 커서 조회 API", description = "uuid 기준으로 해당 사용자의 feed 썸네일을 커서 기반으로 조회하는 API 입니다.", tags = {
+		"Feed"})
+	@GetMapping("/cursor-page/thumbnailList")
+	public BaseResponse<CursorPage<FeedReadResponseDto>> readFeedThumbnailCursorPage(@RequestHeader String uuid,
+		@RequestParam(required = false) String cursor, @RequestParam(defaultValue = "10") int size) {
+		return new BaseResponse<>(feedReadService.readFeedThumbnailCursorPage(uuid, cursor, size));
+	}
+
 	@Operation(summary = "feed 상세 조회 API", description = "feedCode 기준으로 feed의 상세 내용을 조회하는 API 입니다.", tags = {"Feed"})
 	@GetMapping("/detail")
 	public BaseResponse<FeedReadDetailResponseVo> readFeedDetail(@RequestParam String feedCode) {
@@ -6,14 +6,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
+import lookids.mono.common.kafka.ReplyCorrelator;
 import lookids.mono.followblock.block.domain.Block;
 import lookids.mono.followblock.block.dto.in.BlockRequestDto;
 import lookids.mono.followblock.block.dto.in.KafkaBlockRequestDto;
 import lookids.mono.followblock.block.dto.out.BlockResponseDto;
 import lookids.mono.followblock.block.dto.out.KafkaBlockResponseDto;
+import lookids.mono.followblock.block.dto.out.KafkaBlockUpdateDto;
 import lookids.mono.followblock.block.infrastructure.BlockRepository;
 
 @Service
@@ -21,6 +25,7 @@ import lookids.mono.followblock.block.infrastructure.BlockRepository;
 public class BlockServiceImpl implements BlockService {
 
 	private final KafkaTemplate<String, KafkaBlockResponseDto> blockResKafkaTemplate;
+	private final KafkaTemplate<String, KafkaBlockUpdateDto> blockUpdateKafkaTemplate;
 	private final BlockRepository blockRepository;
 
 	@Override
@@ -28,11 +33,13 @@ public class BlockServiceImpl implements BlockService {
 		Block block = blockRepository.findByUuidAndBlockedUuid(blockRequestDto.getUuid(),
 			blockRequestDto.getBlockedUuid()).orElse(null);
 
+		Block savedBlock;
 		if (block != null) {
-			blockRepository.save(BlockRequestDto.toUpdateEntity(block));
+			savedBlock = blockRepository.save(BlockRequestDto.toUpdateEntity(block));
 		} else {
-			blockRepository.save(blockRequestDto.toEntity());
+			savedBlock = blockRepository.save(blockRequestDto.toEntity());
 		}
+		blockUpdateKafkaTemplate.send("block-update", KafkaBlockUpdateDto.toDto(savedBlock));
 	}
 
 	@Override
@@ -42,7 +49,8 @@ public class BlockServiceImpl implements BlockService {
 	}
 
 	@KafkaListener(topics = "block-request", groupId = "block-create", containerFactory = "BlockContainerFactory")
-	public void blockListRequest(KafkaBlockRequestDto kafkaBlockRequestDto) {
+	public void blockListRequest(KafkaBlockRequestDto kafkaBlockRequestDto,
+		@Header(name = KafkaHeaders.CORRELATION_ID, required = false) byte[] correlationId) {
 
 		List<String> blockList = blockRepository.findByUuidAndStateTrue(kafkaBlockRequestDto.getUuid())
 			.stream()
@@ -54,7 +62,8 @@ public class BlockServiceImpl implements BlockService {
 			.blockUuid(blockList)
 			.build();
 
-		blockResKafkaTemplate.send("block-response", kafkaBlockResponseDto);
+		blockResKafkaTemplate.send(
+			ReplyCorrelator.toReplyRecord("block-response", kafkaBlockResponseDto, correlationId));
 
 	}
 
@@ -0,0 +1,29 @@
+package lookids.mono.followblock.block.dto.out;
+
+import lombok.Builder;
+import lombok.Getter;
+import lookids.mono.followblock.block.domain.Block;
+
+@Getter
+public class KafkaBlockUpdateDto {
+
+	private String uuid;
+	private String blockedUuid;
+	private boolean state;
+
+	@Builder
+	public KafkaBlockUpdateDto(String uuid, String blockedUuid, boolean state) {
+		this.uuid = uuid;
+		this.blockedUuid = blockedUuid;
+		this.state = state;
+	}
+
+	public static KafkaBlockUpdateDto toDto(Block block) {
+		return KafkaBlockUpdateDto.builder()
+			.uuid(block.getUuid())
+			.blockedUuid(block.getBlockedUuid())
+			.state(block.isState())
+			.build();
+	}
+
+}
@@ -8,11 +8,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import lookids.mono.common.kafka.ReplyCorrelator;
 import lookids.mono.followblock.follow.domain.Follow;
 import lookids.mono.followblock.follow.domain.FollowInfo;
 import lookids.mono.followblock.follow.dto.in.FollowRequestDto;
@@ -96,22 +99,28 @@ public class FollowServiceImpl implements FollowService {
 	}
 
 	@KafkaListener(topics = "follow-request", groupId = "feed-group", containerFactory = "FeedFollowListenerContainerFactory")
-	public void consumeForFollowUuid(KafkaFollowRequestDto kafkaFollowRequestDto) {
+	public void consumeForFollowUuid(KafkaFollowRequestDto kafkaFollowRequestDto,
+		@Header(name = KafkaHeaders.CORRELATION_ID, required = false) byte[] correlationId) {
 
 		String uuid = kafkaFollowRequestDto.getUuid();
 		List<Follow> followList = followRepository.findByFollowingUuid(uuid);
 
-		feedKafkaTemplate.send("follow-response", KafkaFollowResponseDto.toDto(uuid, followList));
+		feedKafkaTemplate.send(
+			ReplyCorrelator.toReplyRecord("follow-response", KafkaFollowResponseDto.toDto(uuid, followList),
+				correlationId));
 
 	}
 
 	@KafkaListener(topics = "follower-request", groupId = "feed-group", containerFactory = "FollowerListenerContainerFactory")
-	public void consumeForFollowerUuid(KafkaFollowRequestDto kafkaFollowRequestDto) {
+	public void consumeForFollowerUuid(KafkaFollowRequestDto kafkaFollowRequestDto,
+		@Header(name = KafkaHeaders.CORRELATION_ID, required = false) byte[] correlationId) {
 
 		String uuid = kafkaFollowRequestDto.getUuid();
 		List<Follow> followerList = followRepository.findByFollowerUuid(uuid);
 
-		followerKafkaTemplate.send("follower-response", KafkaFollowerResponseDto.toDto(uuid, followerList));
+		followerKafkaTemplate.send(
+			ReplyCorrelator.toReplyRecord("follower-response", KafkaFollowerResponseDto.toDto(uuid, followerList),
+				correlationId));
 
 	}
 
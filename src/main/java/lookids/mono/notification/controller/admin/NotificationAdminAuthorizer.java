@@ -0,0 +1,33 @@
+package lookids.mono.notification.controller.admin;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lookids.mono.common.entity.BaseResponseStatus;
+import lookids.mono.common.exception.BaseException;
+
+/**
+ * 알림 운영 API 접근 확인
+ * 전체 경로가 permitAll 이므로 X-Admin-Token 헤더를 설정된 토큰과 비교하고, 토큰이 설정되지 않았으면 모두 거부한다.
+ */
+@Component
+public class NotificationAdminAuthorizer {
+
+	public static final String ADMIN_TOKEN_HEADER = "X-Admin-Token";
+
+	private final byte[] adminToken;
+
+	public NotificationAdminAuthorizer(@Value("${notification.admin.token:}") String adminToken) {
+		this.adminToken = adminToken.getBytes(StandardCharsets.UTF_8);
+	}
+
+	public void check(String requestToken) {
+		if (adminToken.length == 0 || requestToken == null
+			|| !MessageDigest.isEqual(adminToken, requestToken.getBytes(StandardCharsets.UTF_8))) {
+			throw new BaseException(BaseResponseStatus.NO_ACCESS_AUTHORITY);
+		}
+	}
+}
@@ -0,0 +1,71 @@
+package lookids.mono.notification.controller.admin;
+
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lookids.mono.common.entity.BaseResponse;
+import lookids.mono.common.utils.CursorPage;
+import lookids.mono.notification.dto.out.NotificationDeadLetterResponseDto;
+import lookids.mono.notification.service.NotificationDeadLetterService;
+import lookids.mono.notification.service.NotificationDeliveryLedger;
+import lookids.mono.notification.vo.in.NotificationDeadLetterReplayRequestVo;
+
+@RequiredArgsConstructor
+@Slf4j
+@RestController
+@RequestMapping("/notification-service/admin/notification")
+public class NotificationDeadLetterController {
+	private final NotificationDeadLetterService notificationDeadLetterService;
+	private final NotificationDeliveryLedger notificationDeliveryLedger;
+	private final NotificationAdminAuthorizer notificationAdminAuthorizer;
+
+	@Operation(summary = "알림 dead-letter 조회 API", description = "처리에 실패한 알림 이벤트를 토픽/상태/기간 조건으로 최신순 커서 조회합니다.", tags = {
+		"Notification Admin"})
+	@GetMapping("/dead-letter")
+	public BaseResponse<CursorPage<NotificationDeadLetterResponseDto>> readDeadLetterCursorPage(
+		@RequestHeader(value = NotificationAdminAuthorizer.ADMIN_TOKEN_HEADER, required = false) String adminToken,
+		@RequestParam(required = false) String topic, @RequestParam(required = false) String status,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+		@RequestParam(required = false) String cursor, @RequestParam(defaultValue = "50") int size) {
+		notificationAdminAuthorizer.check(adminToken);
+		return new BaseResponse<>(
+			notificationDeadLetterService.readDeadLetterCursorPage(topic, status, from, to, cursor, size));
+	}
+
+	@Operation(summary = "알림 dead-letter 재처리 API", description = " <p>선택한(또는 조건에 맞는) dead-letter 이벤트를 원본 토픽으로 다시 발행합니다.</p> <ul> <li>초당 재발행 건수가 제한되며 백그라운드에서 진행됩니다.</li> <li>재처리 예약된 건수를 반환합니다.</li> </ul> ", tags = {
+		"Notification Admin"})
+	@PostMapping("/dead-letter/replay")
+	public BaseResponse<Integer> replayDeadLetter(
+		@RequestHeader(value = NotificationAdminAuthorizer.ADMIN_TOKEN_HEADER, required = false) String adminToken,
+		@RequestBody NotificationDeadLetterReplayRequestVo notificationDeadLetterReplayRequestVo) {
+		notificationAdminAuthorizer.check(adminToken);
+		log.info("replayDeadLetter: {}", notificationDeadLetterReplayRequestVo);
+		return new BaseResponse<>(notificationDeadLetterService.replay(
+			notificationDeadLetterReplayRequestVo.getDeadLetterIdList(), notificationDeadLetterReplayRequestVo.getTopic(),
+			notificationDeadLetterReplayRequestVo.getFrom(), notificationDeadLetterReplayRequestVo.getTo(),
+			notificationDeadLetterReplayRequestVo.getLimit()));
+	}
+
+	@Operation(summary = "FCM 영구 실패 재시도 API", description = "FCM 장애 등으로 영구 실패 처리된 푸시 전송을 다시 재시도 대상으로 되돌립니다. 되돌린 건수를 반환합니다.", tags = {
+		"Notification Admin"})
+	@PostMapping("/delivery/reopen")
+	public BaseResponse<Long> reopenFailedDelivery(
+		@RequestHeader(value = NotificationAdminAuthorizer.ADMIN_TOKEN_HEADER, required = false) String adminToken,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since) {
+		notificationAdminAuthorizer.check(adminToken);
+		log.info("reopenFailedDelivery since: {}", since);
+		return new BaseResponse<>(notificationDeliveryLedger.reopenPermanentFailures(since));
+	}
+}
@@ -3,17 +3,25 @@ package lookids.mono.notification.controller.read;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import lookids.mono.common.entity.BaseResponse;
+import lookids.mono.common.utils.CursorPage;
+import lookids.mono.notification.dto.out.NotificationInboxResponseDto;
 import lookids.mono.notification.service.NotificationService;
 import lookids.mono.notification.service.NotificationSseService;
+import reactor.core.publisher.Flux;
 
 @RequiredArgsConstructor
 @Slf4j
@@ -35,4 +43,30 @@ public class NotificationReadController {
 		return notificationSseService.registerClient(userInfo);
 
 	}
+
+	// SseEmitter 대신 Flux 로 스트리밍, 재연결 시 Last-Event-ID 이후의 최근 알림을 먼저 보냄
+	// 서버는 servlet(MVC) 스택이라 연결마다 servlet async 요청 하나를 유지함 (대기 중에는 스레드를 잡지 않음)
+	@Operation(summary = "Reactive SSE 알림 API", description = " <p>특정 유저의 알림을 reactive 스트림으로 전달하는 Server Sent Event API입니다.</p> <ul> <li>여러 기기에서 동시에 구독할 수 있습니다.</li> <li>재연결 시 Last-Event-ID 헤더 이후의 최근 알림을 다시 전송합니다.</li> </ul> ", tags = {
+		"SSE"})
+	@GetMapping(value = "/user/reactive-sse/{userInfo}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public Flux<ServerSentEvent<String>> reactiveSseNotification(@PathVariable String userInfo,
+		@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+		return notificationSseService.subscribe(userInfo, lastEventId)
+			.doOnCancel(() -> log.info("Reactive SSE 연결 종료: 사용자 {}", userInfo));
+	}
+
+	@Operation(summary = "알림함 커서 조회 API", description = "수신자의 알림을 최신순으로 커서 기반 조회하는 API 입니다.", tags = {
+		"Notification"})
+	@GetMapping("/inbox")
+	public BaseResponse<CursorPage<NotificationInboxResponseDto>> readInboxCursorPage(@RequestHeader String uuid,
+		@RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int size) {
+		return new BaseResponse<>(notificationService.readInboxCursorPage(uuid, cursor, size));
+	}
+
+	@Operation(summary = "읽지 않은 알림 수 조회 API", description = "수신자의 읽지 않은 알림 수를 조회하는 API 입니다.", tags = {
+		"Notification"})
+	@GetMapping("/inbox/unread-count")
+	public BaseResponse<Long> readUnreadCount(@RequestHeader String uuid) {
+		return new BaseResponse<>(notificationService.readUnreadCount(uuid));
+	}
 }
@@ -13,7 +13,9 @@ import lombok.extern.slf4j.Slf4j;
 import lookids.mono.common.entity.BaseResponse;
 import lookids.mono.notification.dto.in.FcmTokenRequestDto;
 import lookids.mono.notification.service.NotificationPushService;
+import lookids.mono.notification.service.NotificationService;
 import lookids.mono.notification.vo.in.FcmTokenRequestVo;
+import lookids.mono.notification.vo.in.NotificationReadRequestVo;
 
 @RequiredArgsConstructor
 @Slf4j
@@ -21,6 +23,7 @@ import lookids.mono.notification.vo.in.FcmTokenRequestVo;
 @RequestMapping("/notification-service/write/notification")
 public class NotificationWriteController {
 	private final NotificationPushService notificationPushService;
+	private final NotificationService notificationService;
 
 	@Operation(summary = "FCM 토큰 생성 API", description = " <p>유저의 푸시 알림을 위해 생성된 FCM 토큰을 DB에 저장합니다.</p> <ul> <li>한 유저에 대해 여러 FCM 토큰이 존재할 수 있습니다.</li> <li>FCM 토큰은 <code>String</code> 값으로 단일 입력되며, 이는 DTO를 통해 변환되어 <code>List</code>로 관리됩니다.</li> </ul> ", tags = {
 		"FCM"})
@@ -44,4 +47,20 @@ public class NotificationWriteController {
 		return new BaseResponse<>();
 	}
 
+	@Operation(summary = "알림 읽음 처리 API", description = "알림함에서 선택한 알림들을 읽음 처리합니다.", tags = {"Notification"})
+	@PutMapping("/inbox/read")
+	public BaseResponse<Void> updateInboxRead(@RequestHeader String uuid,
+		@RequestBody NotificationReadRequestVo notificationReadRequestVo) {
+		notificationService.updateInboxRead(uuid, notificationReadRequestVo.getInboxIdList());
+
+		return new BaseResponse<>();
+	}
+
+	@Operation(summary = "알림 전체 읽음 처리 API", description = "알림함의 모든 알림을 읽음 처리합니다.", tags = {"Notification"})
+	@PutMapping("/inbox/read-all")
+	public BaseResponse<Void> updateInboxReadAll(@RequestHeader String uuid) {
+		notificationService.updateInboxReadAll(uuid);
+
+		return new BaseResponse<>();
+	}
 }
@@ -5,6 +5,7 @@ import java.util.List;
 
 import org.bson.types.ObjectId;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import lombok.Builder;
@@ -28,10 +29,12 @@ public class Notification {
 	private String roomId;
 	private NotificationType type; // 직렬화, 역직렬화? -> Enum으로 변경
 	private LocalDateTime createdAt; // 값은 dto에서 추가, 가져올때는 LocalDateTime으로 변환해서 가져오기
+	@Indexed(unique = true, sparse = true)
+	private String eventKey; // 원본 이벤트 좌표 (topic-partition-offset), 재처리 시 중복 저장 방지
 
-	@Builder
+	@Builder(toBuilder = true)
 	public Notification(ObjectId id, String senderUuid, List<String> receiverUuidList, String title, String content,
-		String mediaUrl, String feedCode, String roomId, NotificationType type, LocalDateTime createdAt) {
+		String mediaUrl, String feedCode, String roomId, NotificationType type, LocalDateTime createdAt, String eventKey) {
 		this.id = id;
 		this.senderUuid = senderUuid;
 		this.receiverUuidList = receiverUuidList;
@@ -42,5 +45,6 @@ public class Notification {
 		this.roomId = roomId;
 		this.type = type;
 		this.createdAt = createdAt;
+		this.eventKey = eventKey;
 	}
 }
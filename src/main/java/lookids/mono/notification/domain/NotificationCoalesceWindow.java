@@ -0,0 +1,27 @@
+package lookids.mono.notification.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+// 알림 묶음 window (수신자 + 종류 + 대상 게시글 + 제목 단위), 묶인 이벤트를 ack 전에 저장해 두어 노드가 죽어도 유실되지 않음
+// 인덱스는 NotificationCoalescer 가 직접 만든다 (latest 안의 eventKey unique 인덱스가 이 컬렉션에 생기지 않도록)
+@Document(collection = "notification_coalesce_window")
+@Getter
+@NoArgsConstructor
+@ToString
+public class NotificationCoalesceWindow {
+	@Id
+	private String id;
+	private LocalDateTime openedAt;
+	private List<String> senderUuidList; // window 안의 발신자 (중복 없음)
+	private List<String> eventKeyList; // 아직 보내지 않은 이벤트
+	private Notification latest; // 묶음 알림의 본문으로 쓰는 마지막 알림
+	private LocalDateTime leaseUntil; // flush 중인 노드가 잡고 있는 기한
+}
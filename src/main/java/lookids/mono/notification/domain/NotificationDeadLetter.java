@@ -0,0 +1,69 @@
+package lookids.mono.notification.domain;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+// dead-letter 토픽으로 넘어온 알림 이벤트 (원본 좌표, 헤더, payload), 관리자 API 로 조회/재처리
+@Document(collection = "notification_dead_letter")
+@CompoundIndexes({
+	@CompoundIndex(name = "originalTopic_partition_offset", def = "{'originalTopic': 1, 'originalPartition': 1, 'originalOffset': 1}", unique = true),
+	@CompoundIndex(name = "status_originalTopic_failedAt", def = "{'status': 1, 'originalTopic': 1, 'failedAt': -1}")})
+@Getter
+@NoArgsConstructor
+@ToString
+public class NotificationDeadLetter {
+	// 재처리 시 원본 이벤트 좌표를 넘겨 같은 알림을 다시 만들지 않도록 함
+	public static final String EVENT_KEY_HEADER = "notification-event-key";
+
+	@Id
+	private ObjectId id;
+	private String originalTopic;
+	private int originalPartition;
+	private long originalOffset;
+	private String messageKey;
+	private org.bson.Document payload; // JSON 객체로 파싱한 이벤트 (조회/필터용)
+	private String rawPayload; // 재처리 시 그대로 다시 발행하는 원본
+	private Map<String, String> headers;
+	private String exceptionClass;
+	private String exceptionMessage;
+	private NotificationStatus status; // PENDING: 재처리 대기, SENT: 재발행 완료, FAILED_TEMPORARY: 재발행 실패
+	private int replayCount;
+	private LocalDateTime failedAt;
+	private LocalDateTime replayedAt;
+
+	@Builder
+	public NotificationDeadLetter(ObjectId id, String originalTopic, int originalPartition, long originalOffset,
+		String messageKey, org.bson.Document payload, String rawPayload, Map<String, String> headers,
+		String exceptionClass, String exceptionMessage, NotificationStatus status, int replayCount,
+		LocalDateTime failedAt, LocalDateTime replayedAt) {
+		this.id = id;
+		this.originalTopic = originalTopic;
+		this.originalPartition = originalPartition;
+		this.originalOffset = originalOffset;
+		this.messageKey = messageKey;
+		this.payload = payload;
+		this.rawPayload = rawPayload;
+		this.headers = headers;
+		this.exceptionClass = exceptionClass;
+		this.exceptionMessage = exceptionMessage;
+		this.status = status;
+		this.replayCount = replayCount;
+		this.failedAt = failedAt;
+		this.replayedAt = replayedAt;
+	}
+
+	public String eventKey() {
+		return originalTopic + "-" + originalPartition + "-" + originalOffset;
+	}
+}
@@ -0,0 +1,54 @@
+package lookids.mono.notification.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+// 알림 수신자별 전송 기록 (채널별 상태, FCM 재시도 대상 토큰)
+@Document(collection = "notification_delivery")
+@CompoundIndexes({
+	@CompoundIndex(name = "notificationId_receiverUuid", def = "{'notificationId': 1, 'receiverUuid': 1}", unique = true),
+	@CompoundIndex(name = "fcmStatus_nextAttemptAt", def = "{'fcmStatus': 1, 'nextAttemptAt': 1}")})
+@Getter
+@NoArgsConstructor
+@ToString
+public class NotificationDelivery {
+	@Id
+	private ObjectId id;
+	private ObjectId notificationId;
+	private String receiverUuid;
+	private NotificationStatus sseStatus;
+	private NotificationStatus fcmStatus;
+	private List<String> fcmFailedTokenList; // 재시도할 토큰 (성공한 기기에는 다시 보내지 않음)
+	private int attempts;
+	private LocalDateTime nextAttemptAt;
+	private String claimToken; // 재시도를 가져간 claimDue 호출 (lease 동안만 의미 있음)
+	@Indexed(name = "createdAt_ttl", expireAfter = "7d")
+	private LocalDateTime createdAt;
+
+	@Builder
+	public NotificationDelivery(ObjectId id, ObjectId notificationId, String receiverUuid,
+		NotificationStatus sseStatus, NotificationStatus fcmStatus, List<String> fcmFailedTokenList, int attempts,
+		LocalDateTime nextAttemptAt, LocalDateTime createdAt) {
+		this.id = id;
+		this.notificationId = notificationId;
+		this.receiverUuid = receiverUuid;
+		this.sseStatus = sseStatus;
+		this.fcmStatus = fcmStatus;
+		this.fcmFailedTokenList = fcmFailedTokenList;
+		this.attempts = attempts;
+		this.nextAttemptAt = nextAttemptAt;
+		this.createdAt = createdAt;
+	}
+}
@@ -0,0 +1,56 @@
+package lookids.mono.notification.domain;
+
+import java.time.LocalDateTime;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+// 수신자별 알림함 (notification 의 receiverUuidList 를 수신자 단위로 펼친 조회 모델)
+@Document(collection = "notification_inbox")
+@CompoundIndexes({
+	@CompoundIndex(name = "receiverUuid_createdAt_id", def = "{'receiverUuid': 1, 'createdAt': -1, '_id': -1}"),
+	@CompoundIndex(name = "receiverUuid_notificationId", def = "{'receiverUuid': 1, 'notificationId': 1}", unique = true)})
+@Getter
+@NoArgsConstructor
+@ToString
+public class NotificationInbox {
+	@Id
+	private ObjectId id;
+	private String receiverUuid;
+	private ObjectId notificationId;
+	private String senderUuid;
+	private String title;
+	private String content;
+	private String mediaUrl;
+	private String feedCode;
+	private NotificationType type;
+	private boolean read;
+	@Indexed(name = "createdAt_ttl", expireAfter = "30d")
+	private LocalDateTime createdAt;
+
+	@Builder
+	public NotificationInbox(ObjectId id, String receiverUuid, ObjectId notificationId, String senderUuid,
+		String title, String content, String mediaUrl, String feedCode, NotificationType type, boolean read,
+		LocalDateTime createdAt) {
+		this.id = id;
+		this.receiverUuid = receiverUuid;
+		this.notificationId = notificationId;
+		this.senderUuid = senderUuid;
+		this.title = title;
+		this.content = content;
+		this.mediaUrl = mediaUrl;
+		this.feedCode = feedCode;
+		this.type = type;
+		this.read = read;
+		this.createdAt = createdAt;
+	}
+}
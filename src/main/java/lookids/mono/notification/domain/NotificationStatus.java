@@ -4,5 +4,6 @@ public enum NotificationStatus {
 	PENDING, // 대기 상태
 	SENT, // 발송 상태
 	FAILED_TEMPORARY, // 일시적 실패
-	FAILED_PERMANENT // 영구적 실패
+	FAILED_PERMANENT, // 영구적 실패
+	SKIPPED // 전송 대상 아님 (SSE 미연결, FCM 토큰 없음)
 }
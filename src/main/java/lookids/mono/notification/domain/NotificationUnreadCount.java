@@ -0,0 +1,19 @@
+package lookids.mono.notification.domain;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+// 수신자별 읽지 않은 알림 수 (알림함 적재/읽음 처리 시 $inc 로 갱신)
+@Document(collection = "notification_unread_count")
+@Getter
+@NoArgsConstructor
+@ToString
+public class NotificationUnreadCount {
+	@Id
+	private String receiverUuid;
+	private long unreadCount;
+}
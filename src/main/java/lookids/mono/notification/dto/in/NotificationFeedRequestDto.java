@@ -1,10 +1,13 @@
 package lookids.mono.notification.dto.in;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lookids.mono.notification.domain.Notification;
+import lookids.mono.notification.domain.NotificationType;
 
 @Getter
 @NoArgsConstructor
@@ -27,6 +30,20 @@ public class NotificationFeedRequestDto {
 		this.type = type;
 	}
 
+	public Notification toEntity(String eventKey) {
+		return Notification.builder()
+			.senderUuid(senderUuid)
+			.receiverUuidList(receiverUuidList)
+			.title("관심 친구가 게시글을 작성했습니다.")
+			.content(content)
+			.feedCode(feedCode)
+			.mediaUrl(mediaUrl)
+			.type(NotificationType.valueOf(type.toUpperCase()))
+			.createdAt(LocalDateTime.now())
+			.eventKey(eventKey)
+			.build();
+	}
+
 	// SubscribeKafkaRequestDto는 Listener를 통해 받은 dto
 	// public static NotificationFeedRequestDto toDto(NotificationKafkaRequestDto kafkaSubscribeRequestDto) {
 	// 	return NotificationFeedRequestDto.builder()
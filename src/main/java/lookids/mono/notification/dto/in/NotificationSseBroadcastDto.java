@@ -0,0 +1,28 @@
+package lookids.mono.notification.dto.in;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 다른 노드에 연결된 수신자에게 SSE 이벤트를 전달하기 위한 broadcast 메시지
+@Getter
+@NoArgsConstructor
+public class NotificationSseBroadcastDto {
+	private String nodeId; // 발행한 노드 (자기 메시지는 무시)
+	private List<String> receiverUuidList;
+	private String type;
+	private String notificationId; // SSE 이벤트 id
+	private String payload; // 직렬화된 알림 JSON
+
+	@Builder
+	public NotificationSseBroadcastDto(String nodeId, List<String> receiverUuidList, String type,
+		String notificationId, String payload) {
+		this.nodeId = nodeId;
+		this.receiverUuidList = receiverUuidList;
+		this.type = type;
+		this.notificationId = notificationId;
+		this.payload = payload;
+	}
+}
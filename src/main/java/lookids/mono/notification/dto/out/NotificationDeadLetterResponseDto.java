@@ -0,0 +1,62 @@
+package lookids.mono.notification.dto.out;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lookids.mono.notification.domain.NotificationDeadLetter;
+
+@Getter
+@NoArgsConstructor
+public class NotificationDeadLetterResponseDto {
+
+	private String deadLetterId;
+	private String originalTopic;
+	private int originalPartition;
+	private long originalOffset;
+	private Map<String, Object> payload;
+	private Map<String, String> headers;
+	private String exceptionClass;
+	private String exceptionMessage;
+	private String status;
+	private int replayCount;
+	private LocalDateTime failedAt;
+	private LocalDateTime replayedAt;
+
+	@Builder
+	public NotificationDeadLetterResponseDto(String deadLetterId, String originalTopic, int originalPartition,
+		long originalOffset, Map<String, Object> payload, Map<String, String> headers, String exceptionClass,
+		String exceptionMessage, String status, int replayCount, LocalDateTime failedAt, LocalDateTime replayedAt) {
+		this.deadLetterId = deadLetterId;
+		this.originalTopic = originalTopic;
+		this.originalPartition = originalPartition;
+		this.originalOffset = originalOffset;
+		this.payload = payload;
+		this.headers = headers;
+		this.exceptionClass = exceptionClass;
+		this.exceptionMessage = exceptionMessage;
+		this.status = status;
+		this.replayCount = replayCount;
+		this.failedAt = failedAt;
+		this.replayedAt = replayedAt;
+	}
+
+	public static NotificationDeadLetterResponseDto toDto(NotificationDeadLetter notificationDeadLetter) {
+		return NotificationDeadLetterResponseDto.builder()
+			.deadLetterId(notificationDeadLetter.getId().toHexString())
+			.originalTopic(notificationDeadLetter.getOriginalTopic())
+			.originalPartition(notificationDeadLetter.getOriginalPartition())
+			.originalOffset(notificationDeadLetter.getOriginalOffset())
+			.payload(notificationDeadLetter.getPayload())
+			.headers(notificationDeadLetter.getHeaders())
+			.exceptionClass(notificationDeadLetter.getExceptionClass())
+			.exceptionMessage(notificationDeadLetter.getExceptionMessage())
+			.status(notificationDeadLetter.getStatus().name())
+			.replayCount(notificationDeadLetter.getReplayCount())
+			.failedAt(notificationDeadLetter.getFailedAt())
+			.replayedAt(notificationDeadLetter.getReplayedAt())
+			.build();
+	}
+}
@@ -0,0 +1,51 @@
+package lookids.mono.notification.dto.out;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lookids.mono.notification.domain.NotificationInbox;
+
+@Getter
+@NoArgsConstructor
+public class NotificationInboxResponseDto {
+
+	private String inboxId;
+	private String senderUuid;
+	private String title;
+	private String content;
+	private String mediaUrl;
+	private String feedCode;
+	private String type;
+	private boolean read;
+	private LocalDateTime createdAt;
+
+	@Builder
+	public NotificationInboxResponseDto(String inboxId, String senderUuid, String title, String content,
+		String mediaUrl, String feedCode, String type, boolean read, LocalDateTime createdAt) {
+		this.inboxId = inboxId;
+		this.senderUuid = senderUuid;
+		this.title = title;
+		this.content = content;
+		this.mediaUrl = mediaUrl;
+		this.feedCode = feedCode;
+		this.type = type;
+		this.read = read;
+		this.createdAt = createdAt;
+	}
+
+	public static NotificationInboxResponseDto toDto(NotificationInbox notificationInbox) {
+		return NotificationInboxResponseDto.builder()
+			.inboxId(notificationInbox.getId().toHexString())
+			.senderUuid(notificationInbox.getSenderUuid())
+			.title(notificationInbox.getTitle())
+			.content(notificationInbox.getContent())
+			.mediaUrl(notificationInbox.getMediaUrl())
+			.feedCode(notificationInbox.getFeedCode())
+			.type(notificationInbox.getType().name())
+			.read(notificationInbox.isRead())
+			.createdAt(notificationInbox.getCreatedAt())
+			.build();
+	}
+}
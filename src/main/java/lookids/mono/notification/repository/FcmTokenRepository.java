@@ -1,5 +1,7 @@
 package lookids.mono.notification.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.mongodb.repository.MongoRepository;
@@ -10,4 +12,6 @@ import lookids.mono.notification.domain.FcmToken;
 @Repository
 public interface FcmTokenRepository extends MongoRepository<FcmToken, String> {
 	Optional<FcmToken> findByUuid(String uuid);
+
+	List<FcmToken> findByUuidIn(Collection<String> uuidList);
 }
@@ -1,5 +1,9 @@
 package lookids.mono.notification.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
@@ -9,4 +13,8 @@ import lookids.mono.notification.domain.Notification;
 public interface NotificationRepository extends MongoRepository<Notification, String> {
 	// todo: 보상 로직 -> type, sender, content 을 통해 저장된 알림 조회 후 재활용에 대해서 추후 작성
 	Notification findBySenderUuid(String senderUuid);
+
+	Optional<Notification> findByEventKey(String eventKey);
+
+	List<Notification> findByEventKeyIn(Collection<String> eventKeyList);
 }
@@ -0,0 +1,118 @@
+package lookids.mono.notification.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lookids.mono.notification.domain.FcmToken;
+import lookids.mono.notification.repository.FcmTokenRepository;
+
+/**
+ * 사용자별 FCM 토큰 캐시 (uuid -> 토큰 목록, 토큰이 없으면 빈 목록)
+ * 토큰 등록/삭제는 $addToSet/$pull 로 바로 반영하고 해당 사용자 항목을 비운다.
+ * FCM 이 UNREGISTERED / INVALID_ARGUMENT 로 응답한 토큰은 prune 으로 저장소와 캐시에서 제거한다.
+ * 다른 노드에서 바뀐 토큰은 ttl 이 지나면 다시 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FcmTokenCache {
+
+	private final FcmTokenRepository fcmTokenRepository;
+	private final MongoTemplate mongoTemplate;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${notification.fcm-token-cache.size:100000}")
+	private long cacheSize;
+
+	@Value("${notification.fcm-token-cache.ttl:5m}")
+	private Duration cacheTtl;
+
+	private LoadingCache<String, List<String>> tokenCache;
+
+	@PostConstruct
+	void init() {
+		tokenCache = Caffeine.newBuilder()
+			.maximumSize(cacheSize)
+			.expireAfterWrite(cacheTtl)
+			.recordStats()
+			.build(new CacheLoader<String, List<String>>() {
+				@Override
+				public List<String> load(String uuid) {
+					return fcmTokenRepository.findByUuid(uuid).map(FcmTokenCache::tokenListOf).orElse(List.of());
+				}
+
+				// 여러 수신자는 $in 한 번으로 읽음, 토큰 문서가 없는 사용자도 빈 목록으로 캐시
+				@Override
+				public Map<String, List<String>> loadAll(Set<? extends String> uuidSet) {
+					Map<String, List<String>> tokenMap = new HashMap<>();
+					uuidSet.forEach(uuid -> tokenMap.put(uuid, List.of()));
+					fcmTokenRepository.findByUuidIn(List.copyOf(uuidSet))
+						.forEach(fcmToken -> tokenMap.put(fcmToken.getUuid(), tokenListOf(fcmToken)));
+					return tokenMap;
+				}
+			});
+		CaffeineCacheMetrics.monitor(meterRegistry, tokenCache, "fcmToken");
+	}
+
+	public List<String> getTokenList(String uuid) {
+		return tokenCache.get(uuid);
+	}
+
+	public Map<String, List<String>> getTokenMap(Collection<String> uuidList) {
+		return tokenCache.getAll(uuidList);
+	}
+
+	public void addToken(String uuid, String token) {
+		mongoTemplate.upsert(Query.query(Criteria.where("uuid").is(uuid)),
+			new Update().addToSet("fcmTokenList", token), FcmToken.class);
+		tokenCache.invalidate(uuid);
+	}
+
+	public void removeToken(String uuid, String token) {
+		mongoTemplate.updateFirst(Query.query(Criteria.where("uuid").is(uuid)),
+			new Update().pull("fcmTokenList", token), FcmToken.class);
+		tokenCache.invalidate(uuid);
+	}
+
+	// FCM 이 더 이상 유효하지 않다고 응답한 토큰 제거
+	public void prune(Collection<String> tokenList, String reason) {
+		if (tokenList.isEmpty()) {
+			return;
+		}
+		Query ownerQuery = Query.query(Criteria.where("fcmTokenList").in(tokenList));
+		ownerQuery.fields().include("uuid");
+		List<String> ownerList = mongoTemplate.find(ownerQuery, FcmToken.class)
+			.stream()
+			.map(FcmToken::getUuid)
+			.toList();
+		mongoTemplate.updateMulti(Query.query(Criteria.where("fcmTokenList").in(tokenList)),
+			new Update().pullAll("fcmTokenList", tokenList.toArray()), FcmToken.class);
+		tokenCache.invalidateAll(ownerList);
+		meterRegistry.counter("notification.fcm-token.pruned", "reason", reason).increment(tokenList.size());
+		log.info("Pruned {} stale FCM tokens ({}) from {} users", tokenList.size(), reason, ownerList.size());
+	}
+
+	private static List<String> tokenListOf(FcmToken fcmToken) {
+		return fcmToken.getFcmTokenList() == null ? List.of() : List.copyOf(fcmToken.getFcmTokenList());
+	}
+}
@@ -0,0 +1,198 @@
+package lookids.mono.notification.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lookids.mono.notification.domain.Notification;
+import lookids.mono.notification.domain.NotificationCoalesceWindow;
+
+/**
+ * 좋아요/팔로우/댓글 알림 묶음 처리 (수신자 + 종류 + 대상 게시글 단위 window)
+ * window 의 첫 알림은 바로 보내고, window 안에서 이어진 알림은 모아 두었다가
+ * window 가 끝날 때 "X님 외 N명이 ..." 한 건으로 보낸다. 묶인 알림이 있으면 window 를 이어서 연다.
+ * window 는 ack 전에 Mongo 에 저장하므로 노드가 비정상 종료되어도 다른 노드(또는 재시작 후)가 이어서 보낸다.
+ * flush 는 window 마다 lease 를 잡고, 보낸 이벤트만 window 에서 빼므로 실패하면 lease 가 끝난 뒤 다시 보낸다.
+ * 묶음 알림도 이벤트 키를 가지므로 같은 묶음이 두 번 저장/전송되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationCoalescer {
+
+	private static final int FLUSH_BATCH = 500;
+
+	private final NotificationDispatcher notificationDispatcher;
+	private final MongoTemplate mongoTemplate;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${notification.coalesce.window-ms:30000}")
+	private long windowMs;
+
+	@Value("${notification.coalesce.lease-ms:60000}")
+	private long leaseMs;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void ensureIndexes() {
+		mongoTemplate.indexOps(NotificationCoalesceWindow.class)
+			.ensureIndex(new Index("openedAt", Sort.Direction.ASC).named("openedAt"));
+	}
+
+	// window 를 저장하고, 새로 열린 window 의 첫 알림(바로 보낼 알림)만 반환
+	public List<Notification> offerAll(List<Notification> notificationList) {
+		if (notificationList.isEmpty()) {
+			return List.of();
+		}
+		BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED,
+			NotificationCoalesceWindow.class);
+		notificationList = notificationList.stream()
+			.map(notification -> notification.getEventKey() != null ? notification :
+				notification.toBuilder().eventKey(new ObjectId().toHexString()).build())
+			.toList();
+		notificationList.forEach(notification -> bulkOperations.upsert(
+			Query.query(Criteria.where("_id").is(keyOf(notification))),
+			new Update().setOnInsert("openedAt", LocalDateTime.now())
+				.addToSet("senderUuidList", Objects.toString(notification.getSenderUuid(), ""))
+				.addToSet("eventKeyList", notification.getEventKey())
+				.set("latest", notification)));
+		BulkWriteResult result = bulkOperations.execute();
+
+		Set<Integer> openedIndexSet = result.getUpserts()
+			.stream()
+			.map(BulkWriteUpsert::getIndex)
+			.collect(Collectors.toSet());
+		List<Notification> openedList = new ArrayList<>();
+		for (int index = 0; index < notificationList.size(); index++) {
+			Notification notification = notificationList.get(index);
+			if (openedIndexSet.contains(index)) {
+				openedList.add(notification);
+			} else {
+				meterRegistry.counter("notification.coalesce.suppressed", "type", notification.getType().name())
+					.increment();
+			}
+		}
+		return openedList;
+	}
+
+	// window 에 묶이지 않은 알림만 한 번에 전송
+	public void submitAll(List<Notification> notificationList, boolean sse) {
+		notificationDispatcher.dispatchAll(offerAll(notificationList), sse);
+	}
+
+	@Scheduled(fixedDelayString = "${notification.coalesce.flush-ms:1000}")
+	public void flush() {
+		LocalDateTime now = LocalDateTime.now();
+		Query dueQuery = Query.query(Criteria.where("openedAt").lte(now.minusNanos(windowMs * 1_000_000)))
+			.addCriteria(leaseFree(now))
+			.limit(FLUSH_BATCH);
+		dueQuery.fields().include("_id");
+		for (NotificationCoalesceWindow due : mongoTemplate.find(dueQuery, NotificationCoalesceWindow.class)) {
+			NotificationCoalesceWindow window = claim(due.getId(), now);
+			if (window == null) {
+				continue; // 다른 노드가 처리 중
+			}
+			try {
+				close(window);
+			} catch (Exception e) {
+				// lease 가 끝나면 다음 flush 에서 다시 보냄
+				log.error("Failed to dispatch coalesced notification {}", window.getId(), e);
+				meterRegistry.counter("notification.coalesce.failures").increment();
+			}
+		}
+	}
+
+	private NotificationCoalesceWindow claim(String id, LocalDateTime now) {
+		return mongoTemplate.findAndModify(Query.query(Criteria.where("_id").is(id)).addCriteria(leaseFree(now)),
+			new Update().set("leaseUntil", now.plusNanos(leaseMs * 1_000_000)),
+			FindAndModifyOptions.options().returnNew(true), NotificationCoalesceWindow.class);
+	}
+
+	private void close(NotificationCoalesceWindow window) {
+		List<String> eventKeyList = window.getEventKeyList() == null ? List.of() : window.getEventKeyList();
+		Query windowQuery = Query.query(Criteria.where("_id").is(window.getId()));
+		if (eventKeyList.isEmpty()) {
+			// 묶인 알림 없이 끝난 window, 그 사이 들어온 이벤트가 없을 때만 닫음
+			mongoTemplate.remove(Query.query(Criteria.where("_id").is(window.getId()).and("eventKeyList").size(0)),
+				NotificationCoalesceWindow.class);
+			release(windowQuery);
+			return;
+		}
+		if (eventKeyList.size() == 1) {
+			// 첫 알림만 있던 window: 첫 알림 전송이 실패했던 경우를 위해 다시 보냄 (이미 받은 수신자는 전송 기록으로 건너뜀)
+			notificationDispatcher.dispatchAll(List.of(window.getLatest()), true);
+			long removed = mongoTemplate.remove(
+				Query.query(Criteria.where("_id").is(window.getId()).and("eventKeyList").size(1)),
+				NotificationCoalesceWindow.class).getDeletedCount();
+			if (removed == 0) {
+				reopen(windowQuery, eventKeyList);
+			}
+			return;
+		}
+		notificationDispatcher.dispatchAll(List.of(toAggregate(window)), true);
+		meterRegistry.counter("notification.coalesce.aggregated").increment();
+		// 묶인 알림이 있었다면 burst 가 이어지는 중이므로 보낸 이벤트만 빼고 window 를 다시 연다
+		reopen(windowQuery, eventKeyList);
+	}
+
+	private void reopen(Query windowQuery, List<String> sentEventKeyList) {
+		mongoTemplate.updateFirst(windowQuery,
+			new Update().pullAll("eventKeyList", sentEventKeyList.toArray())
+				.set("senderUuidList", List.of())
+				.set("openedAt", LocalDateTime.now())
+				.unset("leaseUntil"), NotificationCoalesceWindow.class);
+	}
+
+	private void release(Query windowQuery) {
+		mongoTemplate.updateFirst(windowQuery, new Update().unset("leaseUntil"), NotificationCoalesceWindow.class);
+	}
+
+	private static Criteria leaseFree(LocalDateTime now) {
+		return new Criteria().orOperator(Criteria.where("leaseUntil").exists(false),
+			Criteria.where("leaseUntil").lt(now));
+	}
+
+	private static String keyOf(Notification notification) {
+		return notification.getReceiverUuidList().get(0) + "|" + notification.getType() + "|"
+			+ Objects.toString(notification.getFeedCode(), "") + "|" + notification.getTitle();
+	}
+
+	// 마지막 발신자 기준으로 "님 외 N명이 ..." 제목을 만든다 (제목은 모두 "님이 ..." 형태)
+	private static Notification toAggregate(NotificationCoalesceWindow window) {
+		Notification latest = window.getLatest();
+		int others = window.getSenderUuidList() == null ? 0 : window.getSenderUuidList().size() - 1;
+		String title = latest.getTitle();
+		if (others > 0 && title != null && title.startsWith("님이")) {
+			title = "님 외 " + others + "명이" + title.substring("님이".length());
+		}
+		return latest.toBuilder()
+			.id(null)
+			.title(title)
+			.createdAt(LocalDateTime.now())
+			.eventKey("coalesce|" + window.getId() + "|" + latest.getEventKey()) // 재시도해도 같은 묶음은 한 번만 저장
+			.build();
+	}
+}
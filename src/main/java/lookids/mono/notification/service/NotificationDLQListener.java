@@ -1,99 +1,102 @@
 package lookids.mono.notification.service;
 
-import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import lookids.mono.notification.domain.FailedNotification;
-import lookids.mono.notification.domain.FcmToken;
 import lookids.mono.notification.domain.Notification;
-import lookids.mono.notification.domain.NotificationStatus;
-import lookids.mono.notification.domain.NotificationType;
-import lookids.mono.notification.dto.in.NotificationFeedRequestDto;
-import lookids.mono.notification.repository.FailedNotificationRepository;
-import lookids.mono.notification.repository.FcmTokenRepository;
+import lookids.mono.notification.domain.NotificationDelivery;
 import lookids.mono.notification.repository.NotificationRepository;
 
+/**
+ * 알림 재처리
+ * - dead-letter 토픽: 이벤트 처리 자체가 실패한 레코드를 저장, 관리자가 원본 토픽으로 재발행
+ * - 전송 기록 drain: FCM 일시 실패 수신자를 backoff 시각이 되면 실패한 토큰으로만 다시 전송
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class NotificationDLQListener {
 	private final NotificationRepository notificationRepository;
-	private final FcmTokenRepository fcmTokenRepository;
-	private final KafkaTemplate<String, NotificationFeedRequestDto> kafkaFeedTemplate;
-	private final NotificationSseService sseService;
-	private final NotificationPushService pushService;
-	private final FailedNotificationRepository failedNotificationRepository;
-
-	@Value("${topic.feed.create}")
-	private String feedCreateTopic;
-
-	@KafkaListener(topics = "${topic.feed.create}-dead-letter", groupId = "${consumer-group-id.feed}-dlq")
-	public void handleDeadLetter(NotificationFeedRequestDto notificationFeedRequestDto) {
-		log.info("handleDeadLetter: {}", notificationFeedRequestDto);
-
-		try {
-			// 재시도 로직 실행
-			processNotification(notificationFeedRequestDto);
-			log.info("Successfully processed message from DLQ: {}", notificationFeedRequestDto);
-
-		} catch (Exception e) {
-			log.error("Failed to process message from DLQ: {}", notificationFeedRequestDto, e);
-
-			// 실패한 알림 저장
-			FailedNotification failedNotification = FailedNotification.builder()
-				.failedRequestData(notificationFeedRequestDto.toString())
-				.failedRequestType(notificationFeedRequestDto.getType())
-				.exceptionMessage(e.getMessage())
-				.failedAt(LocalDateTime.now())
-				.status(NotificationStatus.FAILED_PERMANENT)
-				.build();
-
-			failedNotificationRepository.save(failedNotification);
-		}
-
+	private final FcmTokenCache fcmTokenCache;
+	private final NotificationFanOutService fanOutService;
+	private final NotificationDeliveryLedger deliveryLedger;
+	private final NotificationDeadLetterService deadLetterService;
+
+	@Value("${notification.retry.drain-batch-size:500}")
+	private int drainBatchSize;
+
+	// 모든 알림 토픽의 dead-letter 를 구조화해서 저장, 재처리는 관리자 API(NotificationDeadLetterController)로
+	@KafkaListener(topics = {"${topic.feed.create}-dead-letter", "${topic.chatting.create}-dead-letter",
+		"${topic.feed.favorite}-dead-letter", "${topic.comment.favorite}-dead-letter",
+		"${topic.follow.create}-dead-letter", "${topic.comment.create}-dead-letter",
+		"${topic.comment.reply.create}-dead-letter"}, groupId = "${consumer-group-id.feed}-dlq", containerFactory = "notificationDeadLetterListenerContainerFactory")
+	public void captureDeadLetters(List<ConsumerRecord<String, String>> recordList, Acknowledgment acknowledgment) {
+		deadLetterService.capture(recordList);
+		acknowledgment.acknowledge();
 	}
 
-	private void processNotification(NotificationFeedRequestDto notificationFeedRequestDto) {
-		Notification notification = Notification.builder()
-			.senderUuid(notificationFeedRequestDto.getSenderUuid())
-			.receiverUuidList(notificationFeedRequestDto.getReceiverUuidList())
-			.title("님이 게시글을 작성했습니다.")
-			.content(notificationFeedRequestDto.getContent())
-			.feedCode(notificationFeedRequestDto.getFeedCode())
-			.mediaUrl(notificationFeedRequestDto.getMediaUrl())
-			.type(NotificationType.valueOf(notificationFeedRequestDto.getType().toUpperCase()))
-			.createdAt(LocalDateTime.now())
-			.build();
-
-		// 알림 저장
-		notificationRepository.save(notification);
-
-		notificationFeedRequestDto.getReceiverUuidList().forEach(receiverUuid -> {
+	// SSE 는 실시간 채널이므로 재시도하지 않고 FCM 만 재전송
+	@Scheduled(fixedDelayString = "${notification.retry.drain-ms:5000}")
+	public void drainDeliveryLedger() {
+		List<NotificationDelivery> dueList = deliveryLedger.claimDue(drainBatchSize);
+		if (dueList.isEmpty()) {
+			return;
+		}
+		Map<ObjectId, List<NotificationDelivery>> dueByNotification = new LinkedHashMap<>();
+		dueList.forEach(delivery -> dueByNotification.computeIfAbsent(delivery.getNotificationId(),
+			key -> new ArrayList<>()).add(delivery));
+
+		dueByNotification.forEach((notificationId, deliveryList) -> {
+			Optional<Notification> notification = notificationRepository.findById(notificationId.toHexString());
+			if (notification.isEmpty()) {
+				log.warn("Notification {} no longer exists, dropping {} retries", notificationId, deliveryList.size());
+				deliveryLedger.drop(deliveryList);
+				return;
+			}
 			try {
-				// SSE 전송
-				sseService.sendSseNotification(receiverUuid, notification);
-
-				// FCM 토큰 확인 및 푸시 전송
-				Optional<FcmToken> fcmTokenOpt = fcmTokenRepository.findByUuid(receiverUuid);
-				if (fcmTokenOpt.isPresent()) {
-					fcmTokenOpt.get()
-						.getFcmTokenList()
-						.forEach(token -> pushService.sendPushNotification(token, notification));
-				} else {
-					throw new IllegalArgumentException("FCM 토큰이 없습니다.");
-				}
+				Map<String, List<String>> tokenMap = retryTokenMap(deliveryList);
+				Map<String, List<String>> stillFailedTokenMap = fanOutService.retryPush(notification.get(), tokenMap);
+				deliveryLedger.recordRetry(deliveryList, tokenMap.keySet(), stillFailedTokenMap);
 			} catch (Exception e) {
-				log.error("알림 전송 실패 - 사용자: {}, 오류: {}", receiverUuid, e.getMessage());
-				throw e;  // 재시도 유도
+				// lease 가 끝나면 다시 가져가므로 여기서는 기록만 남김
+				log.error("Failed to retry notification {} for {} receivers", notificationId, deliveryList.size(), e);
+			}
+		});
+	}
+
+	// 수신자 -> 재전송할 토큰, 토큰 조회 전에 실패한 수신자는 현재 토큰을 다시 읽음
+	private Map<String, List<String>> retryTokenMap(List<NotificationDelivery> deliveryList) {
+		Map<String, List<String>> tokenMap = new HashMap<>();
+		List<String> lookupList = new ArrayList<>();
+		deliveryList.forEach(delivery -> {
+			if (delivery.getFcmFailedTokenList() == null || delivery.getFcmFailedTokenList().isEmpty()) {
+				lookupList.add(delivery.getReceiverUuid());
+			} else {
+				tokenMap.put(delivery.getReceiverUuid(), delivery.getFcmFailedTokenList());
 			}
 		});
+		if (!lookupList.isEmpty()) {
+			fcmTokenCache.getTokenMap(lookupList).forEach((receiverUuid, tokenList) -> {
+				if (!tokenList.isEmpty()) {
+					tokenMap.put(receiverUuid, tokenList);
+				}
+			});
+		}
+		return tokenMap;
 	}
 
 }
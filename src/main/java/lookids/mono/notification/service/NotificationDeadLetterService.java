@@ -0,0 +1,307 @@
+package lookids.mono.notification.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lookids.mono.common.entity.BaseResponseStatus;
+import lookids.mono.common.exception.BaseException;
+import lookids.mono.common.utils.CursorPage;
+import lookids.mono.notification.domain.NotificationDeadLetter;
+import lookids.mono.notification.domain.NotificationStatus;
+import lookids.mono.notification.dto.out.NotificationDeadLetterResponseDto;
+
+/**
+ * 알림 dead-letter 저장/조회/재처리
+ * 모든 알림 토픽의 dead-letter 레코드를 원본 좌표(topic, partition, offset) 기준으로 한 번만 저장하고,
+ * 관리자가 조건을 걸어 원본 토픽으로 다시 발행한다. 재발행은 초당 replay-per-second 건으로 제한해
+ * 장애 복구 직후 리스너와 FCM 에 한꺼번에 몰리지 않게 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationDeadLetterService {
+
+	private static final String DEAD_LETTER_SUFFIX = "-dead-letter";
+
+	private final MongoTemplate mongoTemplate;
+	private final KafkaTemplate<String, String> kafkaDeadLetterReplayTemplate;
+	private final Executor notificationDeadLetterReplayExecutor;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${notification.dead-letter.replay-per-second:50}")
+	private int replayPerSecond;
+
+	@Value("${notification.dead-letter.replay-max:10000}")
+	private int replayMax;
+
+	private MultiGauge pendingGauge;
+
+	@PostConstruct
+	void registerMetrics() {
+		pendingGauge = MultiGauge.builder("notification.dead-letter.pending").register(meterRegistry);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void ensureIndexes() {
+		IndexOperations indexOperations = mongoTemplate.indexOps(NotificationDeadLetter.class);
+		new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext()).resolveIndexFor(
+			NotificationDeadLetter.class).forEach(indexOperations::ensureIndex);
+	}
+
+	// 같은 레코드가 dead-letter 토픽에서 다시 읽혀도 원본 좌표로 upsert 하므로 한 번만 남음
+	public void capture(List<ConsumerRecord<String, String>> recordList) {
+		if (recordList.isEmpty()) {
+			return;
+		}
+		BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED,
+			NotificationDeadLetter.class);
+		recordList.forEach(record -> {
+			NotificationDeadLetter deadLetter = toDeadLetter(record);
+			bulkOperations.upsert(Query.query(Criteria.where("originalTopic")
+					.is(deadLetter.getOriginalTopic())
+					.and("originalPartition")
+					.is(deadLetter.getOriginalPartition())
+					.and("originalOffset")
+					.is(deadLetter.getOriginalOffset())),
+				new Update().setOnInsert("messageKey", deadLetter.getMessageKey())
+					.setOnInsert("payload", deadLetter.getPayload())
+					.setOnInsert("rawPayload", deadLetter.getRawPayload())
+					.setOnInsert("headers", deadLetter.getHeaders())
+					.setOnInsert("exceptionClass", deadLetter.getExceptionClass())
+					.setOnInsert("exceptionMessage", deadLetter.getExceptionMessage())
+					.setOnInsert("status", NotificationStatus.PENDING)
+					.setOnInsert("replayCount", 0)
+					.setOnInsert("failedAt", deadLetter.getFailedAt()));
+			meterRegistry.counter("notification.dead-letter.captured", "topic", deadLetter.getOriginalTopic())
+				.increment();
+		});
+		bulkOperations.execute();
+		log.warn("Captured {} dead-letter notification events", recordList.size());
+	}
+
+	public CursorPage<NotificationDeadLetterResponseDto> readDeadLetterCursorPage(String topic, String status,
+		LocalDateTime from, LocalDateTime to, String cursor, int size) {
+		Criteria criteria = filter(topic, from, to);
+		if (status != null) {
+			criteria.and("status").is(parseStatus(status));
+		}
+		if (cursor != null && !cursor.isEmpty()) {
+			if (!ObjectId.isValid(cursor)) {
+				throw new BaseException(BaseResponseStatus.INVALID_NOTIFICATION_CURSOR);
+			}
+			criteria.and("_id").lt(new ObjectId(cursor));
+		}
+		List<NotificationDeadLetter> deadLetterList = mongoTemplate.find(
+			Query.query(criteria).with(Sort.by(Sort.Order.desc("_id"))).limit(size + 1), NotificationDeadLetter.class);
+
+		boolean hasNext = deadLetterList.size() > size;
+		List<NotificationDeadLetter> content = hasNext ? deadLetterList.subList(0, size) : deadLetterList;
+		return CursorPage.<NotificationDeadLetterResponseDto>builder()
+			.content(content.stream().map(NotificationDeadLetterResponseDto::toDto).toList())
+			.nextCursor(hasNext ? content.get(content.size() - 1).getId().toHexString() : null)
+			.hasNext(hasNext)
+			.pageSize(size)
+			.build();
+	}
+
+	// 대상 id 를 먼저 확정하고 재발행은 별도 스레드에서 속도를 맞춰 진행, 예약된 건수를 반환
+	public int replay(List<String> deadLetterIdList, String topic, LocalDateTime from, LocalDateTime to,
+		Integer limit) {
+		Criteria criteria;
+		if (deadLetterIdList != null && !deadLetterIdList.isEmpty()) {
+			criteria = Criteria.where("_id")
+				.in(deadLetterIdList.stream().filter(ObjectId::isValid).map(ObjectId::new).toList());
+		} else {
+			criteria = filter(topic, from, to);
+		}
+		criteria.and("status").in(NotificationStatus.PENDING, NotificationStatus.FAILED_TEMPORARY);
+		Query query = Query.query(criteria)
+			.with(Sort.by(Sort.Order.asc("_id")))
+			.limit(Math.min(limit == null ? replayMax : limit, replayMax));
+		query.fields().include("_id");
+		List<ObjectId> idList = mongoTemplate.find(query, NotificationDeadLetter.class)
+			.stream()
+			.map(NotificationDeadLetter::getId)
+			.toList();
+		if (!idList.isEmpty()) {
+			notificationDeadLetterReplayExecutor.execute(() -> replayAll(idList));
+		}
+		return idList.size();
+	}
+
+	private void replayAll(List<ObjectId> idList) {
+		long intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(replayPerSecond, 1);
+		long nextAt = System.nanoTime();
+		int replayed = 0;
+		for (ObjectId id : idList) {
+			long waitNanos = nextAt - System.nanoTime();
+			if (waitNanos > 0) {
+				LockSupport.parkNanos(waitNanos);
+			}
+			nextAt = Math.max(nextAt, System.nanoTime()) + intervalNanos;
+			if (replayOne(id)) {
+				replayed++;
+			}
+		}
+		log.info("Replayed {}/{} dead-letter notification events", replayed, idList.size());
+	}
+
+	// 대기 상태인 경우에만 선점해서 발행 (같은 항목이 동시에 두 번 재처리되지 않음)
+	private boolean replayOne(ObjectId id) {
+		NotificationDeadLetter deadLetter = mongoTemplate.findAndModify(Query.query(
+				Criteria.where("_id").is(id).and("status").in(NotificationStatus.PENDING, NotificationStatus.FAILED_TEMPORARY)),
+			new Update().set("status", NotificationStatus.SENT).set("replayedAt", LocalDateTime.now()).inc("replayCount", 1),
+			NotificationDeadLetter.class);
+		if (deadLetter == null) {
+			return false;
+		}
+		ProducerRecord<String, String> producerRecord = new ProducerRecord<>(deadLetter.getOriginalTopic(),
+			deadLetter.getMessageKey(), deadLetter.getRawPayload());
+		producerRecord.headers()
+			.add(NotificationDeadLetter.EVENT_KEY_HEADER, deadLetter.eventKey().getBytes(StandardCharsets.UTF_8));
+		try {
+			kafkaDeadLetterReplayTemplate.send(producerRecord).get(10, TimeUnit.SECONDS);
+			meterRegistry.counter("notification.dead-letter.replayed", "topic", deadLetter.getOriginalTopic(),
+				"result", "sent").increment();
+			return true;
+		} catch (Exception e) {
+			if (e instanceof InterruptedException) {
+				Thread.currentThread().interrupt();
+			}
+			log.error("Failed to replay dead-letter {} to {}", id, deadLetter.getOriginalTopic(), e);
+			mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(id)),
+				new Update().set("status", NotificationStatus.FAILED_TEMPORARY), NotificationDeadLetter.class);
+			meterRegistry.counter("notification.dead-letter.replayed", "topic", deadLetter.getOriginalTopic(),
+				"result", "failed").increment();
+			return false;
+		}
+	}
+
+	// 토픽별 재처리 대기 건수
+	@Scheduled(fixedDelayString = "${notification.dead-letter.metrics-ms:60000}")
+	public void refreshPendingGauge() {
+		Aggregation aggregation = Aggregation.newAggregation(
+			Aggregation.match(Criteria.where("status").in(NotificationStatus.PENDING, NotificationStatus.FAILED_TEMPORARY)),
+			Aggregation.group("originalTopic").count().as("count"));
+		List<MultiGauge.Row<?>> rowList = new ArrayList<>();
+		mongoTemplate.aggregate(aggregation, NotificationDeadLetter.class, org.bson.Document.class)
+			.getMappedResults()
+			.forEach(result -> rowList.add(
+				MultiGauge.Row.of(Tags.of("topic", result.getString("_id")), result.getInteger("count"))));
+		pendingGauge.register(rowList, true);
+	}
+
+	private NotificationDeadLetter toDeadLetter(ConsumerRecord<String, String> record) {
+		Map<String, String> headerMap = new HashMap<>();
+		String originalTopic = null;
+		Integer originalPartition = null;
+		Long originalOffset = null;
+		String exceptionClass = null;
+		String exceptionMessage = null;
+		for (Header header : record.headers()) {
+			byte[] value = header.value();
+			if (value == null) {
+				continue;
+			}
+			switch (header.key()) {
+				case KafkaHeaders.DLT_ORIGINAL_TOPIC -> originalTopic = new String(value, StandardCharsets.UTF_8);
+				case KafkaHeaders.DLT_ORIGINAL_PARTITION -> originalPartition = ByteBuffer.wrap(value).getInt();
+				case KafkaHeaders.DLT_ORIGINAL_OFFSET -> originalOffset = ByteBuffer.wrap(value).getLong();
+				case KafkaHeaders.DLT_EXCEPTION_FQCN -> exceptionClass = new String(value, StandardCharsets.UTF_8);
+				case KafkaHeaders.DLT_EXCEPTION_MESSAGE -> exceptionMessage = new String(value, StandardCharsets.UTF_8);
+				case KafkaHeaders.DLT_EXCEPTION_STACKTRACE, KafkaHeaders.DLT_ORIGINAL_TIMESTAMP -> {
+					// stacktrace 는 크고 timestamp 는 failedAt 로 대신함
+				}
+				default -> headerMap.put(header.key().replace('.', '_'), new String(value, StandardCharsets.UTF_8));
+			}
+		}
+		return NotificationDeadLetter.builder()
+			.originalTopic(originalTopic != null ? originalTopic : stripSuffix(record.topic()))
+			.originalPartition(originalPartition != null ? originalPartition : record.partition())
+			.originalOffset(originalOffset != null ? originalOffset : record.offset())
+			.messageKey(record.key())
+			.payload(parsePayload(record.value()))
+			.rawPayload(record.value())
+			.headers(headerMap)
+			.exceptionClass(exceptionClass)
+			.exceptionMessage(exceptionMessage)
+			.failedAt(LocalDateTime.now())
+			.build();
+	}
+
+	private static org.bson.Document parsePayload(String rawPayload) {
+		if (rawPayload == null) {
+			return null;
+		}
+		try {
+			return org.bson.Document.parse(rawPayload);
+		} catch (RuntimeException e) {
+			return null; // JSON 객체가 아니면 원본 문자열만 보관
+		}
+	}
+
+	private static String stripSuffix(String topic) {
+		return topic.endsWith(DEAD_LETTER_SUFFIX) ? topic.substring(0, topic.length() - DEAD_LETTER_SUFFIX.length()) :
+			topic;
+	}
+
+	private static Criteria filter(String topic, LocalDateTime from, LocalDateTime to) {
+		Criteria criteria = new Criteria();
+		if (topic != null) {
+			criteria.and("originalTopic").is(topic);
+		}
+		if (from != null || to != null) {
+			Criteria failedAt = criteria.and("failedAt");
+			if (from != null) {
+				failedAt.gte(from);
+			}
+			if (to != null) {
+				failedAt.lt(to);
+			}
+		}
+		return criteria;
+	}
+
+	private static NotificationStatus parseStatus(String status) {
+		try {
+			return NotificationStatus.valueOf(status.toUpperCase());
+		} catch (IllegalArgumentException e) {
+			throw new BaseException(BaseResponseStatus.INVALID_NOTIFICATION_DEAD_LETTER_FILTER);
+		}
+	}
+}
@@ -0,0 +1,250 @@
+package lookids.mono.notification.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.client.result.UpdateResult;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lookids.mono.notification.domain.NotificationDelivery;
+import lookids.mono.notification.domain.NotificationStatus;
+import lookids.mono.notification.service.NotificationFanOutService.FanOutResult;
+
+/**
+ * 알림 수신자별 전송 기록 (notificationId + receiverUuid)
+ * 이벤트가 다시 처리되어도 FCM 상태가 PENDING 인 수신자에게만 보내고,
+ * FCM 일시 실패는 실패한 토큰만 남겨 지수 backoff 로 재시도한다. 최대 횟수를 넘기면 FAILED_PERMANENT 로 닫는다.
+ * SSE 는 연결된 순간에만 의미가 있으므로 결과만 기록하고 재시도하지 않는다.
+ * 전송량 제한(PushRateLimiter)에 걸린 FCM 은 버리지 않고 FAILED_TEMPORARY 로 남겨 예약된 시각에 같은 재시도 경로로 보낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationDeliveryLedger {
+
+	private final MongoTemplate mongoTemplate;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${notification.retry.initial-backoff-ms:2000}")
+	private long initialBackoffMs;
+
+	@Value("${notification.retry.multiplier:2.0}")
+	private double multiplier;
+
+	@Value("${notification.retry.max-backoff-ms:600000}")
+	private long maxBackoffMs;
+
+	@Value("${notification.retry.max-attempts:6}")
+	private int maxAttempts;
+
+	// 재시도를 가져간 노드가 처리하는 동안 다른 노드가 같은 행을 가져가지 않도록 미뤄 두는 시간
+	@Value("${notification.retry.lease-ms:60000}")
+	private long leaseMs;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void ensureIndexes() {
+		IndexOperations indexOperations = mongoTemplate.indexOps(NotificationDelivery.class);
+		new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext()).resolveIndexFor(
+			NotificationDelivery.class).forEach(indexOperations::ensureIndex);
+	}
+
+	// 수신자 행을 만들고(이미 있으면 그대로 둠) 아직 FCM 처리 전인 수신자를 반환
+	public List<String> open(ObjectId notificationId, List<String> receiverUuidList) {
+		return openAll(Map.of(notificationId, receiverUuidList)).getOrDefault(notificationId, List.of());
+	}
+
+	// 여러 알림의 수신자 행을 bulk 한 번으로 만들고, 알림별로 아직 FCM 처리 전인 수신자를 반환
+	public Map<ObjectId, List<String>> openAll(Map<ObjectId, List<String>> receiverMap) {
+		if (receiverMap.values().stream().allMatch(List::isEmpty)) {
+			return Map.of();
+		}
+		LocalDateTime now = LocalDateTime.now();
+		BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED,
+			NotificationDelivery.class);
+		receiverMap.forEach((notificationId, receiverUuidList) -> receiverUuidList.forEach(
+			receiverUuid -> bulkOperations.upsert(byReceiver(notificationId, receiverUuid),
+				new Update().setOnInsert("sseStatus", NotificationStatus.PENDING)
+					.setOnInsert("fcmStatus", NotificationStatus.PENDING)
+					.setOnInsert("attempts", 0)
+					.setOnInsert("createdAt", now))));
+		bulkOperations.execute();
+
+		Query pendingQuery = Query.query(Criteria.where("notificationId")
+			.in(receiverMap.keySet())
+			.and("fcmStatus")
+			.is(NotificationStatus.PENDING));
+		pendingQuery.fields().include("notificationId").include("receiverUuid");
+		Map<ObjectId, List<String>> pendingMap = new HashMap<>();
+		mongoTemplate.find(pendingQuery, NotificationDelivery.class)
+			.forEach(delivery -> pendingMap.computeIfAbsent(delivery.getNotificationId(), key -> new ArrayList<>())
+				.add(delivery.getReceiverUuid()));
+		return pendingMap;
+	}
+
+	// 최초 fan-out 결과 기록
+	public void record(ObjectId notificationId, Collection<String> receiverUuidList, FanOutResult fanOutResult) {
+		recordAll(List.of(new Outcome(notificationId, receiverUuidList, fanOutResult, Map.of())));
+	}
+
+	// 여러 알림의 최초 fan-out 결과를 bulk 한 번으로 기록
+	public void recordAll(List<Outcome> outcomeList) {
+		if (outcomeList.stream().allMatch(outcome -> outcome.receiverUuidList().isEmpty())) {
+			return;
+		}
+		LocalDateTime now = LocalDateTime.now();
+		LocalDateTime nextAttemptAt = now.plus(backoff(1));
+		BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED,
+			NotificationDelivery.class);
+		outcomeList.forEach(outcome -> outcome.receiverUuidList().forEach(receiverUuid -> {
+			FanOutResult fanOutResult = outcome.fanOutResult();
+			Update update = new Update().set("sseStatus",
+				fanOutResult.sseDeliveredSet().contains(receiverUuid) ? NotificationStatus.SENT :
+					NotificationStatus.SKIPPED);
+			Duration deferral = outcome.deferredMap().get(receiverUuid);
+			List<String> failedTokenList = fanOutResult.failedTokenMap().get(receiverUuid);
+			if (deferral != null) {
+				// 전송량 제한으로 미룬 수신자: 시도 횟수에 넣지 않고 예약된 시각에 현재 토큰을 다시 읽어 보냄
+				update.set("fcmStatus", NotificationStatus.FAILED_TEMPORARY)
+					.set("fcmFailedTokenList", List.of())
+					.set("attempts", 0)
+					.set("nextAttemptAt", now.plus(deferral));
+			} else if (failedTokenList != null) {
+				update.set("fcmStatus", NotificationStatus.FAILED_TEMPORARY)
+					.set("fcmFailedTokenList", failedTokenList)
+					.set("attempts", 1)
+					.set("nextAttemptAt", nextAttemptAt);
+			} else {
+				update.set("fcmStatus", fanOutResult.fcmTargetSet().contains(receiverUuid) ? NotificationStatus.SENT :
+					NotificationStatus.SKIPPED).set("attempts", 1);
+			}
+			bulkOperations.updateOne(byReceiver(outcome.notificationId(), receiverUuid), update);
+		}));
+		bulkOperations.execute();
+	}
+
+	// 재시도 시각이 된 행을 lease 를 걸어 가져옴 (노드 간 중복 전송 방지)
+	// 후보 조회 → 조건부 updateMulti 로 claim 토큰 기록 → 토큰으로 조회, limit 와 상관없이 왕복 3번
+	public List<NotificationDelivery> claimDue(int limit) {
+		LocalDateTime now = LocalDateTime.now();
+		Criteria dueCriteria = Criteria.where("fcmStatus").is(NotificationStatus.FAILED_TEMPORARY)
+			.and("nextAttemptAt").lte(now);
+		Query candidateQuery = Query.query(dueCriteria)
+			.with(Sort.by(Sort.Direction.ASC, "nextAttemptAt"))
+			.limit(limit);
+		candidateQuery.fields().include("_id");
+		List<ObjectId> candidateIdList = mongoTemplate.find(candidateQuery, NotificationDelivery.class)
+			.stream()
+			.map(NotificationDelivery::getId)
+			.toList();
+		if (candidateIdList.isEmpty()) {
+			return List.of();
+		}
+
+		// 그 사이 다른 노드가 가져간 행은 nextAttemptAt 이 미뤄져 조건에서 빠짐
+		String claimToken = new ObjectId().toHexString();
+		mongoTemplate.updateMulti(Query.query(Criteria.where("_id").in(candidateIdList)
+				.and("fcmStatus").is(NotificationStatus.FAILED_TEMPORARY)
+				.and("nextAttemptAt").lte(now)),
+			new Update().set("nextAttemptAt", now.plus(Duration.ofMillis(leaseMs))).set("claimToken", claimToken),
+			NotificationDelivery.class);
+		return mongoTemplate.find(
+			Query.query(Criteria.where("_id").in(candidateIdList).and("claimToken").is(claimToken)),
+			NotificationDelivery.class);
+	}
+
+	// 재시도 결과 기록, failedTokenMap 에 남은 수신자는 다음 backoff 로 미루거나 영구 실패로 닫음
+	public void recordRetry(List<NotificationDelivery> deliveryList, Set<String> retriedReceiverSet,
+		Map<String, List<String>> failedTokenMap) {
+		LocalDateTime now = LocalDateTime.now();
+		BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED,
+			NotificationDelivery.class);
+		for (NotificationDelivery delivery : deliveryList) {
+			int attempts = delivery.getAttempts() + 1;
+			List<String> failedTokenList = failedTokenMap.get(delivery.getReceiverUuid());
+			Update update = new Update().set("attempts", attempts).unset("claimToken");
+			if (!retriedReceiverSet.contains(delivery.getReceiverUuid())) {
+				// 그 사이 토큰이 모두 삭제됨
+				update.set("fcmStatus", NotificationStatus.SKIPPED).unset("nextAttemptAt");
+			} else if (failedTokenList == null) {
+				update.set("fcmStatus", NotificationStatus.SENT).unset("fcmFailedTokenList").unset("nextAttemptAt");
+				meterRegistry.counter("notification.delivery.retry", "result", "sent").increment();
+			} else if (attempts >= maxAttempts) {
+				update.set("fcmStatus", NotificationStatus.FAILED_PERMANENT)
+					.set("fcmFailedTokenList", failedTokenList)
+					.unset("nextAttemptAt");
+				meterRegistry.counter("notification.delivery.retry", "result", "permanent").increment();
+			} else {
+				update.set("fcmFailedTokenList", failedTokenList).set("nextAttemptAt", now.plus(backoff(attempts)));
+				meterRegistry.counter("notification.delivery.retry", "result", "temporary").increment();
+			}
+			bulkOperations.updateOne(Query.query(Criteria.where("_id").is(delivery.getId())), update);
+		}
+		if (!deliveryList.isEmpty()) {
+			bulkOperations.execute();
+		}
+	}
+
+	// FCM 장애 복구 후 영구 실패로 닫힌 전송을 다시 재시도 대상으로 되돌림
+	// drain 이 drain-batch-size 단위로 가져가므로 한꺼번에 몰리지 않음, 실패한 토큰만 다시 보냄
+	public long reopenPermanentFailures(LocalDateTime since) {
+		Criteria criteria = Criteria.where("fcmStatus").is(NotificationStatus.FAILED_PERMANENT);
+		if (since != null) {
+			criteria.and("createdAt").gte(since);
+		}
+		UpdateResult result = mongoTemplate.updateMulti(Query.query(criteria),
+			new Update().set("fcmStatus", NotificationStatus.FAILED_TEMPORARY)
+				.set("attempts", 0)
+				.set("nextAttemptAt", LocalDateTime.now()), NotificationDelivery.class);
+		meterRegistry.counter("notification.delivery.reopened").increment(result.getModifiedCount());
+		log.info("Reopened {} permanently failed FCM deliveries", result.getModifiedCount());
+		return result.getModifiedCount();
+	}
+
+	// 원본 알림이 사라진 경우 더 보낼 대상이 없으므로 닫음
+	public void drop(List<NotificationDelivery> deliveryList) {
+		mongoTemplate.updateMulti(Query.query(Criteria.where("_id")
+				.in(deliveryList.stream().map(NotificationDelivery::getId).toList())),
+			new Update().set("fcmStatus", NotificationStatus.FAILED_PERMANENT).unset("nextAttemptAt"),
+			NotificationDelivery.class);
+	}
+
+	private Duration backoff(int attempts) {
+		double backoffMs = initialBackoffMs * Math.pow(multiplier, attempts - 1);
+		return Duration.ofMillis((long)Math.min(backoffMs, maxBackoffMs));
+	}
+
+	/**
+	 * 알림 하나의 전송 결과
+	 * @param receiverUuidList 이번에 처리한 수신자 (open 에서 PENDING 으로 받은 수신자)
+	 * @param deferredMap      전송량 제한으로 FCM 을 미룬 수신자 -> 보낼 수 있을 때까지 남은 시간
+	 */
+	public record Outcome(ObjectId notificationId, Collection<String> receiverUuidList, FanOutResult fanOutResult,
+						  Map<String, Duration> deferredMap) {
+	}
+
+	private static Query byReceiver(ObjectId notificationId, String receiverUuid) {
+		return Query.query(Criteria.where("notificationId").is(notificationId).and("receiverUuid").is(receiverUuid));
+	}
+}
@@ -0,0 +1,222 @@
+package lookids.mono.notification.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.bson.types.ObjectId;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lookids.mono.notification.domain.Notification;
+import lookids.mono.notification.domain.NotificationType;
+import lookids.mono.notification.repository.NotificationRepository;
+import lookids.mono.notification.service.NotificationDeliveryLedger.Outcome;
+import lookids.mono.notification.service.NotificationFanOutService.FanOutResult;
+
+/**
+ * 알림 저장 + 전송 (알림 저장, 알림함 적재, SSE, FCM), 배치 리스너에서는 poll 단위로 묶어서 처리
+ * 피드 알림과 같은 수신자별 전송 기록(NotificationDeliveryLedger)을 거치므로, 저장 후 전송 전에 실패해 이벤트가 다시 처리되면
+ * 저장된 알림을 재사용해 아직 받지 못한 수신자에게만 보낸다. FCM 실패는 전송 기록에 남아 NotificationDLQListener 가 재시도한다.
+ * 채팅 외 알림의 FCM 은 사용자별 token bucket(PushRateLimiter)을 통과한 경우에만 바로 보내고, 막힌 경우에는 예약된 시각으로
+ * 전송 기록에 미뤄 두어 재시도 경로로 보낸다. 저장/SSE 는 제한 없이 그대로 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationDispatcher {
+
+	private final NotificationRepository notificationRepository;
+	private final NotificationInboxProjector inboxProjector;
+	private final NotificationSseService sseService;
+	private final NotificationFanOutService fanOutService;
+	private final NotificationDeliveryLedger deliveryLedger;
+	private final FcmTokenCache fcmTokenCache;
+	private final PushRateLimiter pushRateLimiter;
+	private final MeterRegistry meterRegistry;
+	private final MongoTemplate mongoTemplate;
+
+	// auto-index-creation 이 꺼져 있으므로 eventKey unique 인덱스를 직접 생성 (없으면 이벤트 키 조회가 COLLSCAN)
+	@EventListener(ApplicationReadyEvent.class)
+	public void ensureIndexes() {
+		IndexOperations indexOperations = mongoTemplate.indexOps(Notification.class);
+		new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext()).resolveIndexFor(
+			Notification.class).forEach(indexOperations::ensureIndex);
+	}
+
+	public void dispatch(Notification notification, boolean sse) {
+		dispatchAll(List.of(notification), sse);
+	}
+
+	// 배치 단위 전송: 알림 저장, 알림함, 전송 기록은 bulk 한 번씩, 수신자 토큰은 한 번에 조회
+	public void dispatchAll(List<Notification> notificationList, boolean sse) {
+		if (notificationList.isEmpty()) {
+			return;
+		}
+		List<Notification> storedList = storeAll(notificationList);
+		// 알림함은 (수신자, 알림) upsert 라 재처리돼도 빠진 수신자만 채워짐
+		inboxProjector.projectAll(storedList);
+
+		Map<ObjectId, List<String>> receiverMap = new LinkedHashMap<>();
+		storedList.forEach(notification -> receiverMap.put(notification.getId(), notification.getReceiverUuidList()));
+		Map<ObjectId, List<String>> pendingMap = deliveryLedger.openAll(receiverMap);
+		if (pendingMap.isEmpty()) {
+			return;
+		}
+		Set<String> receiverUuidSet = new HashSet<>();
+		pendingMap.values().forEach(receiverUuidSet::addAll);
+		Map<String, List<String>> tokenMap = fcmTokenCache.getTokenMap(receiverUuidSet);
+		Map<ObjectId, Map<String, Duration>> deferredMap = throttle(storedList, pendingMap, tokenMap);
+
+		List<Outcome> outcomeList = new ArrayList<>();
+		for (Notification notification : storedList) {
+			List<String> pendingReceiverList = pendingMap.getOrDefault(notification.getId(), List.of());
+			if (pendingReceiverList.size() < notification.getReceiverUuidList().size()) {
+				log.info("Notification {} already delivered to {} receivers, sending to remaining {}",
+					notification.getId(), notification.getReceiverUuidList().size() - pendingReceiverList.size(),
+					pendingReceiverList.size());
+			}
+			if (!pendingReceiverList.isEmpty()) {
+				Map<String, Duration> deferred = deferredMap.getOrDefault(notification.getId(), Map.of());
+				outcomeList.add(new Outcome(notification.getId(), pendingReceiverList,
+					send(notification, pendingReceiverList, tokenMap, deferred, sse), deferred));
+			}
+		}
+		deliveryLedger.recordAll(outcomeList);
+	}
+
+	// 채팅 외 알림의 FCM 대상마다 token 을 예약하고, 바로 보낼 수 없는 수신자는 알림별로 기다릴 시간을 반환
+	private Map<ObjectId, Map<String, Duration>> throttle(List<Notification> notificationList,
+		Map<ObjectId, List<String>> pendingMap, Map<String, List<String>> tokenMap) {
+		List<Notification> limitedList = new ArrayList<>();
+		List<String> limitedReceiverList = new ArrayList<>();
+		for (Notification notification : notificationList) {
+			if (notification.getType() == NotificationType.CHATTING) {
+				continue;
+			}
+			pendingMap.getOrDefault(notification.getId(), List.of()).forEach(receiverUuid -> {
+				if (!tokenMap.getOrDefault(receiverUuid, List.of()).isEmpty()) {
+					limitedList.add(notification);
+					limitedReceiverList.add(receiverUuid);
+				}
+			});
+		}
+		List<Duration> waitList = pushRateLimiter.acquireAll(limitedReceiverList);
+
+		Map<ObjectId, Map<String, Duration>> deferredMap = new HashMap<>();
+		for (int i = 0; i < waitList.size(); i++) {
+			if (waitList.get(i).isZero()) {
+				continue;
+			}
+			Notification notification = limitedList.get(i);
+			meterRegistry.counter("notification.push.deferred", "type", notification.getType().name()).increment();
+			deferredMap.computeIfAbsent(notification.getId(), key -> new HashMap<>())
+				.put(limitedReceiverList.get(i), waitList.get(i));
+		}
+		return deferredMap;
+	}
+
+	// 전송 실패는 예외 대신 결과로 돌려줌, 전송 기록에 남겨 재시도
+	private FanOutResult send(Notification notification, List<String> receiverUuidList,
+		Map<String, List<String>> tokenMap, Map<String, Duration> deferredMap, boolean sse) {
+		Set<String> sseDeliveredSet = Set.of();
+		if (sse) {
+			try {
+				// 알림당 한 번만 직렬화하고 수신자 전체를 broadcast 한 건으로 전송
+				sseDeliveredSet = sseService.sendSseNotification(receiverUuidList,
+					sseService.preparePayload(notification));
+			} catch (Exception e) {
+				log.warn("SSE notification failed for notification {}", notification.getId(), e);
+			}
+		}
+
+		Map<String, List<String>> targetTokenMap = new HashMap<>();
+		for (String receiverUuid : receiverUuidList) {
+			List<String> tokenList = tokenMap.getOrDefault(receiverUuid, List.of());
+			if (!tokenList.isEmpty() && !deferredMap.containsKey(receiverUuid)) {
+				targetTokenMap.put(receiverUuid, tokenList);
+			}
+		}
+		try {
+			return new FanOutResult(sseDeliveredSet, targetTokenMap.keySet(),
+				fanOutService.retryPush(notification, targetTokenMap));
+		} catch (Exception e) {
+			// 어떤 토큰까지 보냈는지 모르므로 실패한 수신자의 토큰 전체를 재시도 대상으로 남김
+			log.error("FCM push failed for notification {}, scheduled for retry", notification.getId(), e);
+			return new FanOutResult(sseDeliveredSet, targetTokenMap.keySet(), targetTokenMap);
+		}
+	}
+
+	/**
+	 * 이벤트 키로 이미 저장된 알림은 재사용하고 새 알림만 insertMany 로 저장한다. 배치 안의 같은 키는 하나로 합친다.
+	 * 다른 노드가 같은 이벤트를 먼저 저장해 unique 인덱스에 걸리면 그 알림을 저장된 것으로 보고 다시 읽어 온다.
+	 * 입력 순서대로 저장된 알림을 반환한다.
+	 */
+	public List<Notification> storeAll(List<Notification> notificationList) {
+		List<String> eventKeyList = notificationList.stream()
+			.map(Notification::getEventKey)
+			.filter(Objects::nonNull)
+			.toList();
+		Map<String, Notification> storedMap = eventKeyList.isEmpty() ? Map.of() :
+			notificationRepository.findByEventKeyIn(eventKeyList)
+				.stream()
+				.collect(Collectors.toMap(Notification::getEventKey, Function.identity(), (first, second) -> first));
+
+		Set<String> seenKeySet = new HashSet<>();
+		List<Notification> storedList = new ArrayList<>();
+		List<Notification> newNotificationList = new ArrayList<>();
+		for (Notification notification : notificationList) {
+			String eventKey = notification.getEventKey();
+			if (eventKey != null && !seenKeySet.add(eventKey)) {
+				continue;
+			}
+			Notification stored = eventKey == null ? null : storedMap.get(eventKey);
+			if (stored == null) {
+				newNotificationList.add(notification);
+			}
+			storedList.add(stored == null ? notification : stored);
+		}
+		if (newNotificationList.isEmpty()) {
+			return storedList;
+		}
+		try {
+			notificationRepository.insert(newNotificationList);
+			return storedList;
+		} catch (DuplicateKeyException e) {
+			// insertMany 는 중간에 멈췄을 수 있으므로 새 알림을 하나씩 확인
+			log.info("Notification event key already stored by another consumer, storing one by one");
+			return storedList.stream()
+				.map(notification -> notification.getId() != null ? notification : storeOne(notification))
+				.toList();
+		}
+	}
+
+	private Notification storeOne(Notification notification) {
+		if (notification.getEventKey() == null) {
+			return notificationRepository.insert(notification);
+		}
+		return notificationRepository.findByEventKey(notification.getEventKey()).orElseGet(() -> {
+			try {
+				return notificationRepository.insert(notification);
+			} catch (DuplicateKeyException e) {
+				return notificationRepository.findByEventKey(notification.getEventKey()).orElseThrow(() -> e);
+			}
+		});
+	}
+}
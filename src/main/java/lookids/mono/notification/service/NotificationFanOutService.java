@@ -0,0 +1,154 @@
+package lookids.mono.notification.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lookids.mono.notification.domain.Notification;
+
+/**
+ * 다수 수신자 알림 fan-out
+ * 수신자를 chunk 로 나눠 병렬 처리하고, chunk 마다 FCM 토큰을 캐시에서 한 번에 읽어 multicast 로 보낸다.
+ * 결과는 수신자별 SSE 전송 여부와 실패한 FCM 토큰으로 돌려주므로, 재시도는 실패한 토큰에만 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationFanOutService {
+
+	private final FcmTokenCache fcmTokenCache;
+	private final NotificationSseService sseService;
+	private final NotificationPushService pushService;
+	private final Executor notificationFanOutExecutor;
+	private final NotificationDeliveryLedger deliveryLedger;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${notification.fan-out.chunk-size:500}")
+	private int chunkSize;
+
+	// 전송 기록에 수신자를 등록하고 아직 처리되지 않은 수신자에게만 보냄 (재처리 시 중복 전송 방지)
+	public FanOutResult deliver(Notification notification, boolean sse) {
+		List<String> pendingReceiverList = deliveryLedger.open(notification.getId(),
+			notification.getReceiverUuidList());
+		if (pendingReceiverList.size() < notification.getReceiverUuidList().size()) {
+			log.info("Notification {} already delivered to {} receivers, sending to remaining {}",
+				notification.getId(), notification.getReceiverUuidList().size() - pendingReceiverList.size(),
+				pendingReceiverList.size());
+		}
+		FanOutResult fanOutResult = fanOut(notification, pendingReceiverList, sse);
+		deliveryLedger.record(notification.getId(), pendingReceiverList, fanOutResult);
+		return fanOutResult;
+	}
+
+	public FanOutResult fanOut(Notification notification, List<String> receiverUuidList, boolean sse) {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		// 모든 수신자에게 같은 SSE 이벤트를 쓰므로 직렬화는 한 번만
+		NotificationSseService.Payload ssePayload = sse ? sseService.preparePayload(notification) : null;
+		List<CompletableFuture<FanOutResult>> futureList = new ArrayList<>();
+		for (int from = 0; from < receiverUuidList.size(); from += chunkSize) {
+			List<String> chunk = receiverUuidList.subList(from, Math.min(from + chunkSize, receiverUuidList.size()));
+			int chunkIndex = from / chunkSize;
+			futureList.add(CompletableFuture.supplyAsync(() -> sendChunk(notification, chunk, ssePayload),
+				notificationFanOutExecutor).exceptionally(e -> {
+				// chunk 전체 실패: FCM 은 아직 보내지 않은 상태이므로 토큰 없이 실패로 남겨 다음 재시도에서 다시 조회
+				log.error("Notification fan-out chunk {} failed entirely", chunkIndex, e);
+				return FanOutResult.failedChunk(chunk);
+			}));
+		}
+
+		FanOutResult fanOutResult = FanOutResult.empty();
+		for (int i = 0; i < futureList.size(); i++) {
+			FanOutResult chunkResult = futureList.get(i).join();
+			log.info("Notification fan-out chunk {}: fcmTarget={}, fcmFailure={}", i,
+				chunkResult.fcmTargetSet().size(), chunkResult.failedTokenMap().size());
+			fanOutResult = fanOutResult.merge(chunkResult);
+		}
+		sample.stop(meterRegistry.timer("notification.fan-out.latency", "type", notification.getType().name()));
+		meterRegistry.counter("notification.fan-out.receivers", "result", "success")
+			.increment(fanOutResult.fcmTargetSet().size() - fanOutResult.failedTokenMap().size());
+		meterRegistry.counter("notification.fan-out.receivers", "result", "failure")
+			.increment(fanOutResult.failedTokenMap().size());
+		return fanOutResult;
+	}
+
+	// 이전에 실패한 토큰에만 다시 전송, 여전히 실패한 토큰을 수신자별로 반환
+	public Map<String, List<String>> retryPush(Notification notification, Map<String, List<String>> tokenMap) {
+		Map<String, String> tokenOwnerMap = new HashMap<>();
+		tokenMap.forEach((receiverUuid, tokenList) -> tokenList.forEach(token -> tokenOwnerMap.put(token,
+			receiverUuid)));
+		return pushTokens(notification, tokenOwnerMap);
+	}
+
+	private FanOutResult sendChunk(Notification notification, List<String> chunk,
+		NotificationSseService.Payload ssePayload) {
+		Set<String> sseDeliveredSet = new HashSet<>();
+		if (ssePayload != null) {
+			try {
+				sseDeliveredSet.addAll(sseService.sendSseNotification(chunk, ssePayload));
+			} catch (Exception e) {
+				log.warn("SSE notification failed for chunk of {} receivers", chunk.size(), e);
+			}
+		}
+
+		// token -> 수신자
+		Map<String, String> tokenOwnerMap = new HashMap<>();
+		fcmTokenCache.getTokenMap(chunk)
+			.forEach((receiverUuid, tokenList) -> tokenList.forEach(token -> tokenOwnerMap.put(token, receiverUuid)));
+		Set<String> fcmTargetSet = new HashSet<>(tokenOwnerMap.values());
+		return new FanOutResult(sseDeliveredSet, fcmTargetSet, pushTokens(notification, tokenOwnerMap));
+	}
+
+	private Map<String, List<String>> pushTokens(Notification notification, Map<String, String> tokenOwnerMap) {
+		Map<String, List<String>> failedTokenMap = new HashMap<>();
+		if (tokenOwnerMap.isEmpty()) {
+			return failedTokenMap;
+		}
+		List<String> failedTokenList = pushService.sendMulticastPushNotification(
+			new ArrayList<>(tokenOwnerMap.keySet()), notification);
+		failedTokenList.forEach(token -> failedTokenMap.computeIfAbsent(tokenOwnerMap.get(token),
+			key -> new ArrayList<>()).add(token));
+		return failedTokenMap;
+	}
+
+	/**
+	 * @param sseDeliveredSet 이 노드에서 SSE 로 전달된 수신자 (다른 노드 연결은 broadcast 로 전달)
+	 * @param fcmTargetSet    FCM 토큰이 있는 수신자
+	 * @param failedTokenMap  수신자 -> 전송에 실패한 토큰 (토큰 조회 전에 실패했다면 빈 목록)
+	 */
+	public record FanOutResult(Set<String> sseDeliveredSet, Set<String> fcmTargetSet,
+							   Map<String, List<String>> failedTokenMap) {
+
+		static FanOutResult empty() {
+			return new FanOutResult(new HashSet<>(), new HashSet<>(), new HashMap<>());
+		}
+
+		static FanOutResult failedChunk(List<String> chunk) {
+			Map<String, List<String>> failedTokenMap = new HashMap<>();
+			chunk.forEach(receiverUuid -> failedTokenMap.put(receiverUuid, List.of()));
+			return new FanOutResult(new HashSet<>(), new HashSet<>(chunk), failedTokenMap);
+		}
+
+		FanOutResult merge(FanOutResult other) {
+			sseDeliveredSet.addAll(other.sseDeliveredSet());
+			fcmTargetSet.addAll(other.fcmTargetSet());
+			failedTokenMap.putAll(other.failedTokenMap());
+			return this;
+		}
+
+		public boolean hasFailure() {
+			return !failedTokenMap.isEmpty();
+		}
+	}
+}
@@ -0,0 +1,53 @@
+package lookids.mono.notification.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import lookids.mono.common.entity.BaseResponseStatus;
+import lookids.mono.common.exception.BaseException;
+import lookids.mono.notification.domain.NotificationInbox;
+
+// 알림함 커서 (createdAt, _id), 마지막 항목보다 오래된 알림만 keyset 조건으로 읽는다.
+record NotificationInboxCursor(LocalDateTime createdAt, ObjectId id) {
+
+	static final Sort SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("_id"));
+
+	static NotificationInboxCursor of(NotificationInbox notificationInbox) {
+		return new NotificationInboxCursor(notificationInbox.getCreatedAt(), notificationInbox.getId());
+	}
+
+	static NotificationInboxCursor decode(String cursor) {
+		if (cursor == null || cursor.isEmpty()) {
+			return null;
+		}
+		try {
+			String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+			LocalDateTime createdAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(parts[0])),
+				ZoneId.systemDefault());
+			return new NotificationInboxCursor(createdAt, new ObjectId(parts[1]));
+		} catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+			throw new BaseException(BaseResponseStatus.INVALID_NOTIFICATION_CURSOR);
+		}
+	}
+
+	String encode() {
+		String raw = createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() + ":" + id.toHexString();
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/** createdAt < cursor.createdAt OR (createdAt == cursor.createdAt AND _id < cursor._id) */
+	static Criteria after(NotificationInboxCursor cursor) {
+		if (cursor == null) {
+			return new Criteria();
+		}
+		return new Criteria().orOperator(Criteria.where("createdAt").lt(cursor.createdAt()),
+			Criteria.where("createdAt").is(cursor.createdAt()).and("_id").lt(cursor.id()));
+	}
+}
@@ -0,0 +1,94 @@
+package lookids.mono.notification.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lookids.mono.notification.domain.Notification;
+import lookids.mono.notification.domain.NotificationInbox;
+import lookids.mono.notification.domain.NotificationType;
+import lookids.mono.notification.domain.NotificationUnreadCount;
+
+/**
+ * 알림 저장 시 수신자별 알림함에 적재
+ * (receiverUuid, notificationId) upsert 로 같은 알림이 다시 처리되어도 한 번만 들어가고,
+ * 새로 들어간 수신자만 읽지 않은 수를 올린다. 채팅은 채팅방 안읽음으로 관리하므로 적재하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationInboxProjector {
+
+	private final MongoTemplate mongoTemplate;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void ensureIndexes() {
+		IndexOperations indexOperations = mongoTemplate.indexOps(NotificationInbox.class);
+		new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext()).resolveIndexFor(
+			NotificationInbox.class).forEach(indexOperations::ensureIndex);
+	}
+
+	public void project(Notification notification) {
+		projectAll(List.of(notification));
+	}
+
+	// 여러 알림을 bulk 한 번으로 적재하고, 읽지 않은 수는 수신자별로 합쳐서 올림
+	public void projectAll(List<Notification> notificationList) {
+		List<String> receiverUuidList = new ArrayList<>(); // bulk 요청 순서대로의 수신자
+		BulkOperations inboxOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED,
+			NotificationInbox.class);
+		notificationList.forEach(notification -> {
+			if (notification.getType() == NotificationType.CHATTING || notification.getReceiverUuidList() == null) {
+				return;
+			}
+			notification.getReceiverUuidList().forEach(receiverUuid -> {
+				receiverUuidList.add(receiverUuid);
+				inboxOperations.upsert(Query.query(
+						Criteria.where("receiverUuid").is(receiverUuid).and("notificationId").is(notification.getId())),
+					new Update().setOnInsert("senderUuid", notification.getSenderUuid())
+						.setOnInsert("title", notification.getTitle())
+						.setOnInsert("content", notification.getContent())
+						.setOnInsert("mediaUrl", notification.getMediaUrl())
+						.setOnInsert("feedCode", notification.getFeedCode())
+						.setOnInsert("type", notification.getType())
+						.setOnInsert("read", false)
+						.setOnInsert("createdAt", notification.getCreatedAt()));
+			});
+		});
+		if (receiverUuidList.isEmpty()) {
+			return;
+		}
+		BulkWriteResult result = inboxOperations.execute();
+
+		// 새로 적재된 수신자만 읽지 않은 수 증가 (upsert 의 index 는 요청 순서)
+		List<BulkWriteUpsert> upsertList = result.getUpserts();
+		if (upsertList.isEmpty()) {
+			return;
+		}
+		Map<String, Integer> unreadIncMap = new HashMap<>();
+		upsertList.forEach(upsert -> unreadIncMap.merge(receiverUuidList.get(upsert.getIndex()), 1, Integer::sum));
+		BulkOperations counterOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED,
+			NotificationUnreadCount.class);
+		unreadIncMap.forEach((receiverUuid, inc) -> counterOperations.upsert(
+			Query.query(Criteria.where("_id").is(receiverUuid)), new Update().inc("unreadCount", inc)));
+		counterOperations.execute();
+		log.debug("Projected {} notifications into {} inboxes", notificationList.size(), upsertList.size());
+	}
+}
@@ -1,17 +1,26 @@
 package lookids.mono.notification.service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
 import org.springframework.kafka.KafkaException;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import lookids.mono.notification.domain.FcmToken;
 import lookids.mono.notification.domain.Notification;
+import lookids.mono.notification.domain.NotificationDeadLetter;
 import lookids.mono.notification.domain.NotificationType;
 import lookids.mono.notification.dto.in.NotificationChattingRequestDto;
 import lookids.mono.notification.dto.in.NotificationCommentReplyRequestDto;
@@ -19,76 +28,97 @@ import lookids.mono.notification.dto.in.NotificationCommentRequestDto;
 import lookids.mono.notification.dto.in.NotificationFavoriteRequestDto;
 import lookids.mono.notification.dto.in.NotificationFeedRequestDto;
 import lookids.mono.notification.dto.in.NotificationFollowRequestDto;
-import lookids.mono.notification.repository.FcmTokenRepository;
-import lookids.mono.notification.repository.NotificationRepository;
+import lookids.mono.notification.service.NotificationFanOutService.FanOutResult;
 
+/**
+ * 알림 이벤트 배치 리스너
+ * poll 한 번에 들어온 이벤트를 묶어 저장(insertMany)/알림함 적재/토큰 조회를 한 번씩 하고, 처리가 끝나면 배치 단위로 ack 한다.
+ * 처리 중 예외가 나면 실패한 레코드의 index 로 예외를 던져 앞선 레코드만 커밋하고, 실패한 레코드부터 error handler 가 재시도/dead-letter 처리한다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class NotificationKafkaListener {
-	private final NotificationRepository notificationRepository;
-	private final FcmTokenRepository fcmTokenRepository;
-	private final NotificationSseService sseService;
-	private final NotificationPushService pushService;
-
-	@KafkaListener(topics = "${topic.feed.create}", groupId = "${consumer-group-id.feed}", concurrency = "50", containerFactory = "notificationFeedEventListenerContainerFactory")
-	public void consumeFeedNotificationEvent(NotificationFeedRequestDto notificationFeedRequestDto) {
-		log.info("consumeNotificationEvent: {}", notificationFeedRequestDto.getType().toUpperCase());
-		log.info("consumeNotificationEvent: {}", notificationFeedRequestDto.getContent());
+	private final NotificationFanOutService fanOutService;
+	private final NotificationInboxProjector inboxProjector;
+	private final NotificationDispatcher notificationDispatcher;
+	private final NotificationCoalescer notificationCoalescer;
+
+	@KafkaListener(topics = "${topic.feed.create}", groupId = "${consumer-group-id.feed}", containerFactory = "notificationFeedEventListenerContainerFactory")
+	public void consumeFeedNotificationEvents(List<ConsumerRecord<String, NotificationFeedRequestDto>> recordList,
+		Acknowledgment acknowledgment) {
+		log.info("consumeNotificationEvent: FEED x {}", recordList.size());
+		// 역직렬화에 실패한 레코드(null) 앞까지만 처리하고, 그 레코드는 error handler 가 dead-letter 로 보냄
+		int invalidIndex = firstInvalidIndex(recordList);
+		List<ConsumerRecord<String, NotificationFeedRequestDto>> validRecordList = recordList.subList(0, invalidIndex);
+
+		// 알람 저장 (같은 이벤트가 다시 처리되면 저장된 알림 재사용)
+		Map<String, Notification> notificationMap;
 		try {
-			// 알람 저장
-			Notification notification = Notification.builder()
-				.senderUuid(notificationFeedRequestDto.getSenderUuid())
-				.receiverUuidList(notificationFeedRequestDto.getReceiverUuidList())
-				.title("관심 친구가 게시글을 작성했습니다.")
-				.content(notificationFeedRequestDto.getContent())
-				.feedCode(notificationFeedRequestDto.getFeedCode())
-				.mediaUrl(notificationFeedRequestDto.getMediaUrl())
-				.type(NotificationType.valueOf(notificationFeedRequestDto.getType().toUpperCase()))
-				.createdAt(LocalDateTime.now())
-				.build();
-
-			notificationRepository.save(notification);
-
-			// 사용자에게 알림 전송
-			notificationFeedRequestDto.getReceiverUuidList().forEach(receiverUuid -> {
-				log.info("Sending notification to user: {}", receiverUuid);
-
-				try {
-					sseService.sendSseNotification(receiverUuid, notification); // SSE 알림 전송
-					Optional<FcmToken> tmpFcm = fcmTokenRepository.findByUuid(receiverUuid);
+			notificationMap = saveFeedNotifications(validRecordList);
+		} catch (Exception e) {
+			log.error("Failed to save {} feed notification events", recordList.size(), e);
+			throw new KafkaException("Notification event processing failed", e);  // 전체 처리 실패 시
+		}
 
-					if (tmpFcm.isPresent()) {
-						tmpFcm.get().getFcmTokenList().forEach(token -> {
-							log.info("Sending push notification to token: {}", token);
-							pushService.sendPushNotification(token, notification); // FCM 푸시 알림 전송
-						});
-					}
-				} catch (Exception e) {
-					log.error("Failed to send notification to user: {}", receiverUuid, e);
-					throw new KafkaException("Notification processing failed", e);  // 예외 던져 Kafka 재시도 유도
+		for (int index = 0; index < validRecordList.size(); index++) {
+			ConsumerRecord<String, NotificationFeedRequestDto> record = validRecordList.get(index);
+			Notification notification = notificationMap.get(eventKeyOf(record));
+			if (notification == null) {
+				continue;
+			}
+			try {
+				// 아직 받지 못한 수신자에게만 전송, FCM 실패는 전송 기록에 남겨 NotificationDLQListener 가 재시도
+				FanOutResult fanOutResult = fanOutService.deliver(notification, true);
+				if (fanOutResult.hasFailure()) {
+					log.warn("Feed notification push failed for {} receivers, scheduled for retry",
+						fanOutResult.failedTokenMap().size());
 				}
-			});
+			} catch (Exception e) {
+				log.error("Failed to process feed notification event: {}", record.value(), e);
+				// 앞선 레코드의 오프셋은 커밋되고 실패한 레코드부터 재시도, 재시도가 끝나면 dead-letter 로 보냄
+				throw new BatchListenerFailedException("Notification event processing failed", e, index);
+			}
+		}
+		if (invalidIndex < recordList.size()) {
+			throw new BatchListenerFailedException("Notification event deserialization failed", invalidIndex);
+		}
+		acknowledgment.acknowledge();
+	}
 
-		} catch (Exception e) {
-			log.error("Failed to process feed notification event: {}", notificationFeedRequestDto, e);
-			throw new KafkaException("Notification event processing failed", e);  // 전체 처리 실패 시
+	// 이미 저장된 이벤트는 재사용하고 나머지는 insertMany 한 번으로 저장, 알림함도 한 번에 적재
+	private Map<String, Notification> saveFeedNotifications(
+		List<ConsumerRecord<String, NotificationFeedRequestDto>> recordList) {
+		List<Notification> storedList = notificationDispatcher.storeAll(
+			recordList.stream().map(record -> record.value().toEntity(eventKeyOf(record))).toList());
+		inboxProjector.projectAll(storedList);
+		return storedList.stream().collect(Collectors.toMap(Notification::getEventKey, Function.identity()));
+	}
+
+	// dead-letter 재처리로 다시 들어온 이벤트는 원본 좌표를 이벤트 키로 사용 (이미 전달된 수신자에게 다시 보내지 않음)
+	private static String eventKeyOf(ConsumerRecord<String, ?> record) {
+		Header replayHeader = record.headers().lastHeader(NotificationDeadLetter.EVENT_KEY_HEADER);
+		if (replayHeader != null) {
+			return new String(replayHeader.value(), StandardCharsets.UTF_8);
 		}
+		return record.topic() + "-" + record.partition() + "-" + record.offset();
 	}
 
 	@KafkaListener(topics = "${topic.chatting.create}", groupId = "${consumer-group-id.chatting}", containerFactory = "notificationChattingEventListenerContainerFactory")
-	public void consumeChattingNotificationEvent(NotificationChattingRequestDto notificationChattingRequestDto) {
+	public void consumeChattingNotificationEvents(
+		List<ConsumerRecord<String, NotificationChattingRequestDto>> recordList, Acknowledgment acknowledgment) {
+		log.info("consumeNotificationEvent: CHATTING x {}", recordList.size());
+		// 정책: 빈도가 잦은 채팅은 sse 알림 미적용, 묶음/전송량 제한 없이 바로 전송
+		consume(recordList, NotificationKafkaListener::toChattingNotification,
+			notificationList -> notificationDispatcher.dispatchAll(notificationList, false), acknowledgment);
+	}
 
+	private static Notification toChattingNotification(NotificationChattingRequestDto notificationChattingRequestDto) {
 		String chatContent = notificationChattingRequestDto.getContent();
-
-		log.info("consumeNotificationEvent: {}", notificationChattingRequestDto.getType().toUpperCase());
-		log.info("consumeNotificationEvent: {}", chatContent);
-
 		String splitedChatContent = chatContent.length() > 20 ? chatContent.substring(0, 20) + "..." : chatContent;
 
-		// 알람 저장
 		// 채팅 dto의 img 정보가 있다면 mediaUrl 필드 사용하고 없다면 미사용해서 document 생성
-		Notification notification = Notification.builder()
+		return Notification.builder()
 			.senderUuid(notificationChattingRequestDto.getSenderUuid())
 			.receiverUuidList(notificationChattingRequestDto.getReceiverUuidList()) // 1~N명의 채팅 유저가 존재할 수 있기에 list로 취급
 			.roomId(notificationChattingRequestDto.getRoomId())
@@ -98,127 +128,62 @@ public class NotificationKafkaListener {
 			.type(NotificationType.CHATTING)
 			.createdAt(LocalDateTime.now())
 			.build();
-
-		notificationRepository.save(notification);
-
-		// 정책: 빈도가 잦은 채팅은 sse 알림 미적용
-		notification.getReceiverUuidList().forEach(receiverUuid -> {
-			fcmTokenRepository.findByUuid(receiverUuid).get().getFcmTokenList().forEach(token -> {
-				log.info("Sending push notification to user: {}", receiverUuid);
-				log.info("Sending push notification to token: {}", token);
-				pushService.sendPushNotification(token, notification); // FCM 푸시 알림 전송
-			});
-		});
-
 	}
 
 	@KafkaListener(topics = "${topic.feed.favorite}", groupId = "${consumer-group-id.favorite}", containerFactory = "notificationFavoriteEventListenerContainerFactory")
-	public void consumeFeedFavoriteNotificationEvent(NotificationFavoriteRequestDto notificationFavoriteRequestDto) {
-		log.info("consumeNotificationEvent: {}", notificationFavoriteRequestDto.getType().toUpperCase());
-		log.info("consumeNotificationEvent: {}", "게시글 좋아요");
-
-		// 알람 저장
-		Notification notification = Notification.builder()
-			.senderUuid(notificationFavoriteRequestDto.getSenderUuid())
-			.feedCode(notificationFavoriteRequestDto.getFeedCode())
-			.receiverUuidList(List.of(notificationFavoriteRequestDto.getReceiverUuid()))
-			.feedCode(notificationFavoriteRequestDto.getFeedCode())
-			.title("님이 게시글에 좋아요를 눌렀습니다")
-			//.content("")
-			.type(NotificationType.FAVORITE)
-			.createdAt(LocalDateTime.now())
-			.build();
-
-		notificationRepository.save(notification);
-
-		notification.getReceiverUuidList().forEach(receiverUuid -> {
-			log.info("Sending notification to user: {}", receiverUuid);
-			sseService.sendSseNotification(receiverUuid, notification); // SSE 알림 전송
-
-			fcmTokenRepository.findByUuid(receiverUuid).get().getFcmTokenList().forEach(token -> {
-				log.info("Sending push notification to user: {}", receiverUuid);
-				log.info("Sending push notification to token: {}", token);
-				pushService.sendPushNotification(token, notification); // FCM 푸시 알림 전송
-			});
-		});
-
+	public void consumeFeedFavoriteNotificationEvents(List<ConsumerRecord<String, NotificationFavoriteRequestDto>> recordList,
+		Acknowledgment acknowledgment) {
+		log.info("consumeNotificationEvent: {} x {}", "게시글 좋아요", recordList.size());
+		submit(recordList,
+			dto -> toFavoriteNotification(dto, "님이 게시글에 좋아요를 눌렀습니다"), acknowledgment);
 	}
 
 	@KafkaListener(topics = "${topic.comment.favorite}", groupId = "${consumer-group-id.favorite}", containerFactory = "notificationFavoriteEventListenerContainerFactory")
-	public void consumeCommentFavoriteNotificationEvent(NotificationFavoriteRequestDto notificationFavoriteRequestDto) {
-		log.info("consumeNotificationEvent: {}", notificationFavoriteRequestDto.getType().toUpperCase());
-		log.info("consumeNotificationEvent: {}", "댓글 좋아요");
+	public void consumeCommentFavoriteNotificationEvents(
+		List<ConsumerRecord<String, NotificationFavoriteRequestDto>> recordList, Acknowledgment acknowledgment) {
+		log.info("consumeNotificationEvent: {} x {}", "댓글 좋아요", recordList.size());
+		submit(recordList,
+			dto -> toFavoriteNotification(dto, "님이 댓글에 좋아요를 눌렀습니다"), acknowledgment);
+	}
 
-		// 알람 저장
-		Notification notification = Notification.builder()
+	private static Notification toFavoriteNotification(NotificationFavoriteRequestDto notificationFavoriteRequestDto,
+		String title) {
+		return Notification.builder()
 			.senderUuid(notificationFavoriteRequestDto.getSenderUuid())
 			.receiverUuidList(List.of(notificationFavoriteRequestDto.getReceiverUuid()))
 			.feedCode(notificationFavoriteRequestDto.getFeedCode())
-			.title("님이 댓글에 좋아요를 눌렀습니다")
+			.title(title)
 			//.content("")
 			.type(NotificationType.FAVORITE)
 			.createdAt(LocalDateTime.now())
 			.build();
-
-		notificationRepository.save(notification);
-
-		notification.getReceiverUuidList().forEach(receiverUuid -> {
-			log.info("Sending notification to user: {}", receiverUuid);
-			sseService.sendSseNotification(receiverUuid, notification); // SSE 알림 전송
-
-			fcmTokenRepository.findByUuid(receiverUuid).get().getFcmTokenList().forEach(token -> {
-				log.info("Sending push notification to user: {}", receiverUuid);
-				log.info("Sending push notification to token: {}", token);
-				pushService.sendPushNotification(token, notification); // FCM 푸시 알림 전송
-			});
-		});
-
 	}
 
 	@KafkaListener(topics = "${topic.follow.create}", groupId = "${consumer-group-id.follow}", containerFactory = "notificationFollowEventListenerContainerFactory")
-	public void consumeFollowNotificationEvent(NotificationFollowRequestDto notificationFollowRequestDto) {
-		log.info("consumeNotificationEvent: {}", notificationFollowRequestDto.getType().toUpperCase());
-		log.info("consumeNotificationEvent: {}", "팔로우");
-
-		// 알람 저장
-		Notification notification = Notification.builder()
+	public void consumeFollowNotificationEvents(List<ConsumerRecord<String, NotificationFollowRequestDto>> recordList,
+		Acknowledgment acknowledgment) {
+		log.info("consumeNotificationEvent: {} x {}", "팔로우", recordList.size());
+		submit(recordList, notificationFollowRequestDto -> Notification.builder()
 			.senderUuid(notificationFollowRequestDto.getSenderUuid())
 			.receiverUuidList(List.of(notificationFollowRequestDto.getReceiverUuid()))
 			.title("님이 팔로우를 시작했습니다")
 			//.content("")
 			.type(NotificationType.FOLLOW)
 			.createdAt(LocalDateTime.now())
-			.build();
-
-		notificationRepository.save(notification);
-
-		notification.getReceiverUuidList().forEach(receiverUuid -> {
-			log.info("Sending notification to user: {}", receiverUuid);
-			sseService.sendSseNotification(receiverUuid, notification); // SSE 알림 전송
-
-			fcmTokenRepository.findByUuid(receiverUuid).get().getFcmTokenList().forEach(token -> {
-				log.info("Sending push notification to user: {}", receiverUuid);
-				log.info("Sending push notification to token: {}", token);
-				pushService.sendPushNotification(token, notification); // FCM 푸시 알림 전송
-			});
-		});
-
+			.build(), acknowledgment);
 	}
 
 	@KafkaListener(topics = "${topic.comment.create}", groupId = "${consumer-group-id.comment}", containerFactory = "notificationCommentEventListenerContainerFactory")
-	public void consumeCommentNotificationEvent(NotificationCommentRequestDto notificationCommentRequestDto) {
-		try {
-
+	public void consumeCommentNotificationEvents(List<ConsumerRecord<String, NotificationCommentRequestDto>> recordList,
+		Acknowledgment acknowledgment) {
+		log.info("consumeNotificationEvent: {} x {}", "댓글", recordList.size());
+		submit(recordList, notificationCommentRequestDto -> {
 			String commentContent = notificationCommentRequestDto.getContent();
-
-			log.info("consumeNotificationEvent: {}", commentContent);
-
 			String splitedCommentContent =
 				commentContent.length() > 20 ? commentContent.substring(0, 20) + "..." : commentContent;
 
-			// 알람 저장
-			Notification notification = Notification.builder()
-				.senderUuid(notificationCommentRequestDto.getFeedCode())
+			return Notification.builder()
+				.senderUuid(notificationCommentRequestDto.getUuid()) // 댓글 작성자
 				.receiverUuidList(List.of(notificationCommentRequestDto.getReceiverUuid()))
 				.feedCode(notificationCommentRequestDto.getFeedCode())
 				.title("님이 댓글을 작성했습니다")
@@ -226,71 +191,95 @@ public class NotificationKafkaListener {
 				.type(NotificationType.COMMENT)
 				.createdAt(LocalDateTime.now())
 				.build();
+		}, acknowledgment);
+	}
 
-			notificationRepository.save(notification);
-
-			notification.getReceiverUuidList().forEach(receiverUuid -> {
-				log.info("Sending notification to user: {}", receiverUuid);
-				try {
-					sseService.sendSseNotification(receiverUuid, notification); // SSE 알림 전송
+	@KafkaListener(topics = "${topic.comment.reply.create}", groupId = "${consumer-group-id.comment-reply}", containerFactory = "notificationCommentReplyEventListenerContainerFactory")
+	public void consumeCommentReplyNotificationEvents(
+		List<ConsumerRecord<String, NotificationCommentReplyRequestDto>> recordList, Acknowledgment acknowledgment) {
+		log.info("consumeNotificationEvent: {} x {}", "답글", recordList.size());
+		submit(recordList, notificationCommentReplyRequestDto -> {
+			String replyCommentContent = notificationCommentReplyRequestDto.getContent();
+			String splitedReplyCommentContent =
+				replyCommentContent.length() > 20 ? replyCommentContent.substring(0, 20) + "..." : replyCommentContent;
+
+			return Notification.builder()
+				.senderUuid(notificationCommentReplyRequestDto.getUuid()) // 답글 작성자
+				.receiverUuidList(List.of(notificationCommentReplyRequestDto.getReceiverUuid()))
+				.feedCode(notificationCommentReplyRequestDto.getFeedCode())
+				.title("님이 댓글에 답글을 작성했습니다")
+				.content(splitedReplyCommentContent)
+				.type(NotificationType.COMMENT_REPLY)
+				.createdAt(LocalDateTime.now())
+				.build();
+		}, acknowledgment);
+	}
 
-					Optional<FcmToken> tmpFcm = fcmTokenRepository.findByUuid(receiverUuid);
+	// 같은 수신자에게 몰리는 알림은 묶어서 전송, 배치 처리가 끝나면 ack
+	private <T> void submit(List<ConsumerRecord<String, T>> recordList, Function<T, Notification> mapper,
+		Acknowledgment acknowledgment) {
+		consume(recordList, mapper, notificationList -> notificationCoalescer.submitAll(notificationList, true),
+			acknowledgment);
+	}
 
-					if (tmpFcm.isPresent()) {
-						tmpFcm.get().getFcmTokenList().forEach(token -> {
-							log.info("Sending push notification to token: {}", token);
-							pushService.sendPushNotification(token, notification); // FCM 푸시 알림 전송
-						});
-					}
+	/**
+	 * 배치를 한 번에 처리하고, 실패하면 레코드 하나씩 다시 처리해서 실패한 레코드의 index 로 예외를 던진다.
+	 * 앞선 레코드의 오프셋만 커밋되고 실패한 레코드부터 재시도/dead-letter 처리된다.
+	 * 알림마다 원본 이벤트 키를 붙여 두어 재처리 시 저장된 알림을 재사용하고, 아직 받지 못한 수신자에게만 보낸다.
+	 */
+	private <T> void consume(List<ConsumerRecord<String, T>> recordList, Function<T, Notification> mapper,
+		Consumer<List<Notification>> handler, Acknowledgment acknowledgment) {
+		List<Notification> notificationList = new ArrayList<>();
+		int invalidIndex = recordList.size();
+		Exception invalidCause = null;
+		for (int index = 0; index < recordList.size(); index++) {
+			ConsumerRecord<String, T> record = recordList.get(index);
+			if (record.value() == null) {
+				invalidIndex = index; // 역직렬화 실패
+				break;
+			}
+			try {
+				notificationList.add(mapper.apply(record.value()).toBuilder().eventKey(eventKeyOf(record)).build());
+			} catch (Exception e) {
+				invalidIndex = index;
+				invalidCause = e;
+				break;
+			}
+		}
 
-				} catch (Exception e) {
-					log.error("Failed to process comment notification event: {}", notificationCommentRequestDto, e);
-					throw new KafkaException("Notification event processing failed", e);  // 전체 처리 실패 시
-				}
-			});
+		try {
+			handler.accept(notificationList);
 		} catch (Exception e) {
-			log.error("Failed to process comment notification event: {}", notificationCommentRequestDto, e);
-			throw new KafkaException("Notification event processing failed", e);  // 전체 처리 실패 시
+			log.warn("Failed to process {} notification events, retrying one by one: {}", notificationList.size(),
+				e.getMessage());
+			for (int index = 0; index < notificationList.size(); index++) {
+				try {
+					handler.accept(List.of(notificationList.get(index)));
+				} catch (Exception recordException) {
+					log.error("Failed to process notification event: {}", notificationList.get(index), recordException);
+					throw new BatchListenerFailedException("Notification event processing failed", recordException,
+						index);
+				}
+			}
 		}
 
+		if (invalidIndex < recordList.size()) {
+			log.error("Invalid notification event at {}-{}-{}", recordList.get(invalidIndex).topic(),
+				recordList.get(invalidIndex).partition(), recordList.get(invalidIndex).offset(), invalidCause);
+			throw invalidCause == null ?
+				new BatchListenerFailedException("Notification event deserialization failed", invalidIndex) :
+				new BatchListenerFailedException("Notification event mapping failed", invalidCause, invalidIndex);
+		}
+		acknowledgment.acknowledge();
 	}
 
-	@KafkaListener(topics = "${topic.comment.reply.create}", groupId = "${consumer-group-id.comment-reply}", containerFactory = "notificationCommentReplyEventListenerContainerFactory")
-	public void consumeCommentReplyNotificationEvent(
-		NotificationCommentReplyRequestDto notificationCommentReplyRequestDto) {
-
-		String replyCommentContent = notificationCommentReplyRequestDto.getContent();
-
-		log.info("consumeNotificationEvent: {}", replyCommentContent);
-
-		String splitedReplyCommentContent =
-			replyCommentContent.length() > 20 ? replyCommentContent.substring(0, 20) + "..." : replyCommentContent;
-
-		// 알람 저장
-		Notification notification = Notification.builder()
-			.senderUuid(notificationCommentReplyRequestDto.getFeedCode())
-			.receiverUuidList(List.of(notificationCommentReplyRequestDto.getReceiverUuid()))
-			.feedCode(notificationCommentReplyRequestDto.getFeedCode())
-			.title("님이 댓글에 답글을 작성했습니다")
-			.content(splitedReplyCommentContent)
-			.type(NotificationType.COMMENT_REPLY)
-			.createdAt(LocalDateTime.now())
-			.build();
-
-		log.info("splitedReplyCommentContent: {}", splitedReplyCommentContent);
-
-		notificationRepository.save(notification);
-
-		notification.getReceiverUuidList().forEach(receiverUuid -> {
-			log.info("Sending notification to user: {}", receiverUuid);
-			sseService.sendSseNotification(receiverUuid, notification); // SSE 알림 전송
-
-			fcmTokenRepository.findByUuid(receiverUuid).get().getFcmTokenList().forEach(token -> {
-				log.info("Sending push notification to user: {}", receiverUuid);
-				log.info("Sending push notification to token: {}", token);
-				pushService.sendPushNotification(token, notification); // FCM 푸시 알림 전송
-			});
-		});
+	// 역직렬화에 실패한 첫 레코드(null)의 index, 없으면 size
+	private static int firstInvalidIndex(List<? extends ConsumerRecord<String, ?>> recordList) {
+		for (int index = 0; index < recordList.size(); index++) {
+			if (recordList.get(index).value() == null) {
+				return index;
+			}
+		}
+		return recordList.size();
 	}
-
 }
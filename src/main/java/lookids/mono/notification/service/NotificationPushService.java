@@ -1,11 +1,15 @@
 package lookids.mono.notification.service;
 
+import java.util.List;
+
 import lookids.mono.notification.domain.Notification;
 import lookids.mono.notification.dto.in.FcmTokenRequestDto;
 
 public interface NotificationPushService {
 	void sendPushNotification(String token, Notification notification);
 
+	List<String> sendMulticastPushNotification(List<String> tokenList, Notification notification);
+
 	void createFcmToken(FcmTokenRequestDto fcmTokenRequestDto);
 
 	void deleteFcmToken(String uuid, String fcmToken);
@@ -1,30 +1,35 @@
 package lookids.mono.notification.service;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 import org.springframework.stereotype.Service;
 
+import com.google.firebase.messaging.BatchResponse;
 import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.SendResponse;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import lookids.mono.notification.domain.FcmToken;
 import lookids.mono.notification.domain.Notification;
 import lookids.mono.notification.dto.in.FcmTokenRequestDto;
-import lookids.mono.notification.repository.FcmTokenRepository;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class NotificationPushServiceImpl implements NotificationPushService {
 
-	private final FcmTokenRepository fcmTokenRepository;
+	private final FcmTokenCache fcmTokenCache;
 	private final FirebaseMessaging firebaseMessaging;
 
+	private static final int MULTICAST_LIMIT = 500;
+
 	@Override
 	public void sendPushNotification(String token, Notification notification) {
 		// com.google.firebase.messaging.Notification 은 Builder 클래스에 대한 public 접근을 허용하지 않지만, Notification.builder()라는 정적 메서드를 제공
@@ -40,47 +45,72 @@ public class NotificationPushServiceImpl implements NotificationPushService {
 			log.info("FCM Feed Notification sent: {}", response);
 		} catch (FirebaseMessagingException e) {
 			log.error("FCM Feed Notification Error: {}", e.getMessage());
+			if (isStaleToken(e)) {
+				fcmTokenCache.prune(List.of(token), e.getMessagingErrorCode().name());
+			}
 		}
 	}
 
+	// FCM multicast 는 요청당 최대 500 개 토큰, 재시도할 실패 토큰 목록을 반환 (무효 토큰은 제거하고 제외)
 	@Override
-	public void createFcmToken(FcmTokenRequestDto fcmTokenRequestDto) {
-		// MongoDB에서 UUID로 기존 문서 조회
-		Optional<FcmToken> optionalFcmToken = fcmTokenRepository.findByUuid(fcmTokenRequestDto.getUuid());
-		FcmToken fcmToken;
+	public List<String> sendMulticastPushNotification(List<String> tokenList, Notification notification) {
+		com.google.firebase.messaging.Notification fcmNotification = com.google.firebase.messaging.Notification.builder()
+			.setTitle(notification.getTitle())
+			.setBody(notification.getContent())
+			.build();
 
-		if (optionalFcmToken.isPresent()) {
-			// 기존 문서 수정
-			fcmToken = optionalFcmToken.get();
-			List<String> tokenList = fcmToken.getFcmTokenList();
-			if (!tokenList.contains(fcmTokenRequestDto.getFcmToken())) {
-				tokenList.add(fcmTokenRequestDto.getFcmToken());
-			}
-		} else {
-			// 새로운 문서 생성
-			fcmToken = FcmToken.builder()
-				.uuid(fcmTokenRequestDto.getUuid())
-				.fcmTokenList(new ArrayList<>(List.of(fcmTokenRequestDto.getFcmToken())))
+		List<String> failedTokenList = new ArrayList<>();
+		Map<MessagingErrorCode, List<String>> staleTokenMap = new EnumMap<>(MessagingErrorCode.class);
+		for (int from = 0; from < tokenList.size(); from += MULTICAST_LIMIT) {
+			List<String> batchTokenList = tokenList.subList(from, Math.min(from + MULTICAST_LIMIT, tokenList.size()));
+			MulticastMessage message = MulticastMessage.builder()
+				.addAllTokens(batchTokenList)
+				.setNotification(fcmNotification)
 				.build();
+			try {
+				BatchResponse batchResponse = firebaseMessaging.sendEachForMulticast(message);
+				List<SendResponse> responseList = batchResponse.getResponses();
+				for (int i = 0; i < responseList.size(); i++) {
+					SendResponse sendResponse = responseList.get(i);
+					if (sendResponse.isSuccessful()) {
+						continue;
+					}
+					MessagingErrorCode errorCode = sendResponse.getException().getMessagingErrorCode();
+					if (isStaleToken(sendResponse.getException())) {
+						staleTokenMap.computeIfAbsent(errorCode, key -> new ArrayList<>()).add(batchTokenList.get(i));
+					} else {
+						failedTokenList.add(batchTokenList.get(i));
+					}
+				}
+				log.info("FCM multicast sent: success={}, failure={}", batchResponse.getSuccessCount(),
+					batchResponse.getFailureCount());
+			} catch (FirebaseMessagingException e) {
+				log.error("FCM multicast Error: {}", e.getMessage());
+				failedTokenList.addAll(batchTokenList);
+			}
+		}
+		staleTokenMap.forEach((errorCode, staleTokenList) -> fcmTokenCache.prune(staleTokenList, errorCode.name()));
+		return failedTokenList;
+	}
+
+	// 삭제된 앱/만료된 토큰 (재시도해도 성공하지 않음)
+	// INVALID_ARGUMENT 는 payload 문제일 때도 오므로 토큰 형식이 잘못됐다는 응답일 때만 토큰을 지움
+	private static boolean isStaleToken(FirebaseMessagingException e) {
+		if (e.getMessagingErrorCode() == MessagingErrorCode.UNREGISTERED) {
+			return true;
 		}
+		return e.getMessagingErrorCode() == MessagingErrorCode.INVALID_ARGUMENT && e.getMessage() != null
+			&& e.getMessage().contains("registration token");
+	}
 
-		// 저장 (MongoDB가 ID 유무에 따라 새로 생성하거나 업데이트함)
-		fcmTokenRepository.save(fcmToken);
+	@Override
+	public void createFcmToken(FcmTokenRequestDto fcmTokenRequestDto) {
+		// 토큰 문서가 없으면 생성, 있으면 중복 없이 추가
+		fcmTokenCache.addToken(fcmTokenRequestDto.getUuid(), fcmTokenRequestDto.getFcmToken());
 	}
 
 	@Override
 	public void deleteFcmToken(String uuid, String fcmToken) {
-		// MongoDB에서 UUID로 기존 문서 조회
-		FcmToken fcmTokenDocument = fcmTokenRepository.findByUuid(uuid).get();
-
-		if (fcmTokenDocument != null) {
-			// 기존 문서에서 FCM 토큰 삭제
-			List<String> tokenList = fcmTokenDocument.getFcmTokenList();
-			if (tokenList.contains(fcmToken)) {
-				tokenList.remove(fcmToken);  // 해당 토큰을 리스트에서 삭제
-				// 업데이트된 FCM 토큰 리스트 저장
-				fcmTokenRepository.save(fcmTokenDocument);
-			}
-		}
+		fcmTokenCache.removeToken(uuid, fcmToken);
 	}
 }
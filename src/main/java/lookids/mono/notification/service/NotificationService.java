@@ -1,9 +1,20 @@
 package lookids.mono.notification.service;
 
+import java.util.List;
+
+import lookids.mono.common.utils.CursorPage;
+import lookids.mono.notification.dto.out.NotificationInboxResponseDto;
 import lookids.mono.notification.dto.out.NotificationResponseDto;
 
 public interface NotificationService {
 	// void createAlarm(NotificationFeedRequestDto alarmRequestDto);
 	NotificationResponseDto readAlarm(String receiverUuid);
 
+	CursorPage<NotificationInboxResponseDto> readInboxCursorPage(String receiverUuid, String cursor, int size);
+
+	long readUnreadCount(String receiverUuid);
+
+	void updateInboxRead(String receiverUuid, List<String> inboxIdList);
+
+	void updateInboxReadAll(String receiverUuid);
 }
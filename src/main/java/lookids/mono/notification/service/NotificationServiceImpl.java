@@ -1,10 +1,23 @@
 package lookids.mono.notification.service;
 
+import java.util.List;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
+import com.mongodb.client.result.UpdateResult;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import lookids.mono.common.utils.CursorPage;
 import lookids.mono.notification.domain.Notification;
+import lookids.mono.notification.domain.NotificationInbox;
+import lookids.mono.notification.domain.NotificationUnreadCount;
+import lookids.mono.notification.dto.out.NotificationInboxResponseDto;
 import lookids.mono.notification.dto.out.NotificationResponseDto;
 import lookids.mono.notification.repository.NotificationRepository;
 
@@ -13,6 +26,7 @@ import lookids.mono.notification.repository.NotificationRepository;
 @Service
 public class NotificationServiceImpl implements NotificationService {
 	private final NotificationRepository notificationRepository;
+	private final MongoTemplate mongoTemplate;
 
 	@Override
 	public NotificationResponseDto readAlarm(String senderUuid) {
@@ -30,4 +44,52 @@ public class NotificationServiceImpl implements NotificationService {
 		}
 	}
 
+	@Override
+	public CursorPage<NotificationInboxResponseDto> readInboxCursorPage(String receiverUuid, String cursor,
+		int size) {
+		NotificationInboxCursor after = NotificationInboxCursor.decode(cursor);
+		Query query = Query.query(new Criteria().andOperator(Criteria.where("receiverUuid").is(receiverUuid),
+			NotificationInboxCursor.after(after))).with(NotificationInboxCursor.SORT).limit(size + 1);
+		List<NotificationInbox> inboxList = mongoTemplate.find(query, NotificationInbox.class);
+
+		boolean hasNext = inboxList.size() > size;
+		List<NotificationInbox> content = hasNext ? inboxList.subList(0, size) : inboxList;
+		return CursorPage.<NotificationInboxResponseDto>builder()
+			.content(content.stream().map(NotificationInboxResponseDto::toDto).toList())
+			.nextCursor(hasNext ? NotificationInboxCursor.of(content.get(content.size() - 1)).encode() : null)
+			.hasNext(hasNext)
+			.pageSize(size)
+			.build();
+	}
+
+	@Override
+	public long readUnreadCount(String receiverUuid) {
+		NotificationUnreadCount unreadCount = mongoTemplate.findById(receiverUuid, NotificationUnreadCount.class);
+		return unreadCount == null ? 0 : Math.max(unreadCount.getUnreadCount(), 0);
+	}
+
+	@Override
+	public void updateInboxRead(String receiverUuid, List<String> inboxIdList) {
+		List<ObjectId> idList = inboxIdList.stream().filter(ObjectId::isValid).map(ObjectId::new).toList();
+		if (idList.isEmpty()) {
+			return;
+		}
+		// 실제로 읽음으로 바뀐 수만큼만 차감
+		UpdateResult result = mongoTemplate.updateMulti(
+			Query.query(Criteria.where("receiverUuid").is(receiverUuid).and("_id").in(idList).and("read").is(false)),
+			new Update().set("read", true), NotificationInbox.class);
+		if (result.getModifiedCount() > 0) {
+			mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(receiverUuid)),
+				new Update().inc("unreadCount", -result.getModifiedCount()), NotificationUnreadCount.class);
+		}
+	}
+
+	@Override
+	public void updateInboxReadAll(String receiverUuid) {
+		mongoTemplate.updateMulti(Query.query(Criteria.where("receiverUuid").is(receiverUuid).and("read").is(false)),
+			new Update().set("read", true), NotificationInbox.class);
+		// 전체 읽음은 0 으로 맞춰 TTL 로 지워진 안읽음 항목 등으로 생긴 오차도 함께 정리
+		mongoTemplate.upsert(Query.query(Criteria.where("_id").is(receiverUuid)), new Update().set("unreadCount", 0),
+			NotificationUnreadCount.class);
+	}
 }
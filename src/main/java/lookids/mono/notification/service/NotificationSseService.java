@@ -1,13 +1,40 @@
 package lookids.mono.notification.service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Set;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import lookids.mono.notification.domain.Notification;
+import lookids.mono.notification.domain.NotificationType;
+import reactor.core.publisher.Flux;
 
 public interface NotificationSseService {
 	SseEmitter registerClient(String userInfo);
 
-	void sendSseNotification(String userInfo, Notification notification);
+	// reactive 스트림 구독, lastEventId 이후의 최근 알림을 먼저 다시 보냄
+	Flux<ServerSentEvent<String>> subscribe(String userInfo, String lastEventId);
+
+	// 알림을 한 번만 직렬화해 두고 여러 수신자에게 같은 이벤트를 보냄
+	Payload preparePayload(Notification notification);
+
+	// 이 노드에 연결된 기기로 전송하고 다른 노드로 broadcast, 이 노드에서 전달된 수신자를 반환
+	Set<String> sendSseNotification(Collection<String> userInfoList, Payload payload);
+
+	// 직렬화가 끝난 SSE 이벤트 (불변, 수신자 간 공유)
+	record Payload(NotificationType type, String id, String json, Set<DataWithMediaType> event) {
 
-	SseEmitter readExistingEmitter(String userInfo);
+		static Payload of(NotificationType type, String id, String json) {
+			SseEmitter.SseEventBuilder eventBuilder = SseEmitter.event();
+			if (id != null) {
+				eventBuilder.id(id); // 재연결 시 Last-Event-ID 로 돌아옴
+			}
+			return new Payload(type, id, json,
+				eventBuilder.data(json.getBytes(StandardCharsets.UTF_8), MediaType.APPLICATION_JSON).build());
+		}
+	}
 }
@@ -1,95 +1,204 @@
 package lookids.mono.notification.service;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lookids.mono.notification.domain.Notification;
+import lookids.mono.notification.domain.NotificationType;
+import lookids.mono.notification.dto.in.NotificationSseBroadcastDto;
+import reactor.core.publisher.Flux;
 
+/**
+ * SSE 연결 관리
+ * 사용자마다 여러 기기(탭)의 emitter 를 유지하고, 완료/타임아웃/오류 시 해당 emitter 만 정리한다.
+ * heartbeat 전송에 실패한 연결은 끊긴 것으로 보고 제거한다.
+ * 알림은 이 노드의 연결에 먼저 쓰고, 다른 노드에 연결된 기기를 위해 broadcast 토픽으로 한 번 발행한다.
+ * reactive 스트림 구독자(NotificationStreamRegistry)도 같은 경로로 받는다.
+ */
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class NotificationSseServiceImpl implements NotificationSseService {
 
-	private final Map<String, SseEmitter> clients = new ConcurrentHashMap<>();
+	// 사용자 -> 이 노드에 연결된 emitter 목록
+	private final Map<String, Set<SseEmitter>> clients = new ConcurrentHashMap<>();
+	private final String nodeId = UUID.randomUUID().toString();
+	// JavaTimeModule 과 ISO 날짜 형식이 설정된 공용 ObjectMapper
+	private final ObjectMapper objectMapper;
+	private final KafkaTemplate<String, NotificationSseBroadcastDto> kafkaSseBroadcastTemplate;
+	private final NotificationStreamRegistry notificationStreamRegistry;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${notification.sse.timeout-ms:600000}")
+	private long timeoutMs;
+
+	@Value("${notification.sse.max-emitters-per-user:5}")
+	private int maxEmittersPerUser;
+
+	@Value("${notification.sse.broadcast.enabled:true}")
+	private boolean broadcastEnabled;
+
+	@Value("${topic.notification.sse-broadcast:notification-sse-broadcast}")
+	private String sseBroadcastTopic;
+
+	@PostConstruct
+	void registerMetrics() {
+		Gauge.builder("notification.sse.users", clients, Map::size).register(meterRegistry);
+		Gauge.builder("notification.sse.emitters", clients,
+			map -> map.values().stream().mapToInt(Set::size).sum()).register(meterRegistry);
+	}
 
 	@Override
 	public SseEmitter registerClient(String userInfo) {
-		// 단일 연결만 유지됨, 추후 여러 기기에서의 리스트를 위해 List<SseEmitter> 적용
-		SseEmitter emitter = new SseEmitter(1000L * 60 * 10);
+		SseEmitter emitter = new SseEmitter(timeoutMs);
+		Set<SseEmitter> emitterSet = clients.computeIfAbsent(userInfo, key -> ConcurrentHashMap.newKeySet());
+		if (emitterSet.size() >= maxEmittersPerUser) {
+			// 기기 수 상한을 넘으면 남아 있는 연결 하나를 닫음 (닫힌 연결이 정리되지 않고 쌓이는 것 방지)
+			emitterSet.stream().findFirst().ifPresent(stale -> {
+				removeEmitter(userInfo, stale);
+				stale.complete();
+			});
+		}
+		emitterSet.add(emitter);
+		log.info("Registered client for user: {}, devices: {}", userInfo, emitterSet.size());
 
-		clients.put(userInfo, emitter);
-		log.info("Registered client for user: {}", userInfo);
-		log.info("Current clients: {}", clients.keySet());
-		log.info("Current emitter: {}", emitter);
+		// 클라이언트 연결 종료/타임아웃/오류 시 해당 emitter 만 제거
+		emitter.onCompletion(() -> {
+			log.info("Client disconnected: {}", userInfo);
+			removeEmitter(userInfo, emitter);
+		});
+		emitter.onTimeout(() -> {
+			log.info("Client timeout: {}", userInfo);
+			removeEmitter(userInfo, emitter);
+			emitter.complete();
+		});
+		emitter.onError(e -> {
+			log.warn("Client error: {}, {}", userInfo, e.getMessage());
+			removeEmitter(userInfo, emitter);
+		});
 
 		// 더미 데이터 전송 (연결 확인 이벤트)
 		try {
-			// emitter.send(":\n\n");
-			log.info("Sent connection-init event to user: {}", userInfo);
 			emitter.send("connect");
-			// .data(notification));
-			log.info("sse success send event, emitter: {}", emitter);
 		} catch (IOException e) {
 			log.error("Failed to send initial connection event: {}", e.getMessage());
-			clients.remove(userInfo);
+			removeEmitter(userInfo, emitter);
 		}
-		// 클라이언트 연결 종료 시 처리
-		emitter.onCompletion(() -> {
-			// 클라이언트가 연결을 끊을 때 emitter를 제거하지 않고 유지
-			log.info("Client disconnected: {}", userInfo);
-			clients.remove(userInfo);
+		return emitter;
+	}
+
+	private void removeEmitter(String userInfo, SseEmitter emitter) {
+		clients.computeIfPresent(userInfo, (key, emitterSet) -> {
+			emitterSet.remove(emitter);
+			return emitterSet.isEmpty() ? null : emitterSet;
 		});
+	}
 
-		// // 타임아웃 처리 시 emitter 삭제하지 않음
-		// emitter.onTimeout(() -> {
-		// 	log.info("Client timeout: {}", userInfo);
-		// 	clients.remove(userInfo);
-		// });
-		//
-		// // 오류 처리 시 emitter 삭제하지 않음
-		// emitter.onError((e) -> {
-		// 	log.error("Client error: {}", e.getMessage());
-		// 	clients.remove(userInfo);
-		//
-		// });
+	@Override
+	public Payload preparePayload(Notification notification) {
+		try {
+			return Payload.of(notification.getType(),
+				notification.getId() != null ? notification.getId().toHexString() : null,
+				objectMapper.writeValueAsString(notification));
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("Failed to serialize notification " + notification.getId(), e);
+		}
+	}
 
-		return emitter;
+	@Override
+	public Set<String> sendSseNotification(Collection<String> userInfoList, Payload payload) {
+		Set<String> deliveredSet = new HashSet<>();
+		userInfoList.forEach(userInfo -> {
+			if (sendLocal(userInfo, payload)) {
+				deliveredSet.add(userInfo);
+			}
+		});
+		broadcast(userInfoList, payload);
+		return deliveredSet;
 	}
 
 	@Override
-	public void sendSseNotification(String userInfo, Notification notification) {
-		SseEmitter emitter = clients.get(userInfo);
-		log.info("----------------------------");
-		log.info(clients.toString());
-		log.info("----------------------------");
-		if (emitter != null) {
+	public Flux<ServerSentEvent<String>> subscribe(String userInfo, String lastEventId) {
+		return notificationStreamRegistry.subscribe(userInfo, lastEventId);
+	}
+
+	// 이 노드에 연결된 기기(SseEmitter, reactive 스트림)에만 전송
+	private boolean sendLocal(String userInfo, Payload payload) {
+		boolean delivered = notificationStreamRegistry.emit(userInfo, payload);
+		Set<SseEmitter> emitterSet = clients.get(userInfo);
+		if (emitterSet == null) {
+			return delivered;
+		}
+		for (SseEmitter emitter : emitterSet) {
 			try {
-				ObjectMapper objectMapper = new ObjectMapper();
-				objectMapper.registerModule(new JavaTimeModule());
-				objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-				String jsonNotification = objectMapper.writeValueAsString(notification);
-				emitter.send(jsonNotification);
-				log.info("sse success send event, emitter: {}", emitter);
-				log.info("jsonNotification: {}", jsonNotification);
+				emitter.send(payload.event());
+				delivered = true;
 			} catch (Exception e) {
-				clients.remove(userInfo);
-				log.error("Error while sending {} notification: {}", notification.getType(), e.getMessage());
+				removeEmitter(userInfo, emitter);
+				log.warn("Error while sending {} notification to user {}: {}", payload.type(), userInfo,
+					e.getMessage());
 			}
-		} else
-			log.info("emitter is null");
+		}
+		return delivered;
 	}
 
-	public SseEmitter readExistingEmitter(String userInfo) {
-		return clients.get(userInfo); // 이미 등록된 emitter를 반환
+	private void broadcast(Collection<String> userInfoList, Payload payload) {
+		if (!broadcastEnabled || userInfoList.isEmpty()) {
+			return;
+		}
+		kafkaSseBroadcastTemplate.send(sseBroadcastTopic, NotificationSseBroadcastDto.builder()
+			.nodeId(nodeId)
+			.receiverUuidList(new ArrayList<>(userInfoList))
+			.type(payload.type().name())
+			.notificationId(payload.id())
+			.payload(payload.json())
+			.build());
+	}
+
+	// 노드마다 고유 group 으로 모든 broadcast 를 받아 자기 노드의 연결에만 전달
+	@KafkaListener(topics = "${topic.notification.sse-broadcast:notification-sse-broadcast}", groupId = "#{'notification-sse-' + T(java.util.UUID).randomUUID()}", containerFactory = "notificationSseBroadcastListenerContainerFactory", properties = "auto.offset.reset=latest")
+	public void consumeSseBroadcast(NotificationSseBroadcastDto notificationSseBroadcastDto) {
+		if (nodeId.equals(notificationSseBroadcastDto.getNodeId())) {
+			return;
+		}
+		Payload payload = Payload.of(NotificationType.valueOf(notificationSseBroadcastDto.getType()),
+			notificationSseBroadcastDto.getNotificationId(), notificationSseBroadcastDto.getPayload());
+		notificationSseBroadcastDto.getReceiverUuidList().forEach(userInfo -> sendLocal(userInfo, payload));
+	}
+
+	// 끊긴 연결은 다음 쓰기에서야 드러나므로 주기적으로 주석 이벤트를 보내 정리
+	@Scheduled(fixedDelayString = "${notification.sse.heartbeat-ms:30000}")
+	public void sendHeartbeat() {
+		clients.forEach((userInfo, emitterSet) -> emitterSet.forEach(emitter -> {
+			try {
+				emitter.send(SseEmitter.event().comment("heartbeat"));
+			} catch (Exception e) {
+				log.debug("Heartbeat failed for user: {}", userInfo);
+				removeEmitter(userInfo, emitter);
+				emitter.completeWithError(e);
+			}
+		}));
 	}
 }
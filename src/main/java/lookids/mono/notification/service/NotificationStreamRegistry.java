@@ -0,0 +1,176 @@
+package lookids.mono.notification.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * 사용자별 reactive 알림 스트림 (Sinks.Many)
+ * 사용자마다 최근 N 개 이벤트를 보관하는 replay sink 하나를 두고 모든 기기가 구독한다.
+ * 재연결 시 Last-Event-ID 이후의 이벤트만 다시 보내며, 느린 구독자는 구독자별 버퍼에서 오래된 이벤트부터 버린다.
+ * 구독 중인 사용자의 sink 는 캐시 밖에 고정해 두고, 연결이 모두 끊기면 replay-ttl 동안 캐시에 보관해 재연결 시 놓친 알림을 받을 수 있게 한다.
+ * 보관 중인 sink 가 만료/용량 초과로 닫히면 그 sink 를 구독하던 연결도 함께 끝난다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationStreamRegistry {
+
+	private final MeterRegistry meterRegistry;
+
+	@Value("${notification.stream.replay-size:20}")
+	private int replaySize;
+
+	@Value("${notification.stream.replay-ttl:10m}")
+	private Duration replayTtl;
+
+	@Value("${notification.stream.max-users:100000}")
+	private long maxUsers;
+
+	@Value("${notification.stream.subscriber-buffer:256}")
+	private int subscriberBuffer;
+
+	@Value("${notification.stream.heartbeat:30s}")
+	private Duration heartbeat;
+
+	private final AtomicInteger subscriberCount = new AtomicInteger();
+
+	// 구독자가 있는 사용자의 stream 은 만료/용량 제한 대상이 아니도록 캐시 밖에 고정
+	private final Map<String, UserStream> activeStreamMap = new ConcurrentHashMap<>();
+
+	// 구독자가 모두 끊긴 사용자의 stream, replay-ttl 동안 놓친 알림을 보관
+	private Cache<String, UserStream> idleStreamCache;
+
+	@PostConstruct
+	void init() {
+		idleStreamCache = Caffeine.newBuilder()
+			.maximumSize(maxUsers)
+			.expireAfterWrite(replayTtl)
+			.removalListener((String userInfo, UserStream userStream, RemovalCause cause) -> {
+				// 구독을 시작하며 캐시에서 꺼낸 경우(EXPLICIT/REPLACED)는 닫지 않음
+				if (userStream != null && cause.wasEvicted()) {
+					userStream.close();
+				}
+			})
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, idleStreamCache, "notificationStream");
+		Gauge.builder("notification.stream.subscribers", subscriberCount, AtomicInteger::get).register(meterRegistry);
+		Gauge.builder("notification.stream.active-users", activeStreamMap, Map::size).register(meterRegistry);
+	}
+
+	public Flux<ServerSentEvent<String>> subscribe(String userInfo, String lastEventId) {
+		return Flux.defer(() -> {
+			UserStream userStream = acquire(userInfo);
+			Flux<ServerSentEvent<String>> eventFlux = userStream.sink.asFlux();
+			if (lastEventId != null && ObjectId.isValid(lastEventId)) {
+				// 알림 id(ObjectId) 는 생성 시각 순이므로 마지막으로 받은 id 이후만 다시 보냄
+				eventFlux = eventFlux.filter(event -> event.id() == null || event.id().compareTo(lastEventId) > 0);
+			}
+			// stream 이 닫히면 heartbeat 도 끝내서 연결 전체를 종료, 클라이언트가 재연결하도록 함
+			Flux<ServerSentEvent<String>> heartbeatFlux = Flux.interval(heartbeat)
+				.map(tick -> ServerSentEvent.<String>builder().comment("heartbeat").build())
+				.takeUntilOther(userStream.closed.asMono());
+			return Flux.merge(eventFlux.onBackpressureBuffer(subscriberBuffer,
+						dropped -> log.debug("Dropped notification {} for slow subscriber {}", dropped.id(), userInfo),
+						BufferOverflowStrategy.DROP_OLDEST), heartbeatFlux)
+				.doOnSubscribe(subscription -> subscriberCount.incrementAndGet())
+				.doFinally(signalType -> {
+					subscriberCount.decrementAndGet();
+					release(userInfo, userStream);
+				});
+		});
+	}
+
+	private UserStream acquire(String userInfo) {
+		return activeStreamMap.compute(userInfo, (key, active) -> {
+			UserStream userStream = active;
+			if (userStream == null) {
+				userStream = idleStreamCache.asMap().remove(key);
+			}
+			if (userStream == null || userStream.isClosed()) {
+				userStream = new UserStream(replaySize);
+			}
+			userStream.subscribers++;
+			return userStream;
+		});
+	}
+
+	// 마지막 구독자가 끊기면 replay 보관용 캐시로 옮김
+	private void release(String userInfo, UserStream userStream) {
+		activeStreamMap.computeIfPresent(userInfo, (key, active) -> {
+			if (active != userStream || --active.subscribers > 0) {
+				return active;
+			}
+			idleStreamCache.put(key, active);
+			return null;
+		});
+	}
+
+	// 구독한 적이 있는 사용자에게만 전달 (구독자가 없어도 replay 버퍼에는 남김)
+	public boolean emit(String userInfo, NotificationSseService.Payload payload) {
+		UserStream userStream = activeStreamMap.get(userInfo);
+		if (userStream == null) {
+			userStream = idleStreamCache.getIfPresent(userInfo);
+		}
+		if (userStream == null) {
+			return false;
+		}
+		Sinks.Many<ServerSentEvent<String>> sink = userStream.sink;
+		ServerSentEvent<String> event = ServerSentEvent.<String>builder()
+			.id(payload.id())
+			.event(payload.type().name())
+			.data(payload.json())
+			.build();
+		try {
+			// 여러 스레드에서 동시에 emit 될 수 있으므로 잠시 재시도
+			sink.emitNext(event, Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)));
+		} catch (Sinks.EmissionException e) {
+			log.warn("Failed to emit notification {} to user {}: {}", payload.id(), userInfo, e.getReason());
+			return false;
+		}
+		return sink.currentSubscriberCount() > 0;
+	}
+
+	// 사용자별 replay sink, subscribers 는 activeStreamMap.compute 안에서만 바뀜
+	private static final class UserStream {
+		private final Sinks.Many<ServerSentEvent<String>> sink;
+		private final Sinks.Empty<Void> closed = Sinks.empty();
+		private int subscribers;
+		private volatile boolean terminated;
+
+		private UserStream(int replaySize) {
+			this.sink = Sinks.many().replay().limit(replaySize);
+		}
+
+		private void close() {
+			terminated = true;
+			sink.tryEmitComplete();
+			closed.tryEmitEmpty();
+		}
+
+		private boolean isClosed() {
+			return terminated;
+		}
+	}
+}
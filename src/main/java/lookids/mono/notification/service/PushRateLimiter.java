@@ -0,0 +1,86 @@
+package lookids.mono.notification.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 FCM 전송 token bucket (Redis 에 두어 모든 노드가 같은 bucket 을 사용)
+ * burst 만큼 연속 전송을 허용하고 이후에는 분당 refill-per-minute 개씩 채운다.
+ * 한도를 넘은 전송도 버리지 않고 다음 token 이 생기는 시각을 예약해 돌려주며, 호출한 쪽은 그 시각까지 전송을 미룬다 (shaping).
+ * 한동안 알림이 없던 사용자의 bucket 은 가득 찰 시간이 지나면 만료되어 다시 가득 찬 상태로 시작한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PushRateLimiter {
+
+	private static final String BUCKET_KEY_PREFIX = "PushRateLimit:";
+
+	// token 하나를 예약하고 기다려야 하는 ms 를 반환 (ARGV[1] = burst, ARGV[2] = ms 당 refill)
+	// 노드 간 시계 차이가 없도록 Redis 시각 기준, 예약된 token 만큼 음수로 내려감
+	private static final byte[] ACQUIRE_SCRIPT = """
+		local capacity = tonumber(ARGV[1])
+		local refill = tonumber(ARGV[2])
+		local time = redis.call('TIME')
+		local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+		local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+		local tokens = tonumber(bucket[1]) or capacity
+		local ts = tonumber(bucket[2]) or now
+		tokens = math.min(capacity, tokens + math.max(0, now - ts) * refill) - 1
+		redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+		redis.call('PEXPIRE', KEYS[1], math.ceil((capacity - tokens) / refill))
+		if tokens >= 0 then
+		  return 0
+		end
+		return math.ceil(-tokens / refill)
+		""".getBytes(StandardCharsets.UTF_8);
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	@Value("${notification.push.rate.burst:5}")
+	private int burst;
+
+	@Value("${notification.push.rate.refill-per-minute:10}")
+	private int refillPerMinute;
+
+	// 수신자마다 token 하나씩 예약하고, 보낼 수 있을 때까지 남은 시간을 같은 순서로 반환 (0 이면 바로 전송)
+	// 수신자마다 작은 스크립트 하나, 한 번의 pipeline 으로 전송
+	public List<Duration> acquireAll(List<String> uuidList) {
+		if (uuidList.isEmpty()) {
+			return List.of();
+		}
+		byte[] capacity = bytesOf(String.valueOf(burst));
+		byte[] refillPerMilli = bytesOf(String.valueOf(refillPerMinute / 60_000.0));
+		try {
+			List<Object> waitList = stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				for (String uuid : uuidList) {
+					connection.scriptingCommands()
+						.eval(ACQUIRE_SCRIPT, ReturnType.INTEGER, 1, bytesOf(BUCKET_KEY_PREFIX + uuid), capacity,
+							refillPerMilli);
+				}
+				return null;
+			});
+			return waitList.stream().map(waitMs -> Duration.ofMillis(((Number)waitMs).longValue())).toList();
+		} catch (Exception e) {
+			// Redis 장애 중에는 제한 없이 보냄 (알림 유실보다 과전송이 낫다)
+			log.warn("Push rate limiter unavailable, sending {} pushes without limit: {}", uuidList.size(),
+				e.getMessage());
+			return Collections.nCopies(uuidList.size(), Duration.ZERO);
+		}
+	}
+
+	private static byte[] bytesOf(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
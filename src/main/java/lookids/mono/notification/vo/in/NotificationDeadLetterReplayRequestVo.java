@@ -0,0 +1,18 @@
+package lookids.mono.notification.vo.in;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.ToString;
+
+// deadLetterIdList 가 있으면 해당 항목만, 없으면 topic/기간 조건에 맞는 대기 항목을 limit 개까지 재처리
+@ToString
+@Getter
+public class NotificationDeadLetterReplayRequestVo {
+	private List<String> deadLetterIdList;
+	private String topic;
+	private LocalDateTime from;
+	private LocalDateTime to;
+	private Integer limit;
+}
@@ -0,0 +1,12 @@
+package lookids.mono.notification.vo.in;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.ToString;
+
+@ToString
+@Getter
+public class NotificationReadRequestVo {
+	private List<String> inboxIdList;
+}
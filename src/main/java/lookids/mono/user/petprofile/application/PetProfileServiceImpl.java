@@ -5,6 +5,8 @@ import java.util.List;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lookids.mono.common.entity.BaseResponseStatus;
 import lookids.mono.common.exception.BaseException;
+import lookids.mono.common.kafka.ReplyCorrelator;
 import lookids.mono.user.petprofile.domain.PetProfile;
 import lookids.mono.user.petprofile.dto.in.PetProfileImgDto;
 import lookids.mono.user.petprofile.dto.in.PetProfileRequestDto;
@@ -20,8 +23,10 @@ import lookids.mono.user.petprofile.dto.in.PetProfileWeightDto;
 import lookids.mono.user.petprofile.dto.out.PetProfileResponseDto;
 import lookids.mono.user.petprofile.infrastructure.PetProfileRepository;
 import lookids.mono.user.petprofile.vo.in.FeedKafkaVo;
+import lookids.mono.user.petprofile.vo.in.FeedPetCodeListKafkaVo;
 import lookids.mono.user.petprofile.vo.out.PetProfileDeleteKafkaVo;
 import lookids.mono.user.petprofile.vo.out.PetProfileKafkaVo;
+import lookids.mono.user.petprofile.vo.out.PetProfileListKafkaVo;
 import lookids.mono.user.petprofile.vo.out.PetProfileSearchKafkaVo;
 import lookids.mono.user.userprofile.application.UserProfileService;
 
@@ -121,4 +126,24 @@ public class PetProfileServiceImpl implements PetProfileService {
 
 		petProfileKafkaTemplate.send(petProfileTopic, PetProfileResponseDto.toDto(petProfile).toKafkaVo());
 	}
+
+	@Value("${petprofile.batch-out:petprofile-batch-response}")
+	private String petProfileBatchTopic;
+
+	private final KafkaTemplate<String, PetProfileListKafkaVo> petProfileListKafkaTemplate;
+
+	@KafkaListener(topics = "${feed.petprofile-batch:petprofile-batch-request}", groupId = "${group-id.user}", containerFactory = "feedPetCodeListKafkaListenerContainerFactory")
+	public void consumeFeedBatchEvent(FeedPetCodeListKafkaVo feedPetCodeListKafkaVo,
+		@Header(name = KafkaHeaders.CORRELATION_ID, required = false) byte[] correlationId) {
+
+		List<String> petCodeList = feedPetCodeListKafkaVo.getPetCodeList();
+		List<PetProfileKafkaVo> petProfileList = petCodeList == null || petCodeList.isEmpty() ? List.of() :
+			petProfileRepository.findByPetCodeIn(petCodeList)
+				.stream()
+				.map(petProfile -> PetProfileResponseDto.toDto(petProfile).toKafkaVo())
+				.toList();
+
+		petProfileListKafkaTemplate.send(ReplyCorrelator.toReplyRecord(petProfileBatchTopic,
+			PetProfileListKafkaVo.builder().petProfileList(petProfileList).build(), correlationId));
+	}
 }
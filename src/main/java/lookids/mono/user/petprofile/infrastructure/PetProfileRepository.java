@@ -13,6 +13,8 @@ public interface PetProfileRepository extends JpaRepository<PetProfile, Long> {
 
 	Optional<PetProfile> findByPetCode(String uuid);
 
+	List<PetProfile> findByPetCodeIn(List<String> petCodeList);
+
 	List<PetProfile> findByUserUuid(String uuid);
 
 	Optional<PetProfile> findByUserUuidAndPetCode(String userUuid, String petCode);
@@ -0,0 +1,12 @@
+package lookids.mono.user.petprofile.vo.in;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@Getter
+public class FeedPetCodeListKafkaVo {
+	private List<String> petCodeList;
+}
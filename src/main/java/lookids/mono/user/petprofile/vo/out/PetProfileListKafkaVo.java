@@ -0,0 +1,14 @@
+package lookids.mono.user.petprofile.vo.out;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@Builder
+@ToString
+@Getter
+public class PetProfileListKafkaVo {
+	private List<PetProfileKafkaVo> petProfileList;
+}
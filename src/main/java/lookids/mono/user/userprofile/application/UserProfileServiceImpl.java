@@ -173,7 +173,7 @@ public class UserProfileServiceImpl implements UserProfileService {
 
 		UserProfile userProfile = userProfileRepository.findByUserUuid(commentEventVo.getUuid())
 			.orElseThrow(() -> new BaseException(BaseResponseStatus.NO_EXIST_DATA));
-		sendMessage(commentJoinTopic, UserProfileKafkaDto.toDto(userProfile).toVo());
+		sendMessage(commentJoinTopic, commentEventVo.getCommentCode(), UserProfileKafkaDto.toDto(userProfile).toVo());
 	}
 
 	@KafkaListener(topics = "${reply.create}", groupId = "${group-id.user}", containerFactory = "replyUserListenerContainerFactory")
@@ -184,7 +184,7 @@ public class UserProfileServiceImpl implements UserProfileService {
 		UserProfile userProfile = userProfileRepository.findByUserUuid(replyEventVo.getUuid())
 			.orElseThrow(() -> new BaseException(BaseResponseStatus.NO_EXIST_DATA));
 
-		sendMessage(replyJoinTopic, UserProfileKafkaDto.toDto(userProfile).toVo());
+		sendMessage(replyJoinTopic, replyEventVo.getCommentCode(), UserProfileKafkaDto.toDto(userProfile).toVo());
 	}
 
 	@KafkaListener(topics = "${feed.create}", groupId = "${group-id.user}", containerFactory = "feedUserListenerContainerFactory")
@@ -195,7 +195,7 @@ public class UserProfileServiceImpl implements UserProfileService {
 		UserProfile userProfile = userProfileRepository.findByUserUuid(feedEventVo.getUuid())
 			.orElseThrow(() -> new BaseException(BaseResponseStatus.NO_EXIST_DATA));
 
-		sendMessage(feedJoinTopic, UserProfileKafkaDto.toDto(userProfile).toVo());
+		sendMessage(feedJoinTopic, feedEventVo.getFeedCode(), UserProfileKafkaDto.toDto(userProfile).toVo());
 	}
 
 	private final KafkaTemplate<String, FollowKafkaVo> followJoinKafkaTemplate;
@@ -218,4 +218,9 @@ public class UserProfileServiceImpl implements UserProfileService {
 	public void sendMessage(String topic, UserProfileKafkaVo userProfileKafkaVo) {
 		userProfileKafkaTemplate.send(topic, userProfileKafkaVo);
 	}
+
+	// join 대상 이벤트 id(feedCode, commentCode)를 key 로 실어 보내 소비 측에서 이벤트 단위로 짝지음
+	public void sendMessage(String topic, String joinKey, UserProfileKafkaVo userProfileKafkaVo) {
+		userProfileKafkaTemplate.send(topic, joinKey, userProfileKafkaVo);
+	}
 }
@@ -0,0 +1,159 @@
+package lookids.mono.chatting.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lookids.mono.chatting.domain.ChatMessage;
+import lookids.mono.chatting.domain.ChatRoom;
+import lookids.mono.chatting.domain.MessageType;
+import lookids.mono.chatting.domain.Participant;
+import lookids.mono.chatting.dto.in.ChattingRequestDto;
+import lookids.mono.chatting.dto.out.NotificationKafkaRequestDto;
+import lookids.mono.chatting.infrastructure.ChatChangeStreamHub;
+import lookids.mono.chatting.infrastructure.ChatMessageRepository;
+import lookids.mono.chatting.infrastructure.ChatMessageRepositoryCustom;
+import lookids.mono.chatting.infrastructure.ChatRoomRepository;
+import lookids.mono.chatting.infrastructure.ChatRoomRepositoryImpl;
+
+// embedded MongoDB 에서 여러 스레드가 같은 채팅방에 동시에 메세지를 보내는 동안 요약 flush 도 함께 돌려,
+// 마지막 flush 후 안 읽은 수 / 읽음 위치가 메세지를 하나씩 반영한 결과와 같은지 확인
+@DataMongoTest(properties = "de.flapdoodle.mongodb.embedded.version=7.0.12")
+@Import(ChatRoomRepositoryImpl.class)
+class ChatMessageUnreadCountConcurrencyTest {
+
+	private static final String SENDER = "sender";
+	private static final String ONLINE = "online";
+	private static final List<String> OFFLINE_LIST = List.of("offline1", "offline2");
+	private static final int THREADS = 8;
+	private static final int MESSAGES_PER_THREAD = 50;
+
+	@Autowired
+	private ChatRoomRepository chatRoomRepository;
+	@Autowired
+	private ChatMessageRepository chatMessageRepository;
+	@Autowired
+	private ChatRoomRepositoryImpl chatRoomRepositoryImpl;
+	@Autowired
+	private MongoTemplate mongoTemplate;
+
+	private ChatRoomSummaryBuffer chatRoomSummaryBuffer;
+	private ChattingServiceImpl chattingService;
+	private String roomId;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		mongoTemplate.dropCollection(ChatRoom.class);
+		mongoTemplate.dropCollection(ChatMessage.class);
+		roomId = chatRoomRepository.save(ChatRoom.builder()
+			.roomName("room")
+			.participants(Set.of(SENDER, ONLINE, OFFLINE_LIST.get(0), OFFLINE_LIST.get(1))
+				.stream()
+				.map(userId -> Participant.builder().userId(userId).unreadCount(0L).isOnline(false).build())
+				.toList())
+			.build()).getId();
+
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		chatRoomSummaryBuffer = new ChatRoomSummaryBuffer(chatRoomRepositoryImpl, meterRegistry);
+		ChatRoomMemberCache chatRoomMemberCache = new ChatRoomMemberCache(chatRoomRepositoryImpl,
+			mock(KafkaTemplate.class), meterRegistry);
+		ReflectionTestUtils.setField(chatRoomMemberCache, "cacheSize", 100L);
+		ReflectionTestUtils.setField(chatRoomMemberCache, "cacheTtl", Duration.ofMinutes(10));
+		chatRoomMemberCache.init();
+		ChatPresenceService chatPresenceService = mock(ChatPresenceService.class);
+		when(chatPresenceService.onlineUserIdSet(anyString(), anyCollection())).thenAnswer(
+			invocation -> new HashSet<>(Set.of(ONLINE)));
+		KafkaTemplate<String, NotificationKafkaRequestDto> chattingKafkaTemplate = mock(KafkaTemplate.class);
+
+		chattingService = new ChattingServiceImpl(chatRoomRepository, mock(ChatMessageRepositoryCustom.class),
+			chatRoomRepositoryImpl, chatMessageRepository, mock(ReactiveMongoTemplate.class),
+			mock(ChatChangeStreamHub.class), chatRoomSummaryBuffer, chatRoomMemberCache, chatPresenceService,
+			chattingKafkaTemplate);
+	}
+
+	@Test
+	void concurrentSendsCountEveryMessageOnceForOfflineParticipants() throws Exception {
+		ExecutorService executorService = Executors.newFixedThreadPool(THREADS + 1);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicBoolean sending = new AtomicBoolean(true);
+		try {
+			// 보내는 동안 스케줄러처럼 계속 flush
+			Future<?> flusher = executorService.submit(() -> {
+				while (sending.get()) {
+					chatRoomSummaryBuffer.flush();
+				}
+			});
+			List<Future<?>> senderList = IntStream.range(0, THREADS)
+				.mapToObj(thread -> executorService.submit(() -> {
+					start.await();
+					for (int i = 0; i < MESSAGES_PER_THREAD; i++) {
+						chattingService.createChatMessage(ChattingRequestDto.builder()
+							.roomId(roomId)
+							.messageType(MessageType.TEXT)
+							.message("m" + thread + "-" + i)
+							.senderId(SENDER)
+							.build());
+					}
+					return null;
+				}))
+				.collect(Collectors.toList());
+			start.countDown();
+			for (Future<?> future : senderList) {
+				future.get(1, TimeUnit.MINUTES);
+			}
+			sending.set(false);
+			flusher.get(1, TimeUnit.MINUTES);
+		} finally {
+			executorService.shutdownNow();
+		}
+		chatRoomSummaryBuffer.flush();
+
+		int total = THREADS * MESSAGES_PER_THREAD;
+		ChatRoom chatRoom = chatRoomRepository.findById(roomId).orElseThrow();
+		Map<String, Participant> participantMap = chatRoom.getParticipants()
+			.stream()
+			.collect(Collectors.toMap(Participant::getUserId, participant -> participant));
+		String lastChatMessageId = chatMessageRepository.findAll()
+			.stream()
+			.map(ChatMessage::getId)
+			.max(String::compareTo)
+			.orElseThrow();
+
+		assertThat(chatMessageRepository.count()).isEqualTo(total);
+		OFFLINE_LIST.forEach(userId -> assertThat(participantMap.get(userId).getUnreadCount()).isEqualTo(total));
+		assertThat(participantMap.get(ONLINE).getUnreadCount()).isZero();
+		assertThat(participantMap.get(SENDER).getUnreadCount()).isZero();
+		assertThat(participantMap.get(ONLINE).getLastReadChatMessage()).isEqualTo(lastChatMessageId);
+		assertThat(participantMap.get(SENDER).getLastReadChatMessage()).isEqualTo(lastChatMessageId);
+		assertThat(chatRoom.getLastChatMessageAt()).isNotNull();
+		assertThat(chatRoom.getUpdatedAt()).isNotNull();
+	}
+}
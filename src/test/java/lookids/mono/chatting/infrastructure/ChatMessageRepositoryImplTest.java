@@ -0,0 +1,202 @@
+package lookids.mono.chatting.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.mongodb.client.result.DeleteResult;
+
+import lookids.mono.chatting.domain.ChatMessage;
+import lookids.mono.chatting.domain.ChatMessageBucket;
+import lookids.mono.chatting.domain.ChatMessageBucketItem;
+import lookids.mono.common.utils.CursorPage;
+
+// chat_message 와 bucket 을 합쳐 읽는 커서 페이징과 bucket 이전 (MongoTemplate 은 _id 조건/정렬/limit 만 흉내 내는 가짜)
+@ExtendWith(MockitoExtension.class)
+class ChatMessageRepositoryImplTest {
+
+	private static final String ROOM_ID = "room";
+
+	@Mock
+	private MongoTemplate mongoTemplate;
+
+	@InjectMocks
+	private ChatMessageRepositoryImpl chatMessageRepository;
+
+	// m0 ~ m9, 오래된 순
+	private final List<ChatMessage> messageList = new ArrayList<>();
+	private final List<ChatMessage> hotMessageList = new ArrayList<>();
+	private final List<ChatMessageBucket> bucketList = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		for (int i = 0; i < 10; i++) {
+			messageList.add(ChatMessage.builder()
+				.id(new ObjectId(new Date(1_700_000_000_000L + i * 1000L), i).toHexString())
+				.roomId(ROOM_ID)
+				.message("m" + i)
+				.build());
+		}
+		lenient().when(mongoTemplate.find(any(Query.class), eq(ChatMessage.class))).thenAnswer(invocation -> {
+			Query query = invocation.getArgument(0);
+			ObjectId cursor = cursorOf(query);
+			return hotMessageList.stream()
+				.filter(chatMessage -> cursor == null || chatMessage.getId().compareTo(cursor.toHexString()) < 0)
+				.sorted(Comparator.comparing(ChatMessage::getId, Comparator.reverseOrder()))
+				.limit(query.getLimit())
+				.toList();
+		});
+		lenient().when(mongoTemplate.stream(any(Query.class), eq(ChatMessageBucket.class))).thenAnswer(invocation -> {
+			ObjectId cursor = cursorOf(invocation.getArgument(0));
+			return bucketList.stream()
+				.filter(bucket -> cursor == null || bucket.getId().compareTo(cursor.toHexString()) < 0)
+				.sorted(Comparator.comparing(ChatMessageBucket::getId, Comparator.reverseOrder()));
+		});
+	}
+
+	// 버킷 [m0..m3], [m4..m7], 나머지 m8, m9 는 chat_message
+	private void compactedRoom() {
+		bucketList.add(ChatMessageBucket.of(messageList.subList(0, 4)));
+		bucketList.add(ChatMessageBucket.of(messageList.subList(4, 8)));
+		hotMessageList.addAll(messageList.subList(8, 10));
+	}
+
+	@Test
+	void readsOnlyHotMessagesWhenPageIsFull() {
+		hotMessageList.addAll(messageList);
+
+		CursorPage<ChatMessage> page = chatMessageRepository.getChatMessage(ROOM_ID, null, 3, 0);
+
+		assertThat(messagesOf(page)).containsExactly("m9", "m8", "m7");
+		assertThat(page.getHasNext()).isTrue();
+		assertThat(page.getNextCursor()).isEqualTo(messageList.get(7).getId());
+		verify(mongoTemplate, never()).stream(any(Query.class), eq(ChatMessageBucket.class));
+	}
+
+	@Test
+	void fillsPageFromNewestBucketWhenHotMessagesRunOut() {
+		compactedRoom();
+
+		CursorPage<ChatMessage> page = chatMessageRepository.getChatMessage(ROOM_ID, null, 5, 0);
+
+		assertThat(messagesOf(page)).containsExactly("m9", "m8", "m7", "m6", "m5");
+		assertThat(page.getHasNext()).isTrue();
+		assertThat(page.getNextCursor()).isEqualTo(messageList.get(5).getId());
+	}
+
+	@Test
+	void cursorInsideBucketSkipsNewerItemsOfThatBucket() {
+		compactedRoom();
+
+		CursorPage<ChatMessage> page = chatMessageRepository.getChatMessage(ROOM_ID, messageList.get(5).getId(), 5,
+			1);
+
+		assertThat(messagesOf(page)).containsExactly("m4", "m3", "m2", "m1", "m0");
+		assertThat(page.getHasNext()).isFalse();
+		assertThat(page.getNextCursor()).isNull();
+	}
+
+	@Test
+	void cursorAtBucketStartContinuesWithOlderBucket() {
+		compactedRoom();
+
+		CursorPage<ChatMessage> page = chatMessageRepository.getChatMessage(ROOM_ID, messageList.get(4).getId(), 4,
+			1);
+
+		assertThat(messagesOf(page)).containsExactly("m3", "m2", "m1", "m0");
+		assertThat(page.getHasNext()).isFalse();
+		assertThat(page.getNextCursor()).isNull();
+	}
+
+	@Test
+	void cursorPagesCoverWholeRoomWithoutGapOrDuplicate() {
+		compactedRoom();
+
+		List<String> readList = new ArrayList<>();
+		String cursor = null;
+		int pageNumber = 0;
+		do {
+			CursorPage<ChatMessage> page = chatMessageRepository.getChatMessage(ROOM_ID, cursor, 3, pageNumber++);
+			readList.addAll(messagesOf(page));
+			cursor = page.getNextCursor();
+		} while (cursor != null);
+
+		assertThat(readList).containsExactly("m9", "m8", "m7", "m6", "m5", "m4", "m3", "m2", "m1", "m0");
+	}
+
+	@Test
+	void messageEditedDuringCompactionIsMergedIntoBucketInsteadOfLost() {
+		ChatMessage edited = ChatMessage.builder()
+			.id(messageList.get(1).getId())
+			.roomId(ROOM_ID)
+			.message("m1 edited")
+			.updatedAt(LocalDateTime.now())
+			.build();
+		when(mongoTemplate.count(any(Query.class), eq(ChatMessage.class))).thenReturn(2L);
+		// 옮길 메세지를 읽은 뒤 m1 이 수정되어, 수정 전 내용 그대로인 m0 만 한 번에 지워지고 m1 은 남음
+		when(mongoTemplate.find(any(Query.class), eq(ChatMessage.class))).thenReturn(messageList.subList(0, 2),
+			List.of(edited));
+		when(mongoTemplate.remove(any(Query.class), eq(ChatMessage.class))).thenReturn(DeleteResult.acknowledged(1));
+		when(mongoTemplate.findAndRemove(any(Query.class), eq(ChatMessage.class))).thenReturn(edited);
+
+		int moved = chatMessageRepository.compactRoom(ROOM_ID, new ObjectId(), 2, 1);
+
+		assertThat(moved).isEqualTo(2);
+		ArgumentCaptor<ChatMessageBucket> bucketCaptor = ArgumentCaptor.forClass(ChatMessageBucket.class);
+		verify(mongoTemplate).insert(bucketCaptor.capture());
+		assertThat(bucketCaptor.getValue().getChatMessages()).extracting(ChatMessageBucketItem::getMessage)
+			.containsExactly("m0", "m1");
+		ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+		verify(mongoTemplate).updateFirst(any(Query.class), updateCaptor.capture(), eq(ChatMessageBucket.class));
+		Document set = (Document)updateCaptor.getValue().getUpdateObject().get("$set");
+		assertThat(set.get("chatMessages.$[item].message")).isEqualTo("m1 edited");
+	}
+
+	@Test
+	void existingBucketWithOtherMessagesKeepsSources() {
+		when(mongoTemplate.count(any(Query.class), eq(ChatMessage.class))).thenReturn(2L);
+		when(mongoTemplate.find(any(Query.class), eq(ChatMessage.class))).thenReturn(messageList.subList(0, 2));
+		when(mongoTemplate.insert(any(ChatMessageBucket.class))).thenThrow(new DuplicateKeyException("bucket"));
+		// 이전 실행이 다른 크기로 만든 bucket
+		when(mongoTemplate.findById(messageList.get(0).getId(), ChatMessageBucket.class)).thenReturn(
+			ChatMessageBucket.of(messageList.subList(0, 3)));
+
+		int moved = chatMessageRepository.compactRoom(ROOM_ID, new ObjectId(), 2, 1);
+
+		assertThat(moved).isZero();
+		verify(mongoTemplate, never()).remove(any(Query.class), eq(ChatMessage.class));
+	}
+
+	private static List<String> messagesOf(CursorPage<ChatMessage> page) {
+		return page.getContent().stream().map(ChatMessage::getMessage).toList();
+	}
+
+	private static ObjectId cursorOf(Query query) {
+		Document idCriteria = (Document)query.getQueryObject().get("_id");
+		return idCriteria == null ? null : (ObjectId)idCriteria.get("$lt");
+	}
+}
@@ -0,0 +1,84 @@
+package lookids.mono.feedread.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import lookids.mono.common.entity.BaseResponseStatus;
+import lookids.mono.common.exception.BaseException;
+
+class FeedCursorTest {
+
+	private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_000_000);
+
+	@Test
+	void encodeThenDecodeKeepsCreatedAtAndId() {
+		FeedCursor feedCursor = new FeedCursor(CREATED_AT, new ObjectId());
+
+		FeedCursor decoded = FeedCursor.decode(feedCursor.encode());
+
+		assertThat(decoded).isEqualTo(feedCursor);
+	}
+
+	@Test
+	void encodedCursorIsUrlSafeWithoutPadding() {
+		String encoded = new FeedCursor(CREATED_AT, new ObjectId()).encode();
+
+		assertThat(encoded).doesNotContain("+", "/", "=");
+	}
+
+	@Test
+	void emptyCursorMeansFirstPage() {
+		assertThat(FeedCursor.decode(null)).isNull();
+		assertThat(FeedCursor.decode("")).isNull();
+		assertThat(FeedCursor.after(null).getCriteriaObject()).isEmpty();
+	}
+
+	// base64 가 아님 / 구분자 없음 / 시각이 숫자가 아님 / id 가 ObjectId 가 아님
+	static List<String> invalidCursors() {
+		return List.of("not base64!", base64("1714534615123"), base64("abc:6631f0d5e4b0a1234567890a"),
+			base64("1714534615123:not-an-id"));
+	}
+
+	@ParameterizedTest
+	@MethodSource("invalidCursors")
+	void invalidCursorIsRejected(String cursor) {
+		assertThatThrownBy(() -> FeedCursor.decode(cursor)).isInstanceOf(BaseException.class)
+			.extracting(e -> ((BaseException)e).getStatus())
+			.isEqualTo(BaseResponseStatus.INVALID_FEED_CURSOR);
+	}
+
+	@Test
+	void afterReadsOlderCreatedAtOrSameCreatedAtWithSmallerId() {
+		ObjectId id = new ObjectId();
+		FeedCursor feedCursor = new FeedCursor(CREATED_AT, id);
+
+		Document criteria = FeedCursor.after(feedCursor).getCriteriaObject();
+
+		assertThat(criteria.getList("$or", Document.class)).containsExactly(
+			new Document("createdAt", new Document("$lt", CREATED_AT)),
+			new Document("createdAt", CREATED_AT).append("_id", new Document("$lt", id)));
+	}
+
+	// size=0 이면 마지막 항목(content.get(-1))을 찾다가 500 이 나던 경우
+	@ParameterizedTest
+	@CsvSource({"0, 1", "-3, 1", "1, 1", "10, 10", "100, 100", "101, 100", "2147483647, 100"})
+	void pageSizeIsClampedToAtLeastOneAndAtMostMax(int size, int expected) {
+		assertThat(FeedCursor.pageSize(size)).isEqualTo(expected);
+	}
+
+	private static String base64(String raw) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
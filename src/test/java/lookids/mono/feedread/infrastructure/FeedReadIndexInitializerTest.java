@@ -0,0 +1,23 @@
+package lookids.mono.feedread.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+
+// embedded MongoDB 에 feedRead 인덱스를 만들고 모든 조회 형태가 COLLSCAN 없이 실행되는지 확인
+@DataMongoTest(properties = {"de.flapdoodle.mongodb.embedded.version=7.0.12",
+	"feed-read.index.plan-guard.enabled=true", "feed-read.index.plan-guard.fail-on-collscan=true"})
+@Import(FeedReadIndexInitializer.class)
+class FeedReadIndexInitializerTest {
+
+	@Autowired
+	private FeedReadIndexInitializer feedReadIndexInitializer;
+
+	@Test
+	void everyQueryShapeUsesAnIndex() {
+		assertThatCode(feedReadIndexInitializer::ensureIndexes).doesNotThrowAnyException();
+	}
+}
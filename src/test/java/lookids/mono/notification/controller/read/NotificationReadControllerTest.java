@@ -0,0 +1,124 @@
+package lookids.mono.notification.controller.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lookids.mono.notification.domain.Notification;
+import lookids.mono.notification.domain.NotificationType;
+import lookids.mono.notification.service.NotificationService;
+import lookids.mono.notification.service.NotificationSseServiceImpl;
+import lookids.mono.notification.service.NotificationStreamRegistry;
+import reactor.core.Disposable;
+
+// reactive-sse 연결 여러 개를 열어 두고 구독자 gauge, 기기별 전달, 연결 종료 후 정리를 확인하는 부하 검사
+// (컨트롤러에 바로 붙인 WebTestClient, 서버/Kafka 없이 한 JVM 에서 실행)
+class NotificationReadControllerTest {
+
+	private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_TYPE = new ParameterizedTypeReference<>() {
+	};
+	private static final int USERS = 50;
+	private static final int DEVICES_PER_USER = 4;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final List<Disposable> connectionList = new ArrayList<>();
+	private NotificationSseServiceImpl notificationSseService;
+	private WebTestClient webTestClient;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		NotificationStreamRegistry notificationStreamRegistry = new NotificationStreamRegistry(meterRegistry);
+		ReflectionTestUtils.setField(notificationStreamRegistry, "replaySize", 20);
+		ReflectionTestUtils.setField(notificationStreamRegistry, "replayTtl", Duration.ofMinutes(10));
+		ReflectionTestUtils.setField(notificationStreamRegistry, "maxUsers", 1_000L);
+		ReflectionTestUtils.setField(notificationStreamRegistry, "subscriberBuffer", 256);
+		// 응답은 첫 이벤트를 쓸 때 시작되므로 heartbeat 를 짧게 두어 연결마다 바로 열리게 함
+		ReflectionTestUtils.setField(notificationStreamRegistry, "heartbeat", Duration.ofMillis(5));
+		ReflectionTestUtils.invokeMethod(notificationStreamRegistry, "init");
+		ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+		notificationSseService = new NotificationSseServiceImpl(objectMapper, mock(KafkaTemplate.class),
+			notificationStreamRegistry, meterRegistry);
+		webTestClient = WebTestClient.bindToController(
+				new NotificationReadController(mock(NotificationService.class), notificationSseService))
+			.configureClient()
+			.responseTimeout(Duration.ofSeconds(10))
+			.build();
+	}
+
+	@AfterEach
+	void tearDown() {
+		connectionList.forEach(Disposable::dispose);
+	}
+
+	@Test
+	void manyReactiveSseConnectionsAreCountedDeliveredAndReleased() {
+		List<String> userList = IntStream.range(0, USERS).mapToObj(i -> "user" + i).toList();
+		Map<String, AtomicInteger> receivedMap = new ConcurrentHashMap<>();
+		for (String user : userList) {
+			for (int device = 0; device < DEVICES_PER_USER; device++) {
+				connectionList.add(webTestClient.get()
+					.uri("/notification-service/read/notification/user/reactive-sse/{userInfo}", user)
+					.accept(MediaType.TEXT_EVENT_STREAM)
+					.exchange()
+					.expectStatus()
+					.isOk()
+					.returnResult(SSE_TYPE)
+					.getResponseBody()
+					.filter(event -> event.data() != null)
+					.subscribe(event -> receivedMap.computeIfAbsent(user, key -> new AtomicInteger()).incrementAndGet()));
+			}
+		}
+		int connections = USERS * DEVICES_PER_USER;
+		await().atMost(Duration.ofSeconds(10)).until(() -> gauge("notification.stream.subscribers") == connections);
+		assertThat(gauge("notification.stream.active-users")).isEqualTo(USERS);
+
+		// 알림 하나를 모든 사용자에게: 한 번 직렬화해 사용자마다 모든 기기로 전달
+		notificationSseService.sendSseNotification(userList,
+			notificationSseService.preparePayload(Notification.builder()
+				.id(new ObjectId())
+				.senderUuid("sender")
+				.receiverUuidList(userList)
+				.title("님이 게시글에 좋아요를 눌렀습니다")
+				.type(NotificationType.FAVORITE)
+				.createdAt(LocalDateTime.now())
+				.build()));
+		await().atMost(Duration.ofSeconds(10))
+			.until(() -> userList.stream()
+				.allMatch(user -> receivedMap.containsKey(user) && receivedMap.get(user).get() == DEVICES_PER_USER));
+
+		connectionList.forEach(Disposable::dispose);
+		await().atMost(Duration.ofSeconds(10)).until(() -> gauge("notification.stream.subscribers") == 0);
+		assertThat(gauge("notification.stream.active-users")).isZero();
+	}
+
+	private double gauge(String name) {
+		return meterRegistry.get(name).gauge().value();
+	}
+}
@@ -0,0 +1,186 @@
+package lookids.mono.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lookids.mono.notification.domain.Notification;
+import lookids.mono.notification.domain.NotificationStatus;
+import lookids.mono.notification.domain.NotificationType;
+import lookids.mono.notification.repository.NotificationRepository;
+import lookids.mono.notification.service.NotificationDeliveryLedger.Outcome;
+
+// 저장 후 전송 전에 실패한 알림을 같은 이벤트 키로 다시 처리(dead-letter 재처리)하면 아직 받지 못한 수신자에게 보냄
+// 알림 저장소와 전송 기록은 상태를 흉내 내는 가짜
+@ExtendWith(MockitoExtension.class)
+class NotificationDispatcherTest {
+
+	private static final String RECEIVER = "receiver";
+	private static final String TOKEN = "token";
+	private static final String EVENT_KEY = "feed-favorite-0-42";
+
+	@Mock
+	private NotificationRepository notificationRepository;
+	@Mock
+	private NotificationInboxProjector inboxProjector;
+	@Mock
+	private NotificationSseService sseService;
+	@Mock
+	private NotificationFanOutService fanOutService;
+	@Mock
+	private NotificationDeliveryLedger deliveryLedger;
+	@Mock
+	private FcmTokenCache fcmTokenCache;
+	@Mock
+	private PushRateLimiter pushRateLimiter;
+	@Mock
+	private MongoTemplate mongoTemplate;
+
+	private NotificationDispatcher notificationDispatcher;
+
+	private final List<Notification> storedList = new ArrayList<>();
+	// notificationId|receiverUuid -> FCM 상태
+	private final Map<String, NotificationStatus> ledger = new HashMap<>();
+
+	@BeforeEach
+	void setUp() {
+		notificationDispatcher = new NotificationDispatcher(notificationRepository, inboxProjector, sseService,
+			fanOutService, deliveryLedger, fcmTokenCache, pushRateLimiter, new SimpleMeterRegistry(), mongoTemplate);
+
+		lenient().when(notificationRepository.findByEventKeyIn(any())).thenAnswer(invocation -> {
+			Collection<String> eventKeyList = invocation.getArgument(0);
+			return storedList.stream().filter(stored -> eventKeyList.contains(stored.getEventKey())).toList();
+		});
+		lenient().when(notificationRepository.insert(anyList())).thenAnswer(invocation -> {
+			List<Notification> notificationList = invocation.getArgument(0);
+			notificationList.forEach(notification -> {
+				ReflectionTestUtils.setField(notification, "id", new ObjectId());
+				storedList.add(notification);
+			});
+			return notificationList;
+		});
+		lenient().when(deliveryLedger.openAll(anyMap())).thenAnswer(invocation -> {
+			Map<ObjectId, List<String>> receiverMap = invocation.getArgument(0);
+			Map<ObjectId, List<String>> pendingMap = new HashMap<>();
+			receiverMap.forEach((notificationId, receiverUuidList) -> receiverUuidList.forEach(receiverUuid -> {
+				String key = notificationId + "|" + receiverUuid;
+				if (ledger.putIfAbsent(key, NotificationStatus.PENDING) == null
+					|| ledger.get(key) == NotificationStatus.PENDING) {
+					pendingMap.computeIfAbsent(notificationId, id -> new ArrayList<>()).add(receiverUuid);
+				}
+			}));
+			return pendingMap;
+		});
+		lenient().doAnswer(invocation -> {
+			List<Outcome> outcomeList = invocation.getArgument(0);
+			outcomeList.forEach(outcome -> outcome.receiverUuidList().forEach(receiverUuid -> ledger.put(
+				outcome.notificationId() + "|" + receiverUuid,
+				outcome.fanOutResult().failedTokenMap().containsKey(receiverUuid)
+					|| outcome.deferredMap().containsKey(receiverUuid) ? NotificationStatus.FAILED_TEMPORARY :
+					NotificationStatus.SENT)));
+			return null;
+		}).when(deliveryLedger).recordAll(anyList());
+		lenient().when(fcmTokenCache.getTokenMap(any())).thenReturn(Map.of(RECEIVER, List.of(TOKEN)));
+		lenient().when(pushRateLimiter.acquireAll(anyList())).thenAnswer(
+			invocation -> Collections.nCopies(invocation.<List<String>>getArgument(0).size(), Duration.ZERO));
+		lenient().when(fanOutService.retryPush(any(), anyMap())).thenReturn(Map.of());
+	}
+
+	private static Notification favorite() {
+		return Notification.builder()
+			.senderUuid("sender")
+			.receiverUuidList(List.of(RECEIVER))
+			.feedCode("feed")
+			.title("님이 게시글에 좋아요를 눌렀습니다")
+			.type(NotificationType.FAVORITE)
+			.createdAt(LocalDateTime.now())
+			.eventKey(EVENT_KEY)
+			.build();
+	}
+
+	@Test
+	void replayedFavoriteIsPushedWhenFirstAttemptFailedAfterInsert() {
+		// 첫 처리: 저장 직후 알림함 적재에서 실패 → 리스너 재시도가 끝나 dead-letter 로 감
+		doThrow(new IllegalStateException("mongo down")).doNothing().when(inboxProjector).projectAll(anyList());
+		assertThatThrownBy(() -> notificationDispatcher.dispatchAll(List.of(favorite()), true))
+			.isInstanceOf(IllegalStateException.class);
+		assertThat(storedList).hasSize(1);
+		verify(fanOutService, times(0)).retryPush(any(), anyMap());
+
+		// dead-letter 재처리: 원본 이벤트 키 그대로 다시 들어옴
+		notificationDispatcher.dispatchAll(List.of(favorite()), true);
+
+		assertThat(storedList).hasSize(1);
+		verify(notificationRepository, times(1)).insert(anyList());
+		verify(inboxProjector, times(2)).projectAll(eq(List.copyOf(storedList)));
+		verify(fanOutService).retryPush(eq(storedList.get(0)), eq(Map.of(RECEIVER, List.of(TOKEN))));
+		assertThat(ledger).containsEntry(storedList.get(0).getId() + "|" + RECEIVER, NotificationStatus.SENT);
+	}
+
+	@Test
+	void replayAfterDeliveryDoesNotPushAgain() {
+		doNothing().when(inboxProjector).projectAll(anyList());
+		notificationDispatcher.dispatchAll(List.of(favorite()), true);
+
+		notificationDispatcher.dispatchAll(List.of(favorite()), true);
+
+		verify(notificationRepository, times(1)).insert(anyList());
+		verify(fanOutService, times(1)).retryPush(any(), anyMap());
+	}
+
+	@Test
+	void failedPushIsLeftInLedgerForRetry() {
+		doNothing().when(inboxProjector).projectAll(anyList());
+		when(fanOutService.retryPush(any(), anyMap())).thenThrow(new IllegalStateException("fcm down"));
+
+		notificationDispatcher.dispatchAll(List.of(favorite()), true);
+
+		assertThat(ledger).containsEntry(storedList.get(0).getId() + "|" + RECEIVER,
+			NotificationStatus.FAILED_TEMPORARY);
+	}
+
+	@Test
+	void throttledPushIsDeferredInsteadOfDropped() {
+		doNothing().when(inboxProjector).projectAll(anyList());
+		when(pushRateLimiter.acquireAll(anyList())).thenReturn(List.of(Duration.ofSeconds(6)));
+
+		notificationDispatcher.dispatchAll(List.of(favorite()), true);
+
+		verify(fanOutService).retryPush(any(), eq(Map.of()));
+		verify(deliveryLedger).recordAll(argThat(outcomeList -> outcomeList.get(0)
+			.deferredMap()
+			.equals(Map.of(RECEIVER, Duration.ofSeconds(6)))));
+		assertThat(ledger).containsEntry(storedList.get(0).getId() + "|" + RECEIVER,
+			NotificationStatus.FAILED_TEMPORARY);
+	}
+}
@@ -0,0 +1,96 @@
+package lookids.mono.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+import static org.mockito.Mockito.mock;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sun.management.ThreadMXBean;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lookids.mono.notification.domain.Notification;
+import lookids.mono.notification.domain.NotificationType;
+
+// 알림 하나를 여러 수신자에게 보낼 때 한 번만 직렬화하는지 스레드 할당량으로 확인
+// (수신자마다 직렬화하던 이전 방식과 비교, JMH 대신 같은 JVM 에서 두 방식을 번갈아 재는 JUnit 검사)
+class NotificationSseServiceImplTest {
+
+	private static final int RECEIVERS = 2_000;
+	private static final int ROUNDS = 5;
+
+	private final ThreadMXBean threadMXBean = (ThreadMXBean)ManagementFactory.getThreadMXBean();
+	private final List<String> receiverList = IntStream.range(0, RECEIVERS).mapToObj(i -> "receiver" + i).toList();
+	private NotificationSseServiceImpl notificationSseService;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		NotificationStreamRegistry notificationStreamRegistry = new NotificationStreamRegistry(meterRegistry);
+		ReflectionTestUtils.setField(notificationStreamRegistry, "replaySize", 20);
+		ReflectionTestUtils.setField(notificationStreamRegistry, "replayTtl", Duration.ofMinutes(10));
+		ReflectionTestUtils.setField(notificationStreamRegistry, "maxUsers", 1_000L);
+		notificationStreamRegistry.init();
+		ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+		notificationSseService = new NotificationSseServiceImpl(objectMapper, mock(KafkaTemplate.class),
+			notificationStreamRegistry, meterRegistry);
+	}
+
+	private static Notification favorite() {
+		return Notification.builder()
+			.id(new ObjectId())
+			.senderUuid("sender")
+			.receiverUuidList(List.of("receiver0"))
+			.feedCode("feed")
+			.title("님이 게시글에 좋아요를 눌렀습니다")
+			.content("게시글에 좋아요가 눌렸습니다. 확인해 보세요.")
+			.mediaUrl("https://cdn.example.com/feed/thumbnail.jpg")
+			.type(NotificationType.FAVORITE)
+			.createdAt(LocalDateTime.now())
+			.build();
+	}
+
+	@Test
+	void fanOutSerializesOnceInsteadOfPerReceiver() {
+		assumeThat(threadMXBean.isThreadAllocatedMemorySupported()).isTrue();
+		threadMXBean.setThreadAllocatedMemoryEnabled(true);
+		Notification notification = favorite();
+
+		long shared = Long.MAX_VALUE;
+		long perReceiver = Long.MAX_VALUE;
+		// 처음 몇 번은 클래스 로딩 / JIT 가 섞이므로 여러 번 재서 가장 작은 값끼리 비교
+		for (int round = 0; round < ROUNDS; round++) {
+			shared = Math.min(shared, allocatedBytes(() -> notificationSseService.sendSseNotification(receiverList,
+				notificationSseService.preparePayload(notification))));
+			perReceiver = Math.min(perReceiver, allocatedBytes(() -> receiverList.forEach(
+				receiver -> notificationSseService.sendSseNotification(List.of(receiver),
+					notificationSseService.preparePayload(notification)))));
+		}
+
+		// 수신자마다 남는 할당은 전달 결과 기록 정도라 직렬화 한 번보다 훨씬 작음
+		assertThat(shared).as("shared payload %d bytes vs per-receiver %d bytes", shared, perReceiver)
+			.isLessThan(perReceiver / 4);
+	}
+
+	private long allocatedBytes(Runnable runnable) {
+		long threadId = Thread.currentThread().getId();
+		long before = threadMXBean.getThreadAllocatedBytes(threadId);
+		runnable.run();
+		return threadMXBean.getThreadAllocatedBytes(threadId) - before;
+	}
+}